@@ -238,6 +238,7 @@ public class InstanceBufferObject implements InstanceData {
 				if (location < 0) continue;
 				int unitOffset = +attribute.unit;
 				shader.disableVertexAttribute(location + unitOffset);
+				Gdx.gl30.glVertexAttribDivisor(location + unitOffset, 0);
 			}
 		} else {
 			for (int i = 0; i < numAttributes; i++) {
@@ -245,7 +246,8 @@ public class InstanceBufferObject implements InstanceData {
 				final int location = locations[i];
 				if (location < 0) continue;
 				int unitOffset = +attribute.unit;
-				shader.enableVertexAttribute(location + unitOffset);
+				shader.disableVertexAttribute(location + unitOffset);
+				Gdx.gl30.glVertexAttribDivisor(location + unitOffset, 0);
 			}
 		}
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Null;
+
+/** A {@link VertexData} implementation for vertices that are replaced every time they are drawn, such as those of a sprite
+ * batch.
+ * <p>
+ * The vertex buffer object is a ring of several segments, each large enough for all vertices. Every upload is written to the next
+ * free part of the ring and the vertex attributes are pointed at it, so the driver never has to wait for a draw call that still
+ * reads earlier vertices. When the ring is full, the buffer is orphaned with glBufferData and writing starts over at the
+ * beginning. WebGL has no glMapBufferRange, so the vertices are always written with glBufferSubData. A vertex array object is
+ * used when WebGL 2 is available.
+ * </p>
+ *
+ * <p>
+ * If the OpenGL ES context was lost you can call {@link #invalidate()} to recreate a new OpenGL vertex buffer object.
+ * </p>
+ *
+ * <p>
+ * VertexBufferObjectStreaming objects must be disposed via the {@link #dispose()} method when no longer needed
+ * </p> */
+public class VertexBufferObjectStreaming implements VertexData {
+	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+
+	final VertexAttributes attributes;
+	final FloatBuffer buffer;
+	final int capacity;
+	int bufferHandle;
+	int vaoHandle = -1;
+	int writeOffset, baseOffset;
+	boolean orphan = true;
+	boolean isDirty = false;
+	boolean isBound = false;
+	@Null ShaderProgram boundShader;
+	@Null int[] boundLocations;
+
+	/** Constructs a new interleaved VertexBufferObjectStreaming with 3 segments.
+	 *
+	 * @param numVertices the maximum number of vertices
+	 * @param attributes the {@link VertexAttribute}s. */
+	public VertexBufferObjectStreaming (int numVertices, VertexAttribute... attributes) {
+		this(numVertices, 3, new VertexAttributes(attributes));
+	}
+
+	/** Constructs a new interleaved VertexBufferObjectStreaming.
+	 *
+	 * @param numVertices the maximum number of vertices
+	 * @param segments the number of times the maximum number of vertices fits in the ring before the buffer is orphaned
+	 * @param attributes the {@link VertexAttributes}. */
+	public VertexBufferObjectStreaming (int numVertices, int segments, VertexAttributes attributes) {
+		if (segments < 1) throw new IllegalArgumentException("segments must be > 0: " + segments);
+		this.attributes = attributes;
+
+		buffer = BufferUtils.newFloatBuffer(this.attributes.vertexSize / 4 * numVertices);
+		buffer.flip();
+		capacity = this.attributes.vertexSize * numVertices * segments;
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		if (Gdx.gl30 != null) createVAO();
+	}
+
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	@Override
+	public int getNumMaxVertices () {
+		return buffer.capacity() * 4 / attributes.vertexSize;
+	}
+
+	/** @deprecated use {@link #getBuffer(boolean)} instead */
+	@Override
+	@Deprecated
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	@Override
+	public FloatBuffer getBuffer (boolean forWriting) {
+		isDirty |= forWriting;
+		return buffer;
+	}
+
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		BufferUtils.copy(vertices, buffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+		isDirty = true;
+		if (isBound) upload(Gdx.gl20);
+	}
+
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		final int pos = buffer.position();
+		buffer.position(targetOffset);
+		BufferUtils.copy(vertices, sourceOffset, count, buffer);
+		buffer.position(pos);
+		isDirty = true;
+		if (isBound) upload(Gdx.gl20);
+	}
+
+	/** Writes the vertices to the next free part of the ring, orphaning the buffer first if the ring is full. */
+	private void upload (GL20 gl) {
+		isDirty = false;
+		int size = buffer.limit() * 4;
+		if (size == 0) return;
+
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (orphan || writeOffset + size > capacity) {
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, capacity, null, GL20.GL_STREAM_DRAW);
+			writeOffset = 0;
+			orphan = false;
+		}
+
+		gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, writeOffset, size, buffer);
+
+		baseOffset = writeOffset;
+		writeOffset += size;
+		if (isBound) bindAttributes(boundShader, boundLocations);
+	}
+
+	/** Binds this VertexBufferObjectStreaming for rendering via glDrawArrays or glDrawElements
+	 *
+	 * @param shader the shader */
+	@Override
+	public void bind (ShaderProgram shader) {
+		bind(shader, null);
+	}
+
+	@Override
+	public void bind (ShaderProgram shader, int[] locations) {
+		GL20 gl = Gdx.gl20;
+		if (vaoHandle != -1) Gdx.gl30.glBindVertexArray(vaoHandle);
+		if (isDirty) upload(gl);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		bindAttributes(shader, locations);
+		boundShader = shader;
+		boundLocations = locations;
+		isBound = true;
+	}
+
+	/** Points the vertex attributes at the last written part of the ring. */
+	private void bindAttributes (ShaderProgram shader, @Null int[] locations) {
+		final int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++) {
+			final VertexAttribute attribute = attributes.get(i);
+			final int location = locations == null ? shader.getAttributeLocation(attribute.alias) : locations[i];
+			if (location < 0) continue;
+			shader.enableVertexAttribute(location);
+			shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized,
+				attributes.vertexSize, baseOffset + attribute.offset);
+		}
+	}
+
+	/** Unbinds this VertexBufferObjectStreaming.
+	 *
+	 * @param shader the shader */
+	@Override
+	public void unbind (final ShaderProgram shader) {
+		unbind(shader, null);
+	}
+
+	@Override
+	public void unbind (final ShaderProgram shader, final int[] locations) {
+		GL20 gl = Gdx.gl20;
+		if (vaoHandle != -1)
+			Gdx.gl30.glBindVertexArray(0);
+		else {
+			final int numAttributes = attributes.size();
+			for (int i = 0; i < numAttributes; i++) {
+				final int location = locations == null ? shader.getAttributeLocation(attributes.get(i).alias) : locations[i];
+				if (location >= 0) shader.disableVertexAttribute(location);
+			}
+		}
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		boundShader = null;
+		boundLocations = null;
+		isBound = false;
+	}
+
+	/** Invalidates the VertexBufferObjectStreaming so a new OpenGL buffer handle is created. Use this in case of a context
+	 * loss. */
+	@Override
+	public void invalidate () {
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		if (Gdx.gl30 != null) createVAO();
+		orphan = true;
+		isDirty = true;
+	}
+
+	/** Disposes of all resources this VertexBufferObjectStreaming uses. */
+	@Override
+	public void dispose () {
+		GL20 gl = Gdx.gl20;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+		deleteVAO();
+	}
+
+	private void createVAO () {
+		tmpHandle.clear();
+		Gdx.gl30.glGenVertexArrays(1, tmpHandle);
+		vaoHandle = tmpHandle.get();
+	}
+
+	private void deleteVAO () {
+		if (vaoHandle != -1) {
+			tmpHandle.clear();
+			tmpHandle.put(vaoHandle);
+			tmpHandle.flip();
+			Gdx.gl30.glDeleteVertexArrays(1, tmpHandle);
+			vaoHandle = -1;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** GWT emulation of ConcurrentIntMap, there is only one thread so this wraps a single {@link IntMap}. */
+public class ConcurrentIntMap<V> {
+	private final IntMap<V> map;
+
+	public ConcurrentIntMap () {
+		this(51, 16);
+	}
+
+	public ConcurrentIntMap (int initialCapacity) {
+		this(initialCapacity, 16);
+	}
+
+	public ConcurrentIntMap (int initialCapacity, int concurrencyLevel) {
+		if (concurrencyLevel <= 0) throw new IllegalArgumentException("concurrencyLevel must be > 0: " + concurrencyLevel);
+		map = new IntMap(initialCapacity);
+	}
+
+	public @Null V get (int key) {
+		return map.get(key);
+	}
+
+	public V get (int key, @Null V defaultValue) {
+		return map.get(key, defaultValue);
+	}
+
+	public @Null V put (int key, @Null V value) {
+		return map.put(key, value);
+	}
+
+	public @Null V putIfAbsent (int key, @Null V value) {
+		if (map.containsKey(key)) return map.get(key);
+		map.put(key, value);
+		return null;
+	}
+
+	public V computeIfAbsent (int key, ValueFactory<V> factory) {
+		V value = map.get(key);
+		if (value == null && !map.containsKey(key)) {
+			value = factory.create(key);
+			map.put(key, value);
+		}
+		return value;
+	}
+
+	public @Null V remove (int key) {
+		return map.remove(key);
+	}
+
+	public boolean containsKey (int key) {
+		return map.containsKey(key);
+	}
+
+	public int size () {
+		return map.size;
+	}
+
+	public boolean isEmpty () {
+		return map.size == 0;
+	}
+
+	public boolean notEmpty () {
+		return map.size > 0;
+	}
+
+	public void clear () {
+		map.clear();
+	}
+
+	public IntArray keys (IntArray keys) {
+		if (map.hasZeroValue) keys.add(0);
+		int[] keyTable = map.keyTable;
+		for (int i = 0, n = keyTable.length; i < n; i++)
+			if (keyTable[i] != 0) keys.add(keyTable[i]);
+		return keys;
+	}
+
+	public Array<V> values (Array<V> values) {
+		if (map.hasZeroValue) values.add(map.zeroValue);
+		int[] keyTable = map.keyTable;
+		V[] valueTable = map.valueTable;
+		for (int i = 0, n = keyTable.length; i < n; i++)
+			if (keyTable[i] != 0) values.add(valueTable[i]);
+		return values;
+	}
+
+	public IntMap<V> copyTo (IntMap<V> map) {
+		map.putAll(this.map);
+		return map;
+	}
+
+	public String toString () {
+		return map.toString();
+	}
+
+	static public interface ValueFactory<V> {
+		public V create (int key);
+	}
+}
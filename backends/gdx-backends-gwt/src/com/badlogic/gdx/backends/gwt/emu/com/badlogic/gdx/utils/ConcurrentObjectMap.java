@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** GWT emulation of ConcurrentObjectMap, there is only one thread so this wraps a single {@link ObjectMap}. */
+public class ConcurrentObjectMap<K, V> {
+	private final ObjectMap<K, V> map;
+
+	public ConcurrentObjectMap () {
+		this(51, 16);
+	}
+
+	public ConcurrentObjectMap (int initialCapacity) {
+		this(initialCapacity, 16);
+	}
+
+	public ConcurrentObjectMap (int initialCapacity, int concurrencyLevel) {
+		if (concurrencyLevel <= 0) throw new IllegalArgumentException("concurrencyLevel must be > 0: " + concurrencyLevel);
+		map = new ObjectMap(initialCapacity);
+	}
+
+	public @Null V get (K key) {
+		return map.get(key);
+	}
+
+	public V get (K key, @Null V defaultValue) {
+		return map.get(key, defaultValue);
+	}
+
+	public @Null V put (K key, @Null V value) {
+		return map.put(key, value);
+	}
+
+	public @Null V putIfAbsent (K key, @Null V value) {
+		if (map.containsKey(key)) return map.get(key);
+		map.put(key, value);
+		return null;
+	}
+
+	public V computeIfAbsent (K key, ValueFactory<K, V> factory) {
+		V value = map.get(key);
+		if (value == null && !map.containsKey(key)) {
+			value = factory.create(key);
+			map.put(key, value);
+		}
+		return value;
+	}
+
+	public @Null V remove (K key) {
+		return map.remove(key);
+	}
+
+	public boolean containsKey (K key) {
+		return map.containsKey(key);
+	}
+
+	public int size () {
+		return map.size;
+	}
+
+	public boolean isEmpty () {
+		return map.size == 0;
+	}
+
+	public boolean notEmpty () {
+		return map.size > 0;
+	}
+
+	public void clear () {
+		map.clear();
+	}
+
+	public Array<K> keys (Array<K> keys) {
+		K[] keyTable = map.keyTable;
+		for (int i = 0, n = keyTable.length; i < n; i++)
+			if (keyTable[i] != null) keys.add(keyTable[i]);
+		return keys;
+	}
+
+	public Array<V> values (Array<V> values) {
+		K[] keyTable = map.keyTable;
+		V[] valueTable = map.valueTable;
+		for (int i = 0, n = keyTable.length; i < n; i++)
+			if (keyTable[i] != null) values.add(valueTable[i]);
+		return values;
+	}
+
+	public ObjectMap<K, V> copyTo (ObjectMap<K, V> map) {
+		map.putAll(this.map);
+		return map;
+	}
+
+	public String toString () {
+		return map.toString();
+	}
+
+	static public interface ValueFactory<K, V> {
+		public V create (K key);
+	}
+}
@@ -158,4 +158,68 @@ public final class Field {
 			throw new ReflectionException("Illegal access to field " + getName() + ": " + e.getMessage(), e);
 		}
 	}
+
+	public boolean getBoolean (Object obj) throws ReflectionException {
+		return (Boolean)get(obj);
+	}
+
+	public void setBoolean (Object obj, boolean value) throws ReflectionException {
+		set(obj, value);
+	}
+
+	public byte getByte (Object obj) throws ReflectionException {
+		return (Byte)get(obj);
+	}
+
+	public void setByte (Object obj, byte value) throws ReflectionException {
+		set(obj, value);
+	}
+
+	public char getChar (Object obj) throws ReflectionException {
+		return (Character)get(obj);
+	}
+
+	public void setChar (Object obj, char value) throws ReflectionException {
+		set(obj, value);
+	}
+
+	public short getShort (Object obj) throws ReflectionException {
+		return (Short)get(obj);
+	}
+
+	public void setShort (Object obj, short value) throws ReflectionException {
+		set(obj, value);
+	}
+
+	public int getInt (Object obj) throws ReflectionException {
+		return (Integer)get(obj);
+	}
+
+	public void setInt (Object obj, int value) throws ReflectionException {
+		set(obj, value);
+	}
+
+	public long getLong (Object obj) throws ReflectionException {
+		return (Long)get(obj);
+	}
+
+	public void setLong (Object obj, long value) throws ReflectionException {
+		set(obj, value);
+	}
+
+	public float getFloat (Object obj) throws ReflectionException {
+		return (Float)get(obj);
+	}
+
+	public void setFloat (Object obj, float value) throws ReflectionException {
+		set(obj, value);
+	}
+
+	public double getDouble (Object obj) throws ReflectionException {
+		return (Double)get(obj);
+	}
+
+	public void setDouble (Object obj, double value) throws ReflectionException {
+		set(obj, value);
+	}
 }
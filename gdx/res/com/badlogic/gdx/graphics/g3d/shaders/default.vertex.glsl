@@ -20,7 +20,12 @@ attribute vec4 a_color;
 
 #ifdef normalFlag
 attribute vec3 a_normal;
+#ifdef instancedFlag
+attribute mat3 i_normalMatrix;
+#define u_normalMatrix i_normalMatrix
+#else
 uniform mat3 u_normalMatrix;
+#endif // instancedFlag
 varying vec3 v_normal;
 #endif // normalFlag
 
@@ -103,7 +108,12 @@ attribute vec2 a_boneWeight7;
 #endif
 #endif
 
+#ifdef instancedFlag
+attribute mat4 i_worldTrans;
+#define u_worldTrans i_worldTrans
+#else
 uniform mat4 u_worldTrans;
+#endif // instancedFlag
 
 #if defined(numBones)
 #if numBones > 0
@@ -1,5 +1,11 @@
 attribute vec3 a_position;
+#ifdef instancedFlag
+attribute mat4 i_worldTrans;
+uniform mat4 u_projViewTrans;
+#define u_projViewWorldTrans (u_projViewTrans * i_worldTrans)
+#else
 uniform mat4 u_projViewWorldTrans;
+#endif // instancedFlag
 
 #if defined(diffuseTextureFlag) && defined(blendedFlag)
 #define blendedTextureFlag
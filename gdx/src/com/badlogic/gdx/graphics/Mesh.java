@@ -34,6 +34,7 @@ import com.badlogic.gdx.graphics.glutils.InstanceData;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.VertexArray;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
+import com.badlogic.gdx.graphics.glutils.VertexBufferObjectStreaming;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectSubData;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectWithVAO;
 import com.badlogic.gdx.graphics.glutils.VertexData;
@@ -70,7 +71,7 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @author mzechner, Dave Clayton <contact@redskyforge.com>, Xoppa */
 public class Mesh implements Disposable {
 	public enum VertexDataType {
-		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO
+		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO, VertexBufferObjectStreaming
 	}
 
 	/** list of all meshes **/
@@ -184,6 +185,11 @@ public class Mesh implements Disposable {
 			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
 			isVertexArray = false;
 			break;
+		case VertexBufferObjectStreaming:
+			vertices = new VertexBufferObjectStreaming(maxVertices, 3, attributes);
+			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
+			isVertexArray = false;
+			break;
 		case VertexArray:
 		default:
 			vertices = new VertexArray(maxVertices, attributes);
@@ -332,6 +338,22 @@ public class Mesh implements Disposable {
 		return this;
 	}
 
+	/** Sets the vertices of this Mesh to the floats between the position and limit of the buffer, eg from
+	 * {@link com.badlogic.gdx.utils.DirectFloatArray#getBuffer()}. A direct buffer is copied without going through a Java array.
+	 * The vertices are uploaded the next time the mesh is bound.
+	 *
+	 * @param vertices the vertices, the position of the buffer is not changed.
+	 * @return the mesh for invocation chaining. */
+	public Mesh setVertices (FloatBuffer vertices) {
+		FloatBuffer buffer = this.vertices.getBuffer(true);
+		int pos = vertices.position();
+		((Buffer)buffer).clear();
+		buffer.put(vertices);
+		((Buffer)buffer).flip();
+		((Buffer)vertices).position(pos);
+		return this;
+	}
+
 	/** Update (a portion of) the vertices. Does not resize the backing buffer.
 	 * @param targetOffset the offset in number of floats of the mesh part.
 	 * @param source the vertex data to update the mesh part with */
@@ -419,6 +441,17 @@ public class Mesh implements Disposable {
 		return this;
 	}
 
+	/** Sets the indices of this Mesh to the shorts between the position and limit of the buffer, eg from
+	 * {@link com.badlogic.gdx.utils.DirectShortArray#getBuffer()}.
+	 *
+	 * @param indices the indices, the position of the buffer is not changed.
+	 * @return the mesh for invocation chaining. */
+	public Mesh setIndices (ShortBuffer indices) {
+		this.indices.setIndices(indices);
+
+		return this;
+	}
+
 	/** Copies the indices from the Mesh to the short array. The short array must be large enough to hold all the Mesh's indices.
 	 * @param indices the array to copy the indices to */
 	public void getIndices (short[] indices) {
@@ -532,8 +565,9 @@ public class Mesh implements Disposable {
 	 * @param locations array containing the vertex attribute locations.
 	 * @param instanceLocations array containing the instance attribute locations. */
 	public void unbind (final ShaderProgram shader, final int[] locations, final int[] instanceLocations) {
-		vertices.unbind(shader, locations);
+		// The instances reset their divisors, which are stored in the vertex array object, so they are unbound first.
 		if (instances != null && instances.getNumInstances() > 0) instances.unbind(shader, instanceLocations);
+		vertices.unbind(shader, locations);
 		if (indices.getNumIndices() > 0) indices.unbind();
 	}
 
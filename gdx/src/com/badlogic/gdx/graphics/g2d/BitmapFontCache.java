@@ -25,6 +25,7 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.NumberUtils;
 import com.badlogic.gdx.utils.Pools;
 
@@ -40,6 +41,7 @@ public class BitmapFontCache {
 	private boolean integer;
 	private final Array<GlyphLayout> layouts = new Array();
 	private final Array<GlyphLayout> pooledLayouts = new Array();
+	private @Null GlyphLayoutCache layoutCache;
 	private int glyphCount;
 	private float x, y;
 	private final Color color = new Color(1, 1, 1, 1);
@@ -520,7 +522,10 @@ public class BitmapFontCache {
 		boolean wrap, String truncate) {
 		GlyphLayout layout = Pools.obtain(GlyphLayout.class);
 		pooledLayouts.add(layout);
-		layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		if (layoutCache != null)
+			layoutCache.setText(layout, font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		else
+			layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
 		addText(layout, x, y);
 		return layout;
 	}
@@ -545,6 +550,17 @@ public class BitmapFontCache {
 		return font;
 	}
 
+	/** Sets the cache used to compute the layouts of text added with
+	 * {@link #addText(CharSequence, float, float, int, int, float, int, boolean, String)}. The cache may be shared by many
+	 * BitmapFontCaches. Default is null. */
+	public void setLayoutCache (@Null GlyphLayoutCache layoutCache) {
+		this.layoutCache = layoutCache;
+	}
+
+	public @Null GlyphLayoutCache getLayoutCache () {
+		return layoutCache;
+	}
+
 	/** Specifies whether to use integer positions or not. Default is to use them so filtering doesn't kick in as badly.
 	 * @param use */
 	public void setUseIntegerPositions (boolean use) {
@@ -22,6 +22,8 @@ import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 
 /** CpuSpriteBatch behaves like SpriteBatch, except it doesn't flush automatically whenever the transformation matrix changes.
  * Instead, the vertices get adjusted on subsequent draws to match the running batch. This can improve performance through longer
@@ -38,6 +40,7 @@ public class CpuSpriteBatch extends SpriteBatch {
 	private boolean haveIdentityRealMatrix = true;
 
 	private final Affine2 tmpAffine = new Affine2();
+	private final SpriteVertexWriter vertexWriter = new SpriteVertexWriter();
 
 	/** Constructs a CpuSpriteBatch with a size of 1000 and the default shader.
 	 * @see SpriteBatch#SpriteBatch() */
@@ -82,6 +85,41 @@ public class CpuSpriteBatch extends SpriteBatch {
 		}
 	}
 
+	/** Sets the executor used by {@link #drawAll(Sprite[], int, int)} to compute sprite vertices on several threads.
+	 * @param executor May be null to compute all vertices on the calling thread (the default).
+	 * @see SpriteVertexWriter#setExecutor(AsyncExecutor, int) */
+	public void setExecutor (@Null AsyncExecutor executor, int tasks) {
+		vertexWriter.setExecutor(executor, tasks);
+	}
+
+	/** Returns the writer used by {@link #drawAll(Sprite[], int, int)}, eg to change {@link SpriteVertexWriter#minSpritesPerTask}. */
+	public SpriteVertexWriter getVertexWriter () {
+		return vertexWriter;
+	}
+
+	/** Draws the sprites the same as calling {@link Sprite#draw(Batch)} for each of them. Consecutive sprites that share a texture
+	 * are written to the vertex array in one step, which is split across the threads of the {@link #setExecutor(AsyncExecutor,
+	 * int) executor} when it is large enough. A sprite must not appear more than once in the specified range. */
+	public void drawAll (Sprite[] sprites, int offset, int count) {
+		if (!drawing) throw new IllegalStateException("CpuSpriteBatch.begin must be called before draw.");
+
+		float[] vertices = this.vertices;
+		Affine2 transform = adjustNeeded ? adjustAffine : null;
+		for (int end = offset + count; offset < end;) {
+			Texture texture = sprites[offset].getTexture();
+			if (texture != lastTexture)
+				switchTexture(texture);
+			else if (idx == vertices.length) super.flush();
+
+			int runEnd = Math.min(end, offset + (vertices.length - idx) / Sprite.SPRITE_SIZE), run = offset + 1;
+			while (run < runEnd && sprites[run].getTexture() == texture)
+				run++;
+			vertexWriter.write(sprites, offset, run - offset, vertices, idx, transform, false);
+			idx += (run - offset) * Sprite.SPRITE_SIZE;
+			offset = run;
+		}
+	}
+
 	@Override
 	public Matrix4 getTransformMatrix () {
 		return (adjustNeeded ? virtualMatrix : super.getTransformMatrix());
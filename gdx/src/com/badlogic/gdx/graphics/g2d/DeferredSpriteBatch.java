@@ -0,0 +1,286 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pool.Poolable;
+import com.badlogic.gdx.utils.Sort;
+
+/** DeferredSpriteBatch behaves like SpriteBatch, except that while {@link #setDeferred(boolean) deferred}, draws are recorded
+ * instead of rendered. Recorded draws are sorted by layer, shader, blending and texture when the batch is flushed, so that draws
+ * sharing the same state are rendered together. This reduces render calls when, for example, sprites from two textures are
+ * drawn alternately.
+ * <p>
+ * Only draws that can be reordered should be made while deferred: draws within the same {@link #setLayer(int) layer} may be
+ * rendered in any order relative to draws with a different texture, shader or blending. Draws with the same state keep their
+ * order, and lower layers are rendered before higher layers.
+ * <p>
+ * Recorded draws are rendered by {@link #flush()}, {@link #end()}, changing the projection or transform matrix, disabling
+ * deferred mode, and when more sprites with the same texture are drawn in a row than fit in the batch. Changing the texture,
+ * shader, blending or layer does not render.
+ * @see SpriteBatch#renderCalls */
+public class DeferredSpriteBatch extends SpriteBatch {
+	private boolean deferred, deferring, replaying;
+	private int layer;
+
+	private final FloatArray recorded = new FloatArray(false, 1024);
+	private final Array<Command> commands = new Array(false, 64);
+	private final Pool<Command> commandPool = new Pool<Command>() {
+		protected Command newObject () {
+			return new Command();
+		}
+	};
+
+	/** Number of texture, shader or blending changes between recorded draws in the order they were drawn, since the last
+	 * {@link #begin()}. Each change requires a render call. **/
+	public int unsortedStateChanges;
+
+	/** Number of texture, shader or blending changes between recorded draws after sorting, since the last {@link #begin()}. **/
+	public int sortedStateChanges;
+
+	/** Constructs a DeferredSpriteBatch with a size of 1000 and the default shader.
+	 * @see SpriteBatch#SpriteBatch() */
+	public DeferredSpriteBatch () {
+		this(1000);
+	}
+
+	/** Constructs a DeferredSpriteBatch with the default shader.
+	 * @see SpriteBatch#SpriteBatch(int) */
+	public DeferredSpriteBatch (int size) {
+		this(size, null);
+	}
+
+	/** Constructs a DeferredSpriteBatch with a custom shader.
+	 * @see SpriteBatch#SpriteBatch(int, ShaderProgram) */
+	public DeferredSpriteBatch (int size, @Null ShaderProgram defaultShader) {
+		super(size, defaultShader);
+	}
+
+	/** When true, draws are recorded and sorted when flushed. When set to false, recorded draws are rendered. */
+	public void setDeferred (boolean deferred) {
+		if (this.deferred == deferred) return;
+		if (!deferred && isDrawing()) submit();
+		this.deferred = deferred;
+	}
+
+	public boolean isDeferred () {
+		return deferred;
+	}
+
+	/** Sets the layer of subsequent draws while deferred. Lower layers are rendered first. Default is 0. */
+	public void setLayer (int layer) {
+		if (this.layer == layer) return;
+		if (deferred) record();
+		this.layer = layer;
+	}
+
+	public int getLayer () {
+		return layer;
+	}
+
+	@Override
+	public void begin () {
+		super.begin();
+		unsortedStateChanges = 0;
+		sortedStateChanges = 0;
+	}
+
+	@Override
+	public void end () {
+		if (deferred) submit();
+		super.end();
+	}
+
+	@Override
+	public void flush () {
+		if (!deferred || replaying)
+			super.flush();
+		else if (deferring)
+			record();
+		else
+			submit();
+	}
+
+	@Override
+	protected void switchTexture (Texture texture) {
+		deferring = true;
+		super.switchTexture(texture);
+		deferring = false;
+	}
+
+	@Override
+	public void setShader (@Null ShaderProgram shader) {
+		deferring = true;
+		super.setShader(shader);
+		deferring = false;
+	}
+
+	@Override
+	public void disableBlending () {
+		deferring = true;
+		super.disableBlending();
+		deferring = false;
+	}
+
+	@Override
+	public void enableBlending () {
+		deferring = true;
+		super.enableBlending();
+		deferring = false;
+	}
+
+	@Override
+	public void setBlendFunctionSeparate (int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		deferring = true;
+		super.setBlendFunctionSeparate(srcFuncColor, dstFuncColor, srcFuncAlpha, dstFuncAlpha);
+		deferring = false;
+	}
+
+	/** Moves the pending vertices to a new command with the current state. */
+	private void record () {
+		if (idx == 0) return;
+		Command command = commandPool.obtain();
+		command.layer = layer;
+		command.shader = customShader;
+		command.blending = isBlendingEnabled();
+		command.blendSrcFunc = getBlendSrcFunc();
+		command.blendDstFunc = getBlendDstFunc();
+		command.blendSrcFuncAlpha = getBlendSrcFuncAlpha();
+		command.blendDstFuncAlpha = getBlendDstFuncAlpha();
+		command.texture = lastTexture;
+		command.start = recorded.size;
+		command.count = idx;
+		command.order = commands.size;
+		recorded.addAll(vertices, 0, idx);
+		commands.add(command);
+		idx = 0;
+	}
+
+	/** Sorts and renders the recorded commands, then restores the current state. */
+	private void submit () {
+		record();
+		Array<Command> commands = this.commands;
+		if (commands.size == 0) return;
+
+		unsortedStateChanges += stateChanges(commands);
+		Sort.instance().sort(commands, comparator);
+		sortedStateChanges += stateChanges(commands);
+
+		Texture texture = lastTexture;
+		ShaderProgram shader = customShader;
+		boolean blending = isBlendingEnabled();
+		int blendSrcFunc = getBlendSrcFunc(), blendDstFunc = getBlendDstFunc();
+		int blendSrcFuncAlpha = getBlendSrcFuncAlpha(), blendDstFuncAlpha = getBlendDstFuncAlpha();
+
+		replaying = true;
+		float[] vertices = this.vertices, items = recorded.items;
+		for (int i = 0, n = commands.size; i < n; i++) {
+			Command command = commands.get(i);
+			apply(command.shader, command.blending, command.blendSrcFunc, command.blendDstFunc, command.blendSrcFuncAlpha,
+				command.blendDstFuncAlpha);
+			if (command.texture != lastTexture) {
+				super.flush();
+				lastTexture = command.texture;
+			}
+			for (int start = command.start, remaining = command.count; remaining > 0;) {
+				if (idx == vertices.length) super.flush();
+				int count = Math.min(vertices.length - idx, remaining);
+				System.arraycopy(items, start, vertices, idx, count);
+				idx += count;
+				start += count;
+				remaining -= count;
+			}
+		}
+		super.flush();
+		apply(shader, blending, blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha);
+		lastTexture = texture;
+		replaying = false;
+
+		commandPool.freeAll(commands);
+		commands.clear();
+		recorded.clear();
+	}
+
+	private void apply (@Null ShaderProgram shader, boolean blending, int blendSrcFunc, int blendDstFunc, int blendSrcFuncAlpha,
+		int blendDstFuncAlpha) {
+		super.setShader(shader);
+		if (blending)
+			super.enableBlending();
+		else
+			super.disableBlending();
+		super.setBlendFunctionSeparate(blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha);
+	}
+
+	static private int stateChanges (Array<Command> commands) {
+		int changes = 0;
+		for (int i = 1, n = commands.size; i < n; i++)
+			if (!commands.get(i - 1).sameState(commands.get(i))) changes++;
+		return changes;
+	}
+
+	static private final Comparator<Command> comparator = new Comparator<Command>() {
+		public int compare (Command a, Command b) {
+			if (a.layer != b.layer) return a.layer < b.layer ? -1 : 1;
+			int result = compare(a.shader == null ? 0 : a.shader.getHandle(), b.shader == null ? 0 : b.shader.getHandle());
+			if (result != 0) return result;
+			if (a.blending != b.blending) return a.blending ? 1 : -1;
+			result = compare(a.blendSrcFunc, b.blendSrcFunc);
+			if (result != 0) return result;
+			result = compare(a.blendDstFunc, b.blendDstFunc);
+			if (result != 0) return result;
+			result = compare(a.blendSrcFuncAlpha, b.blendSrcFuncAlpha);
+			if (result != 0) return result;
+			result = compare(a.blendDstFuncAlpha, b.blendDstFuncAlpha);
+			if (result != 0) return result;
+			result = compare(a.texture.getTextureObjectHandle(), b.texture.getTextureObjectHandle());
+			if (result != 0) return result;
+			return compare(a.order, b.order);
+		}
+
+		private int compare (int a, int b) {
+			return a < b ? -1 : (a == b ? 0 : 1);
+		}
+	};
+
+	/** A run of recorded vertices that share the same state. */
+	static private class Command implements Poolable {
+		int layer;
+		@Null ShaderProgram shader;
+		boolean blending;
+		int blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha;
+		Texture texture;
+		int start, count, order;
+
+		boolean sameState (Command other) {
+			return texture == other.texture && shader == other.shader && blending == other.blending
+				&& blendSrcFunc == other.blendSrcFunc && blendDstFunc == other.blendDstFunc
+				&& blendSrcFuncAlpha == other.blendSrcFuncAlpha && blendDstFuncAlpha == other.blendDstFuncAlpha;
+		}
+
+		public void reset () {
+			shader = null;
+			texture = null;
+		}
+	}
+}
@@ -0,0 +1,326 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.nio.Buffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.Null;
+
+/** A {@link SpriteBatch} that draws distance field text, bitmap text and regular sprites in the same render call. The distance
+ * field smoothing and the outline, glow and shadow effects are stored in each vertex instead of in shader uniforms, so changing
+ * them between glyph runs does not flush the batch.
+ * <p>
+ * The smoothing and effects apply to everything drawn after they are set. A smoothing of 0 draws textures like
+ * {@link SpriteBatch}, a smoothing above 0 samples the texture's alpha as a distance field, see
+ * {@link DistanceFieldFont#setDistanceFieldSmoothing(float)}. Outlines and glows are only drawn for distance fields. Shadows are
+ * drawn behind everything drawn by a single draw call, such as a whole {@link BitmapFontCache}.
+ * <p>
+ * Each vertex has a {@link #PARAMS_ATTRIBUTE}, {@link #OUTLINE_COLOR_ATTRIBUTE} and {@link #GLOW_COLOR_ATTRIBUTE} after the
+ * {@link SpriteBatch} attributes. A shader set with {@link #setShader(ShaderProgram)} must declare them, see
+ * {@link #createDefaultShader()}. */
+public class DistanceFieldBatch extends SpriteBatch {
+	/** The name of the vec3 vertex attribute holding the smoothing, outline width and glow width. */
+	static public final String PARAMS_ATTRIBUTE = "a_params";
+	/** The name of the packed color vertex attribute holding the outline color. */
+	static public final String OUTLINE_COLOR_ATTRIBUTE = "a_outlineColor";
+	/** The name of the packed color vertex attribute holding the glow color. */
+	static public final String GLOW_COLOR_ATTRIBUTE = "a_glowColor";
+
+	static private final int VERTEX_SIZE = 10, SPRITE_SIZE = 40, RUN_SIZE = 9;
+
+	private final float[] batchVertices;
+	private final ShaderProgram defaultShader;
+
+	/** The vertex index in {@link #vertices} where each run of sprites with the same effects starts. */
+	private final IntArray runStarts = new IntArray();
+	/** The effects of each run, {@link #RUN_SIZE} values each. */
+	private final FloatArray runEffects = new FloatArray();
+
+	private float smoothing, outlineWidth, outlineColor, glowWidth, glowColor;
+	private float shadowX, shadowY, shadowSoftness = 1, shadowColor;
+
+	/** Constructs a DistanceFieldBatch with a size of 1000 and the default shader.
+	 * @see #DistanceFieldBatch(int, ShaderProgram, VertexDataType) */
+	public DistanceFieldBatch () {
+		this(1000, null, null);
+	}
+
+	/** Constructs a DistanceFieldBatch with the default shader.
+	 * @see #DistanceFieldBatch(int, ShaderProgram, VertexDataType) */
+	public DistanceFieldBatch (int size) {
+		this(size, null, null);
+	}
+
+	/** @param size The max number of sprites in a single batch. Max of 8191.
+	 * @param defaultShader The default shader to use. This is not owned by the DistanceFieldBatch and must be disposed
+	 *           separately. May be null to use {@link #createDefaultShader()}.
+	 * @see SpriteBatch#SpriteBatch(int, ShaderProgram, VertexDataType) */
+	public DistanceFieldBatch (int size, @Null ShaderProgram defaultShader, @Null VertexDataType vertexDataType) {
+		this(size, defaultShader == null ? createDefaultShader() : defaultShader, defaultShader == null, vertexDataType);
+	}
+
+	private DistanceFieldBatch (int size, ShaderProgram shader, boolean ownsShader, @Null VertexDataType vertexDataType) {
+		super(size, shader, vertexDataType, new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"),
+			new VertexAttribute(Usage.Generic, 3, PARAMS_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, OUTLINE_COLOR_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, GLOW_COLOR_ATTRIBUTE));
+		batchVertices = new float[size * SPRITE_SIZE];
+		defaultShader = ownsShader ? shader : null;
+		startRun();
+	}
+
+	/** Returns a new instance of the default shader, which draws distance fields with the effects in each vertex, or textures
+	 * like the {@link SpriteBatch} default shader when the smoothing is 0. */
+	static public ShaderProgram createDefaultShader () {
+		String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "attribute vec3 " + PARAMS_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + OUTLINE_COLOR_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + GLOW_COLOR_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "varying vec3 v_params;\n" //
+			+ "varying vec4 v_outlineColor;\n" //
+			+ "varying vec4 v_glowColor;\n" //
+			+ "\n" //
+			+ "void main() {\n" //
+			+ "	v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "	v_color.a = v_color.a * (255.0/254.0);\n" //
+			+ "	v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "	v_params = " + PARAMS_ATTRIBUTE + ";\n" //
+			+ "	v_outlineColor = " + OUTLINE_COLOR_ATTRIBUTE + ";\n" //
+			+ "	v_glowColor = " + GLOW_COLOR_ATTRIBUTE + ";\n" //
+			+ "	gl_Position =  u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "}\n";
+
+		String fragmentShader = "#ifdef GL_ES\n" //
+			+ "#define LOWP lowp\n" //
+			+ "precision mediump float;\n" //
+			+ "#else\n" //
+			+ "#define LOWP \n" //
+			+ "#endif\n" //
+			+ "uniform sampler2D u_texture;\n" //
+			+ "varying LOWP vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "varying vec3 v_params;\n" //
+			+ "varying LOWP vec4 v_outlineColor;\n" //
+			+ "varying LOWP vec4 v_glowColor;\n" //
+			+ "\n" //
+			+ "void main() {\n" //
+			+ "	vec4 texel = texture2D(u_texture, v_texCoords);\n" //
+			+ "	if (v_params.x > 0.0) {\n" //
+			+ "		float smoothing = 0.25 / v_params.x;\n" //
+			+ "		float fill = smoothstep(0.5 - smoothing, 0.5 + smoothing, texel.a);\n" //
+			+ "		vec4 color = vec4(v_color.rgb, v_color.a * fill);\n" //
+			+ "		float edge = 0.5;\n" //
+			+ "		if (v_params.y > 0.0) {\n" //
+			+ "			edge -= v_params.y;\n" //
+			+ "			float outline = smoothstep(edge - smoothing, edge + smoothing, texel.a);\n" //
+			+ "			color = mix(vec4(v_outlineColor.rgb, v_outlineColor.a * outline), vec4(v_color.rgb, v_color.a), fill);\n" //
+			+ "		}\n" //
+			+ "		if (v_params.z > 0.0) {\n" //
+			+ "			float glow = smoothstep(edge - v_params.z, edge, texel.a) * v_glowColor.a;\n" //
+			+ "			color = vec4(mix(v_glowColor.rgb, color.rgb, color.a), max(color.a, glow));\n" //
+			+ "		}\n" //
+			+ "		gl_FragColor = color;\n" //
+			+ "	} else {\n" //
+			+ "		gl_FragColor = v_color * texel;\n" //
+			+ "	}\n" //
+			+ "}\n";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (!shader.isCompiled()) throw new IllegalArgumentException("Error compiling distance field shader: " + shader.getLog());
+		return shader;
+	}
+
+	/** @param smoothing The distance field smoothing factor for subsequent draws, usually
+	 *           {@link DistanceFieldFont#getDistanceFieldSmoothing()} times the font scale. 0 draws textures without distance
+	 *           field sampling. */
+	public void setSmoothing (float smoothing) {
+		if (this.smoothing == smoothing) return;
+		this.smoothing = smoothing;
+		startRun();
+	}
+
+	public float getSmoothing () {
+		return smoothing;
+	}
+
+	/** Draws an outline around distance field glyphs drawn after this call.
+	 * @param width The outline width as a fraction of the distance field spread, from 0 to 0.5. 0 disables the outline. */
+	public void setOutline (float width, Color color) {
+		outlineWidth = width;
+		outlineColor = color.toFloatBits();
+		startRun();
+	}
+
+	/** Draws a glow outside distance field glyphs and their outlines drawn after this call.
+	 * @param width The glow width as a fraction of the distance field spread. 0 disables the glow. */
+	public void setGlow (float width, Color color) {
+		glowWidth = width;
+		glowColor = color.toFloatBits();
+		startRun();
+	}
+
+	/** Draws a shadow behind everything drawn by each subsequent draw call. The shadow color's alpha is multiplied by the alpha of
+	 * each vertex.
+	 * @param softness Multiplies the width of the shadow's edge for distance fields. 1 is as sharp as the glyphs.
+	 * @param color A color with an alpha of 0 disables the shadow. */
+	public void setShadow (float offsetX, float offsetY, float softness, Color color) {
+		shadowX = offsetX;
+		shadowY = offsetY;
+		shadowSoftness = softness;
+		shadowColor = color.a == 0 ? 0 : color.toFloatBits();
+		startRun();
+	}
+
+	/** Disables the outline, glow and shadow. The smoothing is not changed. */
+	public void clearEffects () {
+		if (outlineWidth == 0 && glowWidth == 0 && shadowColor == 0) return;
+		outlineWidth = 0;
+		glowWidth = 0;
+		shadowColor = 0;
+		startRun();
+	}
+
+	/** Records the current effects for the sprites drawn from now on. */
+	private void startRun () {
+		int size = runStarts.size;
+		if (size > 0 && runStarts.items[size - 1] == idx) {
+			runStarts.size--;
+			runEffects.size -= RUN_SIZE;
+		}
+		runStarts.add(idx);
+		runEffects.add(smoothing, outlineWidth, outlineColor, glowWidth);
+		runEffects.add(glowColor, shadowX, shadowY, shadowSoftness);
+		runEffects.add(shadowColor);
+	}
+
+	@Override
+	public void draw (Texture texture, float[] spriteVertices, int offset, int count) {
+		// A run boundary makes the shadows of this call be drawn behind all of its sprites.
+		if (shadowColor != 0) startRun();
+		super.draw(texture, spriteVertices, offset, count);
+	}
+
+	@Override
+	public void flush () {
+		if (idx == 0) return;
+
+		int spritesInBatch = idx / 20;
+		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+
+		lastTexture.bind();
+		GL20 gl = Gdx.gl;
+		if (!isBlendingEnabled()) {
+			gl.glDisable(GL20.GL_BLEND);
+		} else {
+			gl.glEnable(GL20.GL_BLEND);
+			int blendSrcFunc = getBlendSrcFunc();
+			if (blendSrcFunc != -1)
+				gl.glBlendFuncSeparate(blendSrcFunc, getBlendDstFunc(), getBlendSrcFuncAlpha(), getBlendDstFuncAlpha());
+		}
+
+		int[] starts = runStarts.items;
+		float[] effects = runEffects.items;
+		int batchIdx = 0;
+		for (int i = 0, p = 0, n = runStarts.size; i < n; i++, p += RUN_SIZE) {
+			int start = starts[i], end = i + 1 < n ? starts[i + 1] : idx;
+			if (start == end) continue;
+			float shadowColor = effects[p + 8];
+			if (shadowColor != 0) {
+				float shadowSmoothing = effects[p] / effects[p + 7];
+				batchIdx = expand(start, end, batchIdx, effects[p + 5], effects[p + 6], shadowColor, shadowSmoothing, 0, 0, 0, 0);
+			}
+			batchIdx = expand(start, end, batchIdx, 0, 0, 0, effects[p], effects[p + 1], effects[p + 2], effects[p + 3],
+				effects[p + 4]);
+		}
+		render(batchIdx);
+
+		idx = 0;
+		runStarts.clear();
+		runEffects.clear();
+		startRun();
+	}
+
+	/** Copies the sprite vertices from start to end into {@link #batchVertices} with the effects, rendering when it is full.
+	 * @param shadowColor If not 0, the vertices are offset and use this color.
+	 * @return The new index in {@link #batchVertices}. */
+	private int expand (int start, int end, int batchIdx, float offsetX, float offsetY, float shadowColor, float smoothing,
+		float outlineWidth, float outlineColor, float glowWidth, float glowColor) {
+		float[] vertices = this.vertices, batchVertices = this.batchVertices;
+		int shadowBits = NumberUtils.floatToIntColor(shadowColor), shadowAlpha = shadowBits >>> 24;
+		for (int i = start; i < end; i += 5) {
+			if (batchIdx == batchVertices.length) {
+				render(batchIdx);
+				batchIdx = 0;
+			}
+			float color = vertices[i + 2];
+			if (shadowColor != 0) {
+				int alpha = shadowAlpha * (NumberUtils.floatToIntColor(color) >>> 24) / 255;
+				color = NumberUtils.intToFloatColor(shadowBits & 0xffffff | alpha << 24);
+			}
+			batchVertices[batchIdx] = vertices[i] + offsetX;
+			batchVertices[batchIdx + 1] = vertices[i + 1] + offsetY;
+			batchVertices[batchIdx + 2] = color;
+			batchVertices[batchIdx + 3] = vertices[i + 3];
+			batchVertices[batchIdx + 4] = vertices[i + 4];
+			batchVertices[batchIdx + 5] = smoothing;
+			batchVertices[batchIdx + 6] = outlineWidth;
+			batchVertices[batchIdx + 7] = glowWidth;
+			batchVertices[batchIdx + 8] = outlineColor;
+			batchVertices[batchIdx + 9] = glowColor;
+			batchIdx += VERTEX_SIZE;
+		}
+		return batchIdx;
+	}
+
+	private void render (int batchIdx) {
+		if (batchIdx == 0) return;
+		renderCalls++;
+		totalRenderCalls++;
+		int count = batchIdx / SPRITE_SIZE * 6;
+		Mesh mesh = this.mesh;
+		mesh.setVertices(batchVertices, 0, batchIdx);
+		Buffer indicesBuffer = (Buffer)mesh.getIndicesBuffer(true);
+		indicesBuffer.position(0);
+		indicesBuffer.limit(count);
+		mesh.render(getShader(), GL20.GL_TRIANGLES, 0, count);
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		if (defaultShader != null) defaultShader.dispose();
+	}
+}
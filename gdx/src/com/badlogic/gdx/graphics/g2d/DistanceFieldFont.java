@@ -29,9 +29,9 @@ import com.badlogic.gdx.utils.Array;
 
 /** Renders bitmap fonts using distance field textures, see the
  * <a href="https://libgdx.com/wiki/graphics/2d/fonts/distance-field-fonts">Distance Field Fonts wiki article</a> for usage.
- * Initialize the SpriteBatch with the {@link #createDistanceFieldShader()} shader.
+ * Initialize the SpriteBatch with the {@link #createDistanceFieldShader()} shader, or draw with a {@link DistanceFieldBatch}.
  * <p>
- * Attention: The batch is flushed before and after each string is rendered.
+ * Attention: Unless a DistanceFieldBatch is used, the batch is flushed before and after each string is rendered.
  * @author Florian Falkner */
 public class DistanceFieldFont extends BitmapFont {
 	private float distanceFieldSmoothing;
@@ -137,7 +137,8 @@ public class DistanceFieldFont extends BitmapFont {
 	}
 
 	/** Provides a font cache that uses distance field shader for rendering fonts. Attention: breaks batching because uniform is
-	 * needed for smoothing factor, so a flush is performed before and after every font rendering.
+	 * needed for smoothing factor, so a flush is performed before and after every font rendering, unless the batch is a
+	 * {@link DistanceFieldBatch}.
 	 * @author Florian Falkner */
 	static private class DistanceFieldFontCache extends BitmapFontCache {
 		public DistanceFieldFontCache (DistanceFieldFont font) {
@@ -160,6 +161,14 @@ public class DistanceFieldFont extends BitmapFont {
 
 		@Override
 		public void draw (Batch spriteBatch) {
+			if (spriteBatch instanceof DistanceFieldBatch) {
+				DistanceFieldBatch batch = (DistanceFieldBatch)spriteBatch;
+				float smoothing = batch.getSmoothing();
+				batch.setSmoothing(getSmoothingFactor());
+				super.draw(batch);
+				batch.setSmoothing(smoothing);
+				return;
+			}
 			setSmoothingUniform(spriteBatch, getSmoothingFactor());
 			super.draw(spriteBatch);
 			setSmoothingUniform(spriteBatch, 0);
@@ -167,6 +176,14 @@ public class DistanceFieldFont extends BitmapFont {
 
 		@Override
 		public void draw (Batch spriteBatch, int start, int end) {
+			if (spriteBatch instanceof DistanceFieldBatch) {
+				DistanceFieldBatch batch = (DistanceFieldBatch)spriteBatch;
+				float smoothing = batch.getSmoothing();
+				batch.setSmoothing(getSmoothingFactor());
+				super.draw(batch, start, end);
+				batch.setSmoothing(smoothing);
+				return;
+			}
 			setSmoothingUniform(spriteBatch, getSmoothingFactor());
 			super.draw(spriteBatch, start, end);
 			setSmoothingUniform(spriteBatch, 0);
@@ -498,6 +498,29 @@ public class GlyphLayout implements Poolable {
 		return -1; // Unclosed color tag.
 	}
 
+	/** Sets this layout to a copy of the specified layout. The glyph runs are obtained from a pool, so this is much cheaper than
+	 * computing the layout again.
+	 * @see GlyphLayoutCache */
+	public void set (GlyphLayout layout) {
+		if (layout == this) return;
+		reset();
+		Array<GlyphRun> runs = layout.runs;
+		this.runs.ensureCapacity(runs.size);
+		for (int i = 0, n = runs.size; i < n; i++) {
+			GlyphRun run = runs.get(i), copy = glyphRunPool.obtain();
+			copy.glyphs.addAll(run.glyphs);
+			copy.xAdvances.addAll(run.xAdvances);
+			copy.x = run.x;
+			copy.y = run.y;
+			copy.width = run.width;
+			this.runs.add(copy);
+		}
+		colors.addAll(layout.colors);
+		glyphCount = layout.glyphCount;
+		width = layout.width;
+		height = layout.height;
+	}
+
 	public void reset () {
 		glyphRunPool.freeAll(runs);
 		runs.clear();
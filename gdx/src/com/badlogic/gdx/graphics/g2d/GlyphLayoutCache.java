@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** A least recently used cache of {@link GlyphLayout} results. Layouts are keyed by the font, the font's scale and markup
+ * setting, the text, color, target width, alignment, wrapping and truncation. On a hit the cached layout is copied with
+ * {@link GlyphLayout#set(GlyphLayout)}, which avoids glyph lookup, kerning, wrapping and truncation. On a miss the layout is
+ * computed and a copy is stored, replacing the least recently used entry when the cache is full.
+ * <p>
+ * Other changes to a font's {@link BitmapFontData} are not detected, {@link #clear()} should be called after modifying it.
+ * <p>
+ * This class is not thread safe and must only be used from the game thread, like {@link GlyphLayout}.
+ * @see BitmapFontCache#setLayoutCache(GlyphLayoutCache)
+ * @see com.badlogic.gdx.scenes.scene2d.ui.Label#setLayoutCache(GlyphLayoutCache) */
+public class GlyphLayoutCache {
+	private final ObjectMap<Entry, Entry> entries;
+	private final Entry lookup = new Entry();
+	private @Null Entry head, tail;
+	private final int maxSize;
+
+	/** The number of {@link #setText(GlyphLayout, BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)
+	 * setText} calls that found or did not find a cached layout, and the number of cached layouts that were removed to make room
+	 * for new ones, since the last {@link #resetStats()}. */
+	public int hits, misses, evictions;
+
+	/** @param maxSize The maximum number of layouts to cache. */
+	public GlyphLayoutCache (int maxSize) {
+		if (maxSize < 1) throw new IllegalArgumentException("maxSize must be > 0: " + maxSize);
+		this.maxSize = maxSize;
+		entries = new ObjectMap(Math.min(maxSize, 64));
+	}
+
+	/** @see #setText(GlyphLayout, BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) */
+	public void setText (GlyphLayout layout, BitmapFont font, CharSequence str) {
+		setText(layout, font, str, 0, str.length(), font.getColor(), 0, Align.left, false, null);
+	}
+
+	/** @see #setText(GlyphLayout, BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) */
+	public void setText (GlyphLayout layout, BitmapFont font, CharSequence str, Color color, float targetWidth, int halign,
+		boolean wrap) {
+		setText(layout, font, str, 0, str.length(), color, targetWidth, halign, wrap, null);
+	}
+
+	/** Sets the layout the same as
+	 * {@link GlyphLayout#setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String)}, using a cached result
+	 * when the same text was laid out with the same font and parameters before. */
+	public void setText (GlyphLayout layout, BitmapFont font, CharSequence str, int start, int end, Color color,
+		float targetWidth, int halign, boolean wrap, @Null String truncate) {
+		Entry lookup = this.lookup;
+		lookup.set(font, str, start, end, color.toIntBits(), targetWidth, halign, wrap, truncate);
+		Entry entry = entries.get(lookup);
+		lookup.text = null;
+		if (entry != null) {
+			hits++;
+			moveToHead(entry);
+			layout.set(entry.layout);
+			return;
+		}
+
+		misses++;
+		layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+
+		if (entries.size == maxSize) {
+			entry = tail;
+			unlink(entry);
+			entries.remove(entry);
+			evictions++;
+		} else
+			entry = new Entry();
+		entry.set(font, str.subSequence(start, end).toString(), 0, end - start, color.toIntBits(), targetWidth, halign, wrap,
+			truncate);
+		entry.layout.set(layout);
+		entries.put(entry, entry);
+		moveToHead(entry);
+	}
+
+	private void moveToHead (Entry entry) {
+		if (entry == head) return;
+		unlink(entry);
+		entry.next = head;
+		if (head != null) head.prev = entry;
+		head = entry;
+		if (tail == null) tail = entry;
+	}
+
+	private void unlink (Entry entry) {
+		if (entry.prev != null) entry.prev.next = entry.next;
+		if (entry.next != null) entry.next.prev = entry.prev;
+		if (entry == head) head = entry.next;
+		if (entry == tail) tail = entry.prev;
+		entry.prev = null;
+		entry.next = null;
+	}
+
+	/** Removes all cached layouts. The statistics are not reset. */
+	public void clear () {
+		for (Entry entry = head; entry != null; entry = entry.next)
+			entry.layout.reset();
+		entries.clear();
+		head = null;
+		tail = null;
+	}
+
+	/** Returns the number of cached layouts. */
+	public int size () {
+		return entries.size;
+	}
+
+	public int getMaxSize () {
+		return maxSize;
+	}
+
+	/** Returns the fraction of setText calls that found a cached layout since the last {@link #resetStats()}, or 0 if there were
+	 * none. */
+	public float getHitRate () {
+		int total = hits + misses;
+		return total == 0 ? 0 : hits / (float)total;
+	}
+
+	public void resetStats () {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	static private class Entry {
+		BitmapFont font;
+		@Null CharSequence text;
+		int start, length, color, halign, hash;
+		float targetWidth, scaleX, scaleY;
+		boolean wrap, markupEnabled;
+		@Null String truncate;
+
+		final GlyphLayout layout = new GlyphLayout();
+		@Null Entry prev, next;
+
+		void set (BitmapFont font, CharSequence text, int start, int end, int color, float targetWidth, int halign, boolean wrap,
+			@Null String truncate) {
+			BitmapFontData data = font.getData();
+			this.font = font;
+			this.text = text;
+			this.start = start;
+			this.length = end - start;
+			this.color = color;
+			this.targetWidth = targetWidth;
+			this.halign = halign;
+			this.wrap = wrap;
+			this.truncate = truncate;
+			scaleX = data.scaleX;
+			scaleY = data.scaleY;
+			markupEnabled = data.markupEnabled;
+
+			int h = System.identityHashCode(font);
+			for (int i = start; i < end; i++)
+				h = 31 * h + text.charAt(i);
+			h = 31 * h + color;
+			h = 31 * h + Float.floatToIntBits(targetWidth);
+			h = 31 * h + halign;
+			h = 31 * h + (wrap ? 1 : 0);
+			h = 31 * h + (truncate == null ? 0 : truncate.hashCode());
+			h = 31 * h + Float.floatToIntBits(scaleX);
+			h = 31 * h + Float.floatToIntBits(scaleY);
+			hash = 31 * h + (markupEnabled ? 1 : 0);
+		}
+
+		public int hashCode () {
+			return hash;
+		}
+
+		public boolean equals (Object object) {
+			if (object == this) return true;
+			if (!(object instanceof Entry)) return false;
+			Entry other = (Entry)object;
+			if (hash != other.hash || font != other.font || length != other.length || color != other.color
+				|| targetWidth != other.targetWidth || halign != other.halign || wrap != other.wrap || scaleX != other.scaleX
+				|| scaleY != other.scaleY || markupEnabled != other.markupEnabled) return false;
+			if (truncate == null ? other.truncate != null : !truncate.equals(other.truncate)) return false;
+			CharSequence text = this.text, otherText = other.text;
+			for (int i = 0, a = start, b = other.start; i < length; i++, a++, b++)
+				if (text.charAt(a) != otherText.charAt(b)) return false;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,527 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Null;
+
+/** Draws many sprites using instanced rendering. Instead of 4 transformed vertices per sprite like {@link SpriteBatch}, one
+ * record of {@link #INSTANCE_SIZE} floats is stored per sprite: the world origin, the corner offsets from the origin with scale
+ * applied, the rotation, the region UVs and the packed color. The vertex shader expands and rotates the quad, so no
+ * trigonometry is done on the CPU and less data is uploaded.
+ * <p>
+ * Instanced rendering requires GL ES 3.0. When {@link Gdx#gl30} is null, all calls are passed to a {@link SpriteBatch} instead,
+ * see {@link #isInstanced()}.
+ * <p>
+ * This is not a general {@link Batch}: only whole rectangular regions can be drawn. A shader set with
+ * {@link #setShader(ShaderProgram)} must declare the attributes used by {@link #createDefaultShader()}, or the
+ * {@link SpriteBatch} attributes when instancing is not available. */
+public class InstancedSpriteBatch implements Disposable {
+	/** The name of the per vertex attribute holding the quad corner, either 0 or 1 for x and y. */
+	static public final String CORNER_ATTRIBUTE = "a_corner";
+	/** The name of the per instance attribute holding the world origin x and y and the rotation in degrees. */
+	static public final String ORIGIN_ATTRIBUTE = "a_origin";
+	/** The name of the per instance attribute holding the bottom left and top right corner offsets from the origin. */
+	static public final String OFFSET_ATTRIBUTE = "a_offset";
+	/** The name of the per instance attribute holding u, v, u2 and v2. */
+	static public final String REGION_ATTRIBUTE = "a_region";
+	/** The number of floats in one sprite record. */
+	static public final int INSTANCE_SIZE = 12;
+
+	private @Null Mesh mesh;
+	private @Null SpriteBatch fallback;
+
+	final float[] instances;
+	int idx = 0;
+	Texture lastTexture = null;
+
+	boolean drawing = false;
+
+	private final Matrix4 transformMatrix = new Matrix4();
+	private final Matrix4 projectionMatrix = new Matrix4();
+	private final Matrix4 combinedMatrix = new Matrix4();
+
+	private boolean blendingDisabled = false;
+	private int blendSrcFunc = GL20.GL_SRC_ALPHA;
+	private int blendDstFunc = GL20.GL_ONE_MINUS_SRC_ALPHA;
+	private int blendSrcFuncAlpha = GL20.GL_SRC_ALPHA;
+	private int blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	private @Null ShaderProgram shader;
+	private ShaderProgram customShader = null;
+	private boolean ownsShader;
+
+	private final Color color = new Color(1, 1, 1, 1);
+	float colorPacked = Color.WHITE_FLOAT_BITS;
+
+	/** Number of render calls since the last {@link #begin()}. **/
+	public int renderCalls = 0;
+
+	/** Number of rendering calls, ever. Will not be reset unless set manually. **/
+	public int totalRenderCalls = 0;
+
+	/** The maximum number of sprites rendered in one batch so far. **/
+	public int maxSpritesInBatch = 0;
+
+	/** Constructs a new InstancedSpriteBatch with a size of 8191 and the default shader.
+	 * @see #InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch () {
+		this(8191, null);
+	}
+
+	/** Constructs a new InstancedSpriteBatch with the default shader.
+	 * @see #InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch (int size) {
+		this(size, null);
+	}
+
+	/** Constructs a new InstancedSpriteBatch. Sets the projection matrix to an orthographic projection with y-axis point upwards,
+	 * x-axis point to the right and the origin being in the bottom left corner of the screen.
+	 * <p>
+	 * When GL ES 3.0 is not available, a {@link SpriteBatch} with the given size and its own default shader is used instead, and
+	 * the given shader is ignored.
+	 * @param size The max number of sprites in a single batch. When falling back to {@link SpriteBatch}, max of 8191.
+	 * @param defaultShader The default shader to use. This is not owned by the InstancedSpriteBatch and must be disposed
+	 *           separately. May be null to use {@link #createDefaultShader()}. */
+	public InstancedSpriteBatch (int size, @Null ShaderProgram defaultShader) {
+		if (Gdx.gl30 == null) {
+			fallback = new SpriteBatch(size);
+			instances = new float[0];
+			return;
+		}
+
+		mesh = new Mesh(VertexDataType.VertexBufferObject, true, 4, 6,
+			new VertexAttribute(Usage.Generic, 2, CORNER_ATTRIBUTE));
+		mesh.setVertices(new float[] {0, 0, 0, 1, 1, 1, 1, 0});
+		mesh.setIndices(new short[] {0, 1, 2, 2, 3, 0});
+		mesh.enableInstancedRendering(false, size, new VertexAttribute(Usage.Generic, 3, ORIGIN_ATTRIBUTE),
+			new VertexAttribute(Usage.Generic, 4, OFFSET_ATTRIBUTE), new VertexAttribute(Usage.Generic, 4, REGION_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE));
+
+		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+		instances = new float[size * INSTANCE_SIZE];
+
+		if (defaultShader == null) {
+			shader = createDefaultShader();
+			ownsShader = true;
+		} else
+			shader = defaultShader;
+	}
+
+	/** Returns a new instance of the default shader used by InstancedSpriteBatch when no shader is specified. */
+	static public ShaderProgram createDefaultShader () {
+		String vertexShader = "attribute vec2 " + CORNER_ATTRIBUTE + ";\n" //
+			+ "attribute vec3 " + ORIGIN_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + OFFSET_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + REGION_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   vec2 local = mix(" + OFFSET_ATTRIBUTE + ".xy, " + OFFSET_ATTRIBUTE + ".zw, " + CORNER_ATTRIBUTE + ");\n" //
+			+ "   float angle = radians(" + ORIGIN_ATTRIBUTE + ".z);\n" //
+			+ "   float c = cos(angle);\n" //
+			+ "   float s = sin(angle);\n" //
+			+ "   vec2 position = " + ORIGIN_ATTRIBUTE + ".xy + vec2(local.x * c - local.y * s, local.x * s + local.y * c);\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_color.a = v_color.a * (255.0/254.0);\n" //
+			+ "   v_texCoords = vec2(mix(" + REGION_ATTRIBUTE + ".x, " + REGION_ATTRIBUTE + ".z, " + CORNER_ATTRIBUTE + ".x), mix("
+			+ REGION_ATTRIBUTE + ".w, " + REGION_ATTRIBUTE + ".y, " + CORNER_ATTRIBUTE + ".y));\n" //
+			+ "   gl_Position =  u_projTrans * vec4(position, 0.0, 1.0);\n" //
+			+ "}\n";
+		String fragmentShader = "#ifdef GL_ES\n" //
+			+ "#define LOWP lowp\n" //
+			+ "precision mediump float;\n" //
+			+ "#else\n" //
+			+ "#define LOWP \n" //
+			+ "#endif\n" //
+			+ "varying LOWP vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "uniform sampler2D u_texture;\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n" //
+			+ "}";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (!shader.isCompiled()) throw new IllegalArgumentException("Error compiling shader: " + shader.getLog());
+		return shader;
+	}
+
+	/** Returns false if GL ES 3.0 is not available and drawing is done by a {@link SpriteBatch}. */
+	public boolean isInstanced () {
+		return fallback == null;
+	}
+
+	public void begin () {
+		if (fallback != null) {
+			fallback.begin();
+			renderCalls = 0;
+			return;
+		}
+		if (drawing) throw new IllegalStateException("InstancedSpriteBatch.end must be called before begin.");
+		renderCalls = 0;
+
+		Gdx.gl.glDepthMask(false);
+		if (customShader != null)
+			customShader.bind();
+		else
+			shader.bind();
+		setupMatrices();
+
+		drawing = true;
+	}
+
+	public void end () {
+		if (fallback != null) {
+			fallback.end();
+			syncStats();
+			return;
+		}
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before end.");
+		if (idx > 0) flush();
+		lastTexture = null;
+		drawing = false;
+
+		GL20 gl = Gdx.gl;
+		gl.glDepthMask(true);
+		if (isBlendingEnabled()) gl.glDisable(GL20.GL_BLEND);
+	}
+
+	public void setColor (Color tint) {
+		color.set(tint);
+		colorPacked = tint.toFloatBits();
+		if (fallback != null) fallback.setPackedColor(colorPacked);
+	}
+
+	public void setColor (float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+		colorPacked = color.toFloatBits();
+		if (fallback != null) fallback.setPackedColor(colorPacked);
+	}
+
+	public Color getColor () {
+		return color;
+	}
+
+	public void setPackedColor (float packedColor) {
+		Color.abgr8888ToColor(color, packedColor);
+		this.colorPacked = packedColor;
+		if (fallback != null) fallback.setPackedColor(packedColor);
+	}
+
+	public float getPackedColor () {
+		return colorPacked;
+	}
+
+	public void draw (Texture texture, float x, float y) {
+		draw(texture, x, y, texture.getWidth(), texture.getHeight());
+	}
+
+	public void draw (Texture texture, float x, float y, float width, float height) {
+		if (fallback != null) {
+			fallback.draw(texture, x, y, width, height);
+			return;
+		}
+		int idx = prepare(texture);
+		write(instances, idx, x, y, 0, 0, width, height, 1, 1, 0, 0, 0, 1, 1, colorPacked);
+		this.idx = idx + INSTANCE_SIZE;
+	}
+
+	public void draw (TextureRegion region, float x, float y) {
+		draw(region, x, y, region.getRegionWidth(), region.getRegionHeight());
+	}
+
+	public void draw (TextureRegion region, float x, float y, float width, float height) {
+		if (fallback != null) {
+			fallback.draw(region, x, y, width, height);
+			return;
+		}
+		int idx = prepare(region.texture);
+		write(instances, idx, x, y, 0, 0, width, height, 1, 1, 0, region.u, region.v, region.u2, region.v2, colorPacked);
+		this.idx = idx + INSTANCE_SIZE;
+	}
+
+	/** Draws a rectangle with the bottom left corner at x,y having the given width and height in pixels. The rectangle is offset
+	 * by originX, originY relative to the origin. Scale specifies the scaling factor by which the rectangle should be scaled
+	 * around originX, originY. Rotation specifies the angle of counter clockwise rotation of the rectangle around originX,
+	 * originY. */
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		if (fallback != null) {
+			fallback.draw(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation);
+			return;
+		}
+		int idx = prepare(region.texture);
+		write(instances, idx, x, y, originX, originY, width, height, scaleX, scaleY, rotation, region.u, region.v, region.u2,
+			region.v2, colorPacked);
+		this.idx = idx + INSTANCE_SIZE;
+	}
+
+	/** Draws the sprite using its own position, size, origin, scale, rotation, region and color. The batch color is not used,
+	 * like {@link Sprite#draw(Batch)}. The sprite's vertices are not computed. */
+	public void draw (Sprite sprite) {
+		if (fallback != null) {
+			sprite.draw(fallback);
+			return;
+		}
+		int idx = prepare(sprite.texture);
+		write(sprite, instances, idx);
+		this.idx = idx + INSTANCE_SIZE;
+	}
+
+	/** Draws the sprites, see {@link #draw(Sprite)}. All sprites must use the same texture. */
+	public void draw (Sprite[] sprites, int offset, int count) {
+		if (fallback != null) {
+			for (int i = offset, n = offset + count; i < n; i++)
+				sprites[i].draw(fallback);
+			return;
+		}
+		if (count == 0) return;
+		float[] instances = this.instances;
+		int max = instances.length;
+		while (count > 0) {
+			int idx = prepare(sprites[offset].texture);
+			int batchCount = Math.min((max - idx) / INSTANCE_SIZE, count);
+			for (int i = offset, n = offset + batchCount; i < n; i++, idx += INSTANCE_SIZE)
+				write(sprites[i], instances, idx);
+			this.idx = idx;
+			offset += batchCount;
+			count -= batchCount;
+		}
+	}
+
+	/** Flushes if the texture changed or the buffer is full and returns the index to write the next record to. */
+	private int prepare (Texture texture) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture) {
+			flush();
+			lastTexture = texture;
+		} else if (idx == instances.length) //
+			flush();
+		return idx;
+	}
+
+	/** Writes the record for a sprite to the instances array, see {@link #INSTANCE_SIZE}. The sprite's vertices are not
+	 * computed and its texture is not checked. */
+	static public void write (Sprite sprite, float[] instances, int index) {
+		write(instances, index, sprite.getX(), sprite.getY(), sprite.getOriginX(), sprite.getOriginY(), sprite.width,
+			sprite.height, sprite.getScaleX(), sprite.getScaleY(), sprite.getRotation(), sprite.u, sprite.v, sprite.u2, sprite.v2,
+			sprite.vertices[Batch.C1]);
+	}
+
+	/** Writes one record to the instances array, see {@link #INSTANCE_SIZE}. */
+	static public void write (float[] instances, int index, float x, float y, float originX, float originY, float width,
+		float height, float scaleX, float scaleY, float rotation, float u, float v, float u2, float v2, float color) {
+		instances[index] = x + originX;
+		instances[index + 1] = y + originY;
+		instances[index + 2] = rotation;
+		instances[index + 3] = -originX * scaleX;
+		instances[index + 4] = -originY * scaleY;
+		instances[index + 5] = (width - originX) * scaleX;
+		instances[index + 6] = (height - originY) * scaleY;
+		instances[index + 7] = u;
+		instances[index + 8] = v;
+		instances[index + 9] = u2;
+		instances[index + 10] = v2;
+		instances[index + 11] = color;
+	}
+
+	public void flush () {
+		if (fallback != null) {
+			fallback.flush();
+			syncStats();
+			return;
+		}
+		if (idx == 0) return;
+
+		renderCalls++;
+		totalRenderCalls++;
+		int spritesInBatch = idx / INSTANCE_SIZE;
+		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+
+		lastTexture.bind();
+		Mesh mesh = this.mesh;
+		mesh.setInstanceData(instances, 0, idx);
+
+		if (blendingDisabled) {
+			Gdx.gl.glDisable(GL20.GL_BLEND);
+		} else {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			if (blendSrcFunc != -1) Gdx.gl.glBlendFuncSeparate(blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha);
+		}
+
+		mesh.render(customShader != null ? customShader : shader, GL20.GL_TRIANGLES, 0, 6);
+
+		idx = 0;
+	}
+
+	private void syncStats () {
+		renderCalls = fallback.renderCalls;
+		totalRenderCalls = fallback.totalRenderCalls;
+		maxSpritesInBatch = fallback.maxSpritesInBatch;
+	}
+
+	public void disableBlending () {
+		if (fallback != null) fallback.disableBlending();
+		if (blendingDisabled) return;
+		flush();
+		blendingDisabled = true;
+	}
+
+	public void enableBlending () {
+		if (fallback != null) fallback.enableBlending();
+		if (!blendingDisabled) return;
+		flush();
+		blendingDisabled = false;
+	}
+
+	public void setBlendFunction (int srcFunc, int dstFunc) {
+		setBlendFunctionSeparate(srcFunc, dstFunc, srcFunc, dstFunc);
+	}
+
+	public void setBlendFunctionSeparate (int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {
+		if (fallback != null) fallback.setBlendFunctionSeparate(srcFuncColor, dstFuncColor, srcFuncAlpha, dstFuncAlpha);
+		if (blendSrcFunc == srcFuncColor && blendDstFunc == dstFuncColor && blendSrcFuncAlpha == srcFuncAlpha
+			&& blendDstFuncAlpha == dstFuncAlpha) return;
+		flush();
+		blendSrcFunc = srcFuncColor;
+		blendDstFunc = dstFuncColor;
+		blendSrcFuncAlpha = srcFuncAlpha;
+		blendDstFuncAlpha = dstFuncAlpha;
+	}
+
+	public int getBlendSrcFunc () {
+		return blendSrcFunc;
+	}
+
+	public int getBlendDstFunc () {
+		return blendDstFunc;
+	}
+
+	public int getBlendSrcFuncAlpha () {
+		return blendSrcFuncAlpha;
+	}
+
+	public int getBlendDstFuncAlpha () {
+		return blendDstFuncAlpha;
+	}
+
+	public boolean isBlendingEnabled () {
+		return !blendingDisabled;
+	}
+
+	public void dispose () {
+		if (fallback != null) {
+			fallback.dispose();
+			return;
+		}
+		mesh.dispose();
+		if (ownsShader && shader != null) shader.dispose();
+	}
+
+	public Matrix4 getProjectionMatrix () {
+		return fallback != null ? fallback.getProjectionMatrix() : projectionMatrix;
+	}
+
+	public Matrix4 getTransformMatrix () {
+		return fallback != null ? fallback.getTransformMatrix() : transformMatrix;
+	}
+
+	public void setProjectionMatrix (Matrix4 projection) {
+		if (fallback != null) {
+			fallback.setProjectionMatrix(projection);
+			return;
+		}
+		if (drawing) flush();
+		projectionMatrix.set(projection);
+		if (drawing) setupMatrices();
+	}
+
+	public void setTransformMatrix (Matrix4 transform) {
+		if (fallback != null) {
+			fallback.setTransformMatrix(transform);
+			return;
+		}
+		if (drawing) flush();
+		transformMatrix.set(transform);
+		if (drawing) setupMatrices();
+	}
+
+	protected void setupMatrices () {
+		combinedMatrix.set(projectionMatrix).mul(transformMatrix);
+		if (customShader != null) {
+			customShader.setUniformMatrix("u_projTrans", combinedMatrix);
+			customShader.setUniformi("u_texture", 0);
+		} else {
+			shader.setUniformMatrix("u_projTrans", combinedMatrix);
+			shader.setUniformi("u_texture", 0);
+		}
+	}
+
+	/** Sets the shader to be used. When instancing is not available, the shader is passed to the {@link SpriteBatch}. Call with
+	 * null to use the default shader. */
+	public void setShader (@Null ShaderProgram shader) {
+		if (fallback != null) {
+			fallback.setShader(shader);
+			return;
+		}
+		if (shader == customShader) return;
+		if (drawing) {
+			flush();
+		}
+		customShader = shader;
+		if (drawing) {
+			if (customShader != null)
+				customShader.bind();
+			else
+				this.shader.bind();
+			setupMatrices();
+		}
+	}
+
+	public ShaderProgram getShader () {
+		if (fallback != null) return fallback.getShader();
+		if (customShader == null) {
+			return shader;
+		}
+		return customShader;
+	}
+
+	public boolean isDrawing () {
+		return fallback != null ? fallback.isDrawing() : drawing;
+	}
+
+	/** Returns the {@link SpriteBatch} used when GL ES 3.0 is not available, or null. */
+	public @Null SpriteBatch getFallback () {
+		return fallback;
+	}
+}
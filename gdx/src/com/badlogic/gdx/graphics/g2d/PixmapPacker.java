@@ -16,13 +16,17 @@
 
 package com.badlogic.gdx.graphics.g2d;
 
+import java.nio.Buffer;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.badlogic.gdx.Application.ApplicationType;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Pixmap.Blending;
 import com.badlogic.gdx.graphics.Pixmap.Format;
@@ -34,7 +38,11 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.OrderedMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Packs {@link Pixmap pixmaps} into one or more {@link Page pages} to generate an atlas of pixmap instances. Provides means to
  * directly convert the pixmap atlas to a {@link TextureAtlas}. The packer supports padding and border pixel duplication,
@@ -68,8 +76,10 @@ import com.badlogic.gdx.utils.OrderedMap;
  * 
  * // potentially on a separate thread, e.g. downloading thumbnails
  * packer.pack(&quot;thumbnail&quot;, thumbnail);
+ * // or on an executor's thread, the pixmap must not be disposed until the result is done
+ * AsyncResult&lt;Rectangle&gt; result = packer.packAsync(executor, &quot;thumbnail&quot;, thumbnail);
  * 
- * // on the rendering thread, every frame
+ * // on the rendering thread, every frame, uploads only the parts of the pages that changed
  * packer.updateTextureAtlas(atlas, TextureFilter.Linear, TextureFilter.Linear, false);
  * 
  * // once the atlas is no longer needed, make sure you get the final additions. This might
@@ -163,6 +173,25 @@ public class PixmapPacker implements Disposable {
 	 * @throws GdxRuntimeException in case the image did not fit due to the page size being too small or providing a duplicate
 	 *            name. */
 	public synchronized Rectangle pack (String name, Pixmap image) {
+		return pack(name, image, packToTexture);
+	}
+
+	/** Inserts the pixmap on the executor's thread, see {@link #pack(String, Pixmap)}. The texture is never updated by packing,
+	 * even if {@link #setPackToTexture(boolean)} is true. Instead the changed part of the page is uploaded by the next call to
+	 * {@link #updateTextureAtlas(TextureAtlas, TextureFilter, TextureFilter, boolean)},
+	 * {@link #updateTextureRegions(Array, TextureFilter, TextureFilter, boolean)} or
+	 * {@link #updatePageTextures(TextureFilter, TextureFilter, boolean)} on the rendering thread.
+	 * @param image Must not be modified or disposed until the result is done.
+	 * @return The result holding the rectangle, or any exception thrown when packing. */
+	public AsyncResult<Rectangle> packAsync (AsyncExecutor executor, final String name, final Pixmap image) {
+		return executor.submit(new AsyncTask<Rectangle>() {
+			public Rectangle call () {
+				return pack(name, image, false);
+			}
+		});
+	}
+
+	private synchronized Rectangle pack (String name, Pixmap image, boolean packToTexture) {
 		if (disposed) return null;
 		if (name != null && getRect(name) != null)
 			throw new GdxRuntimeException("Pixmap has already been packed with name: " + name);
@@ -255,12 +284,14 @@ public class PixmapPacker implements Disposable {
 
 		int rectX = (int)rect.x, rectY = (int)rect.y, rectWidth = (int)rect.width, rectHeight = (int)rect.height;
 
-		if (packToTexture && !duplicateBorder && page.texture != null && !page.dirty) {
+		if (packToTexture && !duplicateBorder && page.texture != null && !page.dirty && page.dirtyRects.size == 0) {
 			page.texture.bind();
 			Gdx.gl.glTexSubImage2D(page.texture.glTarget, 0, rectX, rectY, rectWidth, rectHeight, image.getGLFormat(),
 				image.getGLType(), image.getPixels());
-		} else
-			page.dirty = true;
+		} else if (duplicateBorder)
+			page.addDirtyRect(rectX - 1, rectY - 1, rectWidth + 2, rectHeight + 2);
+		else
+			page.addDirtyRect(rectX, rectY, rectWidth, rectHeight);
 
 		page.image.drawPixmap(image, rectX, rectY);
 
@@ -455,8 +486,9 @@ public class PixmapPacker implements Disposable {
 	}
 
 	/** If true, when a pixmap is packed to a page that has a texture, the portion of the texture where the pixmap was packed is
-	 * updated using glTexSubImage2D. Note if packing many pixmaps, this may be slower than reuploading the whole texture. This
-	 * setting is ignored if {@link #getDuplicateBorder()} is true. */
+	 * updated using glTexSubImage2D, so {@link #pack(String, Pixmap)} must be called on the rendering thread. If false, the
+	 * portion is uploaded when the page texture is next updated. This setting is ignored if {@link #getDuplicateBorder()} is
+	 * true. */
 	public void setPackToTexture (boolean packToTexture) {
 		this.packToTexture = packToTexture;
 	}
@@ -469,7 +501,10 @@ public class PixmapPacker implements Disposable {
 		Pixmap image;
 		Texture texture;
 		final Array<String> addedRects = new Array();
+		/** True if the whole page must be uploaded. */
 		boolean dirty;
+		/** The x, y, width and height of each part of the page that must be uploaded. */
+		final IntArray dirtyRects = new IntArray();
 
 		/** Creates a new page filled with the color provided by the {@link PixmapPacker#getTransparentColor()} */
 		public Page (PixmapPacker packer) {
@@ -493,13 +528,18 @@ public class PixmapPacker implements Disposable {
 			return texture;
 		}
 
-		/** Creates the texture if it has not been created, else reuploads the entire page pixmap to the texture if the pixmap has
-		 * changed since this method was last called.
-		 * @return true if the texture was created or reuploaded. */
+		/** Creates the texture if it has not been created, else uploads the parts of the page pixmap that have changed since this
+		 * method was last called. The entire page is reuploaded if many parts or most of the page changed, if the texture uses
+		 * mipmaps, or on WebGL where the page pixels can't be uploaded in parts.
+		 * @return true if the texture was created or updated. */
 		public boolean updateTexture (TextureFilter minFilter, TextureFilter magFilter, boolean useMipMaps) {
 			if (texture != null) {
-				if (!dirty) return false;
-				texture.load(texture.getTextureData());
+				if (dirty || (dirtyRects.size > 0 && !canUploadDirtyRects()))
+					texture.load(texture.getTextureData());
+				else if (dirtyRects.size > 0)
+					uploadDirtyRects();
+				else
+					return false;
 			} else {
 				texture = new Texture(new PixmapTextureData(image, image.getFormat(), useMipMaps, false, true)) {
 					@Override
@@ -511,8 +551,73 @@ public class PixmapPacker implements Disposable {
 				texture.setFilter(minFilter, magFilter);
 			}
 			dirty = false;
+			dirtyRects.clear();
 			return true;
 		}
+
+		/** Records a part of the page that must be uploaded to the texture. Overlapping parts are merged. */
+		void addDirtyRect (int x, int y, int width, int height) {
+			if (texture == null || dirty) return;
+			x = Math.max(0, x);
+			y = Math.max(0, y);
+			width = Math.min(image.getWidth(), x + width) - x;
+			height = Math.min(image.getHeight(), y + height) - y;
+			int[] rects = dirtyRects.items;
+			for (int i = 0; i < dirtyRects.size;) {
+				int otherX = rects[i], otherY = rects[i + 1], otherWidth = rects[i + 2], otherHeight = rects[i + 3];
+				if (x <= otherX + otherWidth && otherX <= x + width && y <= otherY + otherHeight && otherY <= y + height) {
+					int right = Math.max(x + width, otherX + otherWidth), top = Math.max(y + height, otherY + otherHeight);
+					x = Math.min(x, otherX);
+					y = Math.min(y, otherY);
+					width = right - x;
+					height = top - y;
+					dirtyRects.removeRange(i, i + 3);
+					i = 0; // The union may overlap a part already checked.
+				} else
+					i += 4;
+			}
+			if (dirtyRects.size >= 64 || width * height * 2 >= image.getWidth() * image.getHeight()) {
+				dirty = true;
+				dirtyRects.clear();
+				return;
+			}
+			dirtyRects.add(x, y, width, height);
+		}
+
+		private boolean canUploadDirtyRects () {
+			return !texture.getTextureData().useMipMaps() && Gdx.app.getType() != ApplicationType.WebGL;
+		}
+
+		private void uploadDirtyRects () {
+			texture.bind();
+			GL20 gl = Gdx.gl;
+			GL30 gl30 = Gdx.gl30;
+			Pixmap image = this.image;
+			Buffer pixels = image.getPixels();
+			int format = image.getGLFormat(), type = image.getGLType(), pageWidth = image.getWidth();
+			gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+			if (gl30 != null) gl.glPixelStorei(GL30.GL_UNPACK_ROW_LENGTH, pageWidth);
+			int[] rects = dirtyRects.items;
+			for (int i = 0, n = dirtyRects.size; i < n; i += 4) {
+				int x = rects[i], y = rects[i + 1], width = rects[i + 2], height = rects[i + 3];
+				if (gl30 != null) {
+					gl.glPixelStorei(GL30.GL_UNPACK_SKIP_PIXELS, x);
+					gl.glPixelStorei(GL30.GL_UNPACK_SKIP_ROWS, y);
+					gl.glTexSubImage2D(texture.glTarget, 0, x, y, width, height, format, type, pixels);
+				} else {
+					// Without GL ES 3.0 the row length can't be set, so whole rows are uploaded.
+					int position = pixels.position();
+					pixels.position(y * (pixels.capacity() / image.getHeight()));
+					gl.glTexSubImage2D(texture.glTarget, 0, 0, y, pageWidth, height, format, type, pixels);
+					pixels.position(position);
+				}
+			}
+			if (gl30 != null) {
+				gl.glPixelStorei(GL30.GL_UNPACK_ROW_LENGTH, 0);
+				gl.glPixelStorei(GL30.GL_UNPACK_SKIP_PIXELS, 0);
+				gl.glPixelStorei(GL30.GL_UNPACK_SKIP_ROWS, 0);
+			}
+		}
 	}
 
 	/** Choose the page and location for each rectangle.
@@ -28,6 +28,7 @@ import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Affine2;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Null;
 
 import java.nio.Buffer;
 
@@ -40,7 +41,7 @@ public class SpriteBatch implements Batch {
 	 *             used when gles 3 is not available, defaults to {@link VertexDataType#VertexArray}. */
 	@Deprecated public static VertexDataType defaultVertexDataType = VertexDataType.VertexArray;
 
-	private Mesh mesh;
+	Mesh mesh;
 
 	final float[] vertices;
 	int idx = 0;
@@ -60,7 +61,7 @@ public class SpriteBatch implements Batch {
 	private int blendDstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
 
 	private final ShaderProgram shader;
-	private ShaderProgram customShader = null;
+	ShaderProgram customShader = null;
 	private boolean ownsShader;
 
 	private final Color color = new Color(1, 1, 1, 1);
@@ -96,15 +97,33 @@ public class SpriteBatch implements Batch {
 	 * @param size The max number of sprites in a single batch. Max of 8191.
 	 * @param defaultShader The default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
 	public SpriteBatch (int size, ShaderProgram defaultShader) {
+		this(size, defaultShader, null);
+	}
+
+	/** Constructs a new SpriteBatch with the specified type of vertex data.
+	 * @param size The max number of sprites in a single batch. Max of 8191.
+	 * @param defaultShader The default shader to use. This is not owned by the SpriteBatch and must be disposed separately. May
+	 *           be null to use the default shader.
+	 * @param vertexDataType May be null to use {@link VertexDataType#VertexBufferObjectWithVAO} when GL ES 3.0 is available and
+	 *           {@link VertexDataType#VertexArray} otherwise. {@link VertexDataType#VertexBufferObjectStreaming} avoids driver
+	 *           stalls when a frame has many flushes.
+	 * @see #SpriteBatch(int, ShaderProgram) */
+	public SpriteBatch (int size, @Null ShaderProgram defaultShader, @Null VertexDataType vertexDataType) {
+		this(size, defaultShader, vertexDataType, new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+	}
+
+	/** @param attributes The attributes of the mesh, which a subclass that overrides {@link #flush()} may choose differently. */
+	SpriteBatch (int size, @Null ShaderProgram defaultShader, @Null VertexDataType vertexDataType,
+		VertexAttribute... attributes) {
 		// 32767 is max vertex index, so 32767 / 4 vertices per sprite = 8191 sprites max.
 		if (size > 8191) throw new IllegalArgumentException("Can't have more than 8191 sprites per batch: " + size);
 
-		VertexDataType vertexDataType = (Gdx.gl30 != null) ? VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType;
+		if (vertexDataType == null)
+			vertexDataType = (Gdx.gl30 != null) ? VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType;
 
-		mesh = new Mesh(vertexDataType, false, size * 4, size * 6,
-			new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
-			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
-			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+		mesh = new Mesh(vertexDataType, false, size * 4, size * 6, attributes);
 
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
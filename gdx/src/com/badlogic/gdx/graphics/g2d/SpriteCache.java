@@ -37,6 +37,8 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 
 /** Draws 2D images, optimized for geometry that does not change. Sprites and/or textures are cached and given an ID, which can
  * later be used for drawing. The size, color, and texture region for each cached image cannot be modified. This information is
@@ -81,6 +83,8 @@ public class SpriteCache implements Disposable {
 	private Cache currentCache;
 	private final Array<Texture> textures = new Array(8);
 	private final IntArray counts = new IntArray(8);
+	private final SpriteVertexWriter vertexWriter = new SpriteVertexWriter();
+	private float[] bulkVertices = new float[0];
 
 	private final Color color = new Color(1, 1, 1, 1);
 	private float colorPacked = Color.WHITE_FLOAT_BITS;
@@ -848,6 +852,37 @@ public class SpriteCache implements Disposable {
 		add(sprite.getTexture(), tempVertices, 0, 30);
 	}
 
+	/** Adds the sprites to the cache the same as calling {@link #add(Sprite)} for each of them. The vertices are computed in one
+	 * step, which is split across the threads of the {@link #setExecutor(AsyncExecutor, int) executor} when it is large enough,
+	 * then copied to the mesh at once. A sprite must not appear more than once in the specified range. */
+	public void add (Sprite[] sprites, int offset, int count) {
+		if (currentCache == null) throw new IllegalStateException("beginCache must be called before add.");
+
+		boolean triangles = mesh.getNumIndices() == 0;
+		int length = count * (triangles ? 6 * VERTEX_SIZE : SPRITE_SIZE);
+		if (bulkVertices.length < length) bulkVertices = new float[length];
+		vertexWriter.write(sprites, offset, count, bulkVertices, 0, null, triangles);
+
+		for (int i = offset, n = offset + count; i < n; i++) {
+			Texture texture = sprites[i].getTexture();
+			int lastIndex = textures.size - 1;
+			if (lastIndex < 0 || textures.get(lastIndex) != texture) {
+				textures.add(texture);
+				counts.add(6);
+			} else
+				counts.incr(lastIndex, 6);
+		}
+
+		mesh.getVerticesBuffer(true).put(bulkVertices, 0, length);
+	}
+
+	/** Sets the executor used by {@link #add(Sprite[], int, int)} to compute sprite vertices on several threads.
+	 * @param executor May be null to compute all vertices on the calling thread (the default).
+	 * @see SpriteVertexWriter#setExecutor(AsyncExecutor, int) */
+	public void setExecutor (@Null AsyncExecutor executor, int tasks) {
+		vertexWriter.setExecutor(executor, tasks);
+	}
+
 	/** Prepares the OpenGL state for SpriteCache rendering. */
 	public void begin () {
 		if (drawing) throw new IllegalStateException("end must be called before begin.");
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ParallelRanges;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Writes the vertices of many sprites into a float array, optionally splitting the sprites into disjoint ranges that are
+ * computed on the threads of an {@link AsyncExecutor}. Each range writes to its own part of the array, so no synchronization is
+ * needed besides waiting for the tasks to finish. A sprite must not appear more than once in the sprites written by a single
+ * call, since {@link Sprite#getVertices()} updates the sprite.
+ * @see CpuSpriteBatch#drawAll(Sprite[], int, int)
+ * @see SpriteCache#add(Sprite[], int, int) */
+public class SpriteVertexWriter {
+	static private final int[] triangleVertices = {0, 1, 2, 2, 3, 0};
+
+	private final WriteRanges ranges = new WriteRanges();
+
+	/** Each task writes at least this many sprites, so small batches are written on the calling thread only. */
+	public int minSpritesPerTask = 256;
+
+	/** Creates a writer that writes all sprites on the calling thread. */
+	public SpriteVertexWriter () {
+	}
+
+	/** @see #setExecutor(AsyncExecutor, int) */
+	public SpriteVertexWriter (@Null AsyncExecutor executor, int tasks) {
+		setExecutor(executor, tasks);
+	}
+
+	/** Sets the executor which writes the sprites, or null to write them on the calling thread.
+	 * @see ParallelRanges#setExecutor(AsyncExecutor, int) */
+	public void setExecutor (@Null AsyncExecutor executor, int tasks) {
+		ranges.setExecutor(executor, tasks);
+	}
+
+	public @Null AsyncExecutor getExecutor () {
+		return ranges.getExecutor();
+	}
+
+	/** Writes the vertices of the sprites to the specified array. Returns when all vertices have been written. If a write on
+	 * another thread throws an exception, it is rethrown after all tasks finish.
+	 * @param vertices Must have room for count sprites starting at the specified index.
+	 * @param transform If not null, the vertex positions are transformed by this matrix.
+	 * @param triangles If true, 6 vertices are written for each sprite to draw the 2 triangles without indices, otherwise the 4
+	 *           vertices of {@link Sprite#getVertices()} are written. */
+	public void write (Sprite[] sprites, int offset, int count, float[] vertices, int index, @Null Affine2 transform,
+		boolean triangles) {
+		WriteRanges ranges = this.ranges;
+		ranges.sprites = sprites;
+		ranges.offset = offset;
+		ranges.vertices = vertices;
+		ranges.index = index;
+		ranges.transform = transform;
+		ranges.triangles = triangles;
+		try {
+			ranges.run(offset, count, minSpritesPerTask);
+		} finally {
+			ranges.sprites = null;
+			ranges.vertices = null;
+			ranges.transform = null;
+		}
+	}
+
+	static void writeRange (Sprite[] sprites, int start, int end, float[] vertices, int index, @Null Affine2 transform,
+		boolean triangles) {
+		for (int i = start; i < end; i++) {
+			float[] spriteVertices = sprites[i].getVertices();
+			if (transform == null && !triangles) {
+				System.arraycopy(spriteVertices, 0, vertices, index, Sprite.SPRITE_SIZE);
+				index += Sprite.SPRITE_SIZE;
+				continue;
+			}
+			for (int v = 0, n = triangles ? 6 : 4; v < n; v++) {
+				int s = (triangles ? triangleVertices[v] : v) * Sprite.VERTEX_SIZE;
+				float x = spriteVertices[s], y = spriteVertices[s + 1];
+				if (transform != null) {
+					vertices[index] = transform.m00 * x + transform.m01 * y + transform.m02;
+					vertices[index + 1] = transform.m10 * x + transform.m11 * y + transform.m12;
+				} else {
+					vertices[index] = x;
+					vertices[index + 1] = y;
+				}
+				vertices[index + 2] = spriteVertices[s + 2];
+				vertices[index + 3] = spriteVertices[s + 3];
+				vertices[index + 4] = spriteVertices[s + 4];
+				index += Sprite.VERTEX_SIZE;
+			}
+		}
+	}
+
+	static private class WriteRanges extends ParallelRanges {
+		Sprite[] sprites;
+		int offset, index;
+		float[] vertices;
+		@Null Affine2 transform;
+		boolean triangles;
+
+		protected void runRange (int start, int end) {
+			int spriteSize = triangles ? 6 * Sprite.VERTEX_SIZE : Sprite.SPRITE_SIZE;
+			writeRange(sprites, start, end, vertices, index + (start - offset) * spriteSize, transform, triangles);
+		}
+	}
+}
@@ -42,7 +42,9 @@ import com.badlogic.gdx.utils.StreamUtils;
  * @author Nathan Sweet */
 public class TextureAtlas implements Disposable {
 	private final ObjectSet<Texture> textures = new ObjectSet(4);
-	private final Array<AtlasRegion> regions = new Array();
+	private final RegionArray regions = new RegionArray();
+	private final ObjectMap<String, Array<AtlasRegion>> regionsByName = new ObjectMap();
+	private int indexedModCount;
 
 	/** Creates an empty atlas to which regions can be added. */
 	public TextureAtlas () {
@@ -105,6 +107,7 @@ public class TextureAtlas implements Disposable {
 			atlasRegion.values = region.values;
 			if (region.flip) atlasRegion.flip(false, true);
 			regions.add(atlasRegion);
+			indexAdded(atlasRegion);
 		}
 	}
 
@@ -114,6 +117,7 @@ public class TextureAtlas implements Disposable {
 		AtlasRegion region = new AtlasRegion(texture, x, y, width, height);
 		region.name = name;
 		regions.add(region);
+		indexAdded(region);
 		return region;
 	}
 
@@ -123,46 +127,57 @@ public class TextureAtlas implements Disposable {
 		AtlasRegion region = new AtlasRegion(textureRegion);
 		region.name = name;
 		regions.add(region);
+		indexAdded(region);
 		return region;
 	}
 
-	/** Returns all regions in the atlas. */
+	/** Returns all regions in the atlas. Regions are looked up by name using an index that is rebuilt when the array is changed
+	 * through its methods, so {@link Array#items} should not be written directly and {@link AtlasRegion#name} should not be
+	 * changed after a region is added. */
 	public Array<AtlasRegion> getRegions () {
 		return regions;
 	}
 
-	/** Returns the first region found with the specified name. This method uses string comparison to find the region, so the
-	 * result should be cached rather than calling this method multiple times. */
+	/** Returns the first region found with the specified name. */
 	public @Null AtlasRegion findRegion (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return regions.get(i);
-		return null;
+		Array<AtlasRegion> named = regionsByName(name);
+		return named != null ? named.first() : null;
 	}
 
-	/** Returns the first region found with the specified name and index. This method uses string comparison to find the region, so
-	 * the result should be cached rather than calling this method multiple times. */
+	/** Returns the first region found with the specified name and index. */
 	public @Null AtlasRegion findRegion (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return region;
+		Array<AtlasRegion> named = regionsByName(name);
+		if (named != null) {
+			for (int i = 0, n = named.size; i < n; i++) {
+				AtlasRegion region = named.get(i);
+				if (region.index == index) return region;
+			}
 		}
 		return null;
 	}
 
-	/** Returns all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This method
-	 * uses string comparison to find the regions, so the result should be cached rather than calling this method multiple
-	 * times. */
+	/** Returns copies of all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This
+	 * method allocates, so the result should be cached rather than calling this method multiple times.
+	 * @see #findRegions(String, Array) */
 	public Array<AtlasRegion> findRegions (String name) {
-		Array<AtlasRegion> matched = new Array(AtlasRegion.class);
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(new AtlasRegion(region));
-		}
+		Array<AtlasRegion> named = regionsByName(name);
+		if (named == null) return new Array(AtlasRegion.class);
+		Array<AtlasRegion> matched = new Array(true, named.size, AtlasRegion.class);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(new AtlasRegion(named.get(i)));
 		return matched;
 	}
 
+	/** Adds all regions with the specified name to the specified array, ordered by smallest to largest {@link AtlasRegion#index
+	 * index}. Unlike {@link #findRegions(String)}, the regions are not copied and nothing is allocated if the array has enough
+	 * capacity.
+	 * @return The specified array. */
+	public Array<AtlasRegion> findRegions (String name, Array<AtlasRegion> regions) {
+		Array<AtlasRegion> named = regionsByName(name);
+		if (named != null) regions.addAll(named);
+		return regions;
+	}
+
 	/** Returns all regions in the atlas as sprites. This method creates a new sprite for each region, so the result should be
 	 * stored rather than calling this method multiple times.
 	 * @see #createSprite(String) */
@@ -174,41 +189,63 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a sprite. If whitespace was stripped from the region when it was
-	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method uses string comparison to
-	 * find the region and constructs a new sprite, so the result should be cached rather than calling this method multiple
-	 * times. */
+	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method constructs a new sprite,
+	 * so the result should be cached rather than calling this method multiple times. */
 	public @Null Sprite createSprite (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return newSprite(regions.get(i));
-		return null;
+		AtlasRegion region = findRegion(name);
+		return region != null ? newSprite(region) : null;
 	}
 
-	/** Returns the first region found with the specified name and index as a sprite. This method uses string comparison to find
-	 * the region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index as a sprite. This method constructs a new sprite, so the
+	 * result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public @Null Sprite createSprite (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.index != index) continue;
-			if (!region.name.equals(name)) continue;
-			return newSprite(regions.get(i));
-		}
-		return null;
+		AtlasRegion region = findRegion(name, index);
+		return region != null ? newSprite(region) : null;
 	}
 
 	/** Returns all regions with the specified name as sprites, ordered by smallest to largest {@link AtlasRegion#index index}.
-	 * This method uses string comparison to find the regions and constructs new sprites, so the result should be cached rather
-	 * than calling this method multiple times.
+	 * This method constructs new sprites, so the result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public Array<Sprite> createSprites (String name) {
-		Array<Sprite> matched = new Array(Sprite.class);
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(newSprite(region));
-		}
+		Array<AtlasRegion> named = regionsByName(name);
+		if (named == null) return new Array(Sprite.class);
+		Array<Sprite> matched = new Array(true, named.size, Sprite.class);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(newSprite(named.get(i)));
 		return matched;
 	}
 
+	/** Returns the regions with the specified name in atlas order, or null. The index is rebuilt if {@link #getRegions()} was
+	 * changed directly. */
+	private @Null Array<AtlasRegion> regionsByName (String name) {
+		if (indexedModCount != regions.modCount) {
+			regionsByName.clear();
+			for (int i = 0, n = regions.size; i < n; i++)
+				index(regions.get(i));
+			indexedModCount = regions.modCount;
+		}
+		return regionsByName.get(name);
+	}
+
+	/** Adds a region that was just added to {@link #regions} to the name index, unless the index is already out of date. */
+	private void indexAdded (AtlasRegion region) {
+		if (indexedModCount == regions.modCount - 1) {
+			index(region);
+			indexedModCount = regions.modCount;
+		}
+	}
+
+	private void index (AtlasRegion region) {
+		if (region.name == null) return;
+		Array<AtlasRegion> named = regionsByName.get(region.name);
+		if (named == null) {
+			named = new Array(true, 1, AtlasRegion.class);
+			regionsByName.put(region.name, named);
+		}
+		named.add(region);
+	}
+
 	private Sprite newSprite (AtlasRegion region) {
 		if (region.packedWidth == region.originalWidth && region.packedHeight == region.originalHeight) {
 			if (region.rotate) {
@@ -223,21 +260,17 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a {@link NinePatch}. The region must have been packed with
-	 * ninepatch splits. This method uses string comparison to find the region and constructs a new ninepatch, so the result should
-	 * be cached rather than calling this method multiple times. */
+	 * ninepatch splits. This method constructs a new ninepatch, so the result should be cached rather than calling this method
+	 * multiple times. */
 	public @Null NinePatch createPatch (String name) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) {
-				int[] splits = region.findValue("split");
-				if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
-				NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
-				int[] pads = region.findValue("pad");
-				if (pads != null) patch.setPadding(pads[0], pads[1], pads[2], pads[3]);
-				return patch;
-			}
-		}
-		return null;
+		AtlasRegion region = findRegion(name);
+		if (region == null) return null;
+		int[] splits = region.findValue("split");
+		if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
+		NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
+		int[] pads = region.findValue("pad");
+		if (pads != null) patch.setPadding(pads[0], pads[1], pads[2], pads[3]);
+		return patch;
 	}
 
 	/** @return the textures of the pages, unordered */
@@ -514,6 +547,116 @@ public class TextureAtlas implements Disposable {
 		}
 	}
 
+	/** An array that counts the changes made to it, so the name index knows when it must be rebuilt. */
+	static private class RegionArray extends Array<AtlasRegion> {
+		int modCount;
+
+		public void add (AtlasRegion value) {
+			modCount++;
+			super.add(value);
+		}
+
+		public void add (AtlasRegion value1, AtlasRegion value2) {
+			modCount++;
+			super.add(value1, value2);
+		}
+
+		public void add (AtlasRegion value1, AtlasRegion value2, AtlasRegion value3) {
+			modCount++;
+			super.add(value1, value2, value3);
+		}
+
+		public void add (AtlasRegion value1, AtlasRegion value2, AtlasRegion value3, AtlasRegion value4) {
+			modCount++;
+			super.add(value1, value2, value3, value4);
+		}
+
+		public void addAll (AtlasRegion[] array, int start, int count) {
+			modCount++;
+			super.addAll(array, start, count);
+		}
+
+		public void set (int index, AtlasRegion value) {
+			modCount++;
+			super.set(index, value);
+		}
+
+		public void insert (int index, AtlasRegion value) {
+			modCount++;
+			super.insert(index, value);
+		}
+
+		public void insertRange (int index, int count) {
+			modCount++;
+			super.insertRange(index, count);
+		}
+
+		public void swap (int first, int second) {
+			modCount++;
+			super.swap(first, second);
+		}
+
+		public AtlasRegion removeIndex (int index) {
+			modCount++;
+			return super.removeIndex(index);
+		}
+
+		public void removeRange (int start, int end) {
+			modCount++;
+			super.removeRange(start, end);
+		}
+
+		public AtlasRegion pop () {
+			modCount++;
+			return super.pop();
+		}
+
+		public void clear () {
+			modCount++;
+			super.clear();
+		}
+
+		public void sort () {
+			modCount++;
+			super.sort();
+		}
+
+		public void sort (Comparator<? super AtlasRegion> comparator) {
+			modCount++;
+			super.sort(comparator);
+		}
+
+		public AtlasRegion selectRanked (Comparator<AtlasRegion> comparator, int kthLowest) {
+			modCount++;
+			return super.selectRanked(comparator, kthLowest);
+		}
+
+		public int selectRankedIndex (Comparator<AtlasRegion> comparator, int kthLowest) {
+			modCount++;
+			return super.selectRankedIndex(comparator, kthLowest);
+		}
+
+		public void reverse () {
+			modCount++;
+			super.reverse();
+		}
+
+		public void shuffle () {
+			modCount++;
+			super.shuffle();
+		}
+
+		public void truncate (int newSize) {
+			modCount++;
+			super.truncate(newSize);
+		}
+
+		public AtlasRegion[] setSize (int newSize) {
+			modCount++;
+			return super.setSize(newSize);
+		}
+	}
+
 	/** Describes the region of a packed image and provides information about the original image before it was packed. */
 	static public class AtlasRegion extends TextureRegion {
 		/** The number at the end of the original image file name, or -1 if none.<br>
@@ -16,8 +16,15 @@
 
 package com.badlogic.gdx.graphics.g3d;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
 import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
@@ -25,10 +32,15 @@ import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
+import com.badlogic.gdx.math.Matrix3;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.FlushablePool;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.Pool;
 
 /** Batches {@link Renderable} instances, fetches {@link Shader}s for them, sorts them and then renders them. Fetching the shaders
@@ -39,6 +51,10 @@ import com.badlogic.gdx.utils.Pool;
  * 
  * To provide multiple {@link Renderable}s at once a {@link RenderableProvider} can be used, e.g. a {@link ModelInstance}.
  * 
+ * When {@link #setCulling(boolean) culling} is enabled, renderables outside the camera's frustum are not added to the batch.
+ * When {@link #setInstancing(boolean) instancing} is enabled, renderables which only differ in their world transform are
+ * rendered with a single instanced draw call.
+ * 
  * @author xoppa, badlogic */
 public class ModelBatch implements Disposable {
 	protected static class RenderablePool extends FlushablePool<Renderable> {
@@ -55,6 +71,7 @@ public class ModelBatch implements Disposable {
 			renderable.meshPart.set("", null, 0, 0, 0);
 			renderable.shader = null;
 			renderable.userData = null;
+			renderable.instanced = false;
 			return renderable;
 		}
 	}
@@ -70,6 +87,31 @@ public class ModelBatch implements Disposable {
 	protected final ShaderProvider shaderProvider;
 	/** the {@link RenderableSorter} **/
 	protected final RenderableSorter sorter;
+	private boolean culling;
+	private final Vector3 tmpCenter = new Vector3();
+
+	/** Number of renderables added to the batch since the last {@link #begin(Camera)}. **/
+	public int submittedRenderables;
+	/** Number of renderables not added to the batch by culling since the last {@link #begin(Camera)}. **/
+	public int culledRenderables;
+	/** Number of renderables rendered by instanced draw calls since the last {@link #begin(Camera)}. **/
+	public int instancedRenderables;
+
+	/** The instance data written for each instance when {@link #setInstancing(boolean) instancing}: the world transform as a
+	 * mat4 attribute named i_worldTrans, followed by the normal matrix as a mat3 attribute named i_normalMatrix. **/
+	static public final VertexAttributes instanceAttributes = new VertexAttributes(createInstanceAttributes());
+	/** The maximum number of instances rendered with a single draw call. **/
+	static public final int maxInstances = 1024;
+
+	private boolean instancing;
+	private final Renderable instancedRenderable = new Renderable();
+	private final Matrix3 tmpNormalMatrix = new Matrix3();
+	private float[] instanceData;
+	/** The number of renderables rendered by the instanced draw call starting at each index, 1 for other renderables. **/
+	private final IntArray instanceCounts = new IntArray();
+	private final Array<Renderable> groupedRenderables = new Array<Renderable>();
+	private final IdentityMap<Mesh, IntArray> instanceCandidates = new IdentityMap<Mesh, IntArray>();
+	private final Array<IntArray> freeCandidateArrays = new Array<IntArray>();
 
 	/** Construct a ModelBatch, using this constructor makes you responsible for calling context.begin() and context.end()
 	 * yourself.
@@ -153,6 +195,9 @@ public class ModelBatch implements Disposable {
 	public void begin (final Camera cam) {
 		if (camera != null) throw new GdxRuntimeException("Call end() first.");
 		camera = cam;
+		submittedRenderables = 0;
+		culledRenderables = 0;
+		instancedRenderables = 0;
 		if (ownContext) context.begin();
 	}
 
@@ -195,25 +240,212 @@ public class ModelBatch implements Disposable {
 		return sorter;
 	}
 
+	/** @param culling If true, renderables whose bounding sphere is outside the camera's frustum are not added to the batch, so
+	 *           they are not sorted and no shader is fetched for them. The sphere is the {@link MeshPart#center} and
+	 *           {@link MeshPart#radius} computed when the model was loaded or built, transformed by
+	 *           {@link Renderable#worldTransform}. Default is false. */
+	public void setCulling (boolean culling) {
+		this.culling = culling;
+	}
+
+	public boolean isCulling () {
+		return culling;
+	}
+
+	/** Returns false if the renderable is known to be outside the camera's frustum. Renderables with {@link Renderable#bones} or
+	 * without calculated bounds are always visible, since their bounds aren't known. Only called when culling is enabled. */
+	protected boolean isVisible (final Camera camera, final Renderable renderable) {
+		final MeshPart meshPart = renderable.meshPart;
+		if (meshPart.radius < 0 || renderable.bones != null) return true;
+		final float[] val = renderable.worldTransform.val;
+		// The largest scale of the transform's axes, which is the length of the longest of the first three columns.
+		final float scaleX = val[Matrix4.M00] * val[Matrix4.M00] + val[Matrix4.M10] * val[Matrix4.M10]
+			+ val[Matrix4.M20] * val[Matrix4.M20];
+		final float scaleY = val[Matrix4.M01] * val[Matrix4.M01] + val[Matrix4.M11] * val[Matrix4.M11]
+			+ val[Matrix4.M21] * val[Matrix4.M21];
+		final float scaleZ = val[Matrix4.M02] * val[Matrix4.M02] + val[Matrix4.M12] * val[Matrix4.M12]
+			+ val[Matrix4.M22] * val[Matrix4.M22];
+		final float scale = (float)Math.sqrt(Math.max(scaleX, Math.max(scaleY, scaleZ)));
+		return camera.frustum.sphereInFrustum(tmpCenter.set(meshPart.center).mul(renderable.worldTransform),
+			meshPart.radius * scale);
+	}
+
+	/** @param instancing If true, renderables sharing the same mesh part, material, environment, shader and user data are
+	 *           rendered with a single instanced draw call, writing their world transforms to the instance data of the mesh.
+	 *           Opaque renderables are moved next to the first of them after sorting, blended renderables are only instanced
+	 *           when they are consecutive so their order is kept. Renderables with {@link Renderable#bones} are not instanced.
+	 *           Instanced rendering is enabled on meshes the first time they are instanced, which adds an instance buffer of
+	 *           {@link #maxInstances} instances to them. The instance data is removed again after each draw call, so the mesh
+	 *           is still rendered normally by other batches. Shaders must support {@link Renderable#instanced} renderables by
+	 *           reading the {@link #instanceAttributes}, like {@link DefaultShader} does. Requires OpenGL ES 3.0, has no effect
+	 *           otherwise. Default is false. */
+	public void setInstancing (boolean instancing) {
+		this.instancing = instancing && Gdx.gl30 != null;
+	}
+
+	public boolean isInstancing () {
+		return instancing;
+	}
+
+	/** Removes the renderables starting at offset that are not {@link #isVisible(Camera, Renderable) visible}, if culling is
+	 * enabled, and updates the counters. */
+	private void cull (final int offset) {
+		if (culling) {
+			int visible = offset;
+			for (int i = offset, n = renderables.size; i < n; i++) {
+				final Renderable renderable = renderables.get(i);
+				if (isVisible(camera, renderable))
+					renderables.set(visible++, renderable);
+				else
+					culledRenderables++;
+			}
+			renderables.truncate(visible);
+		}
+		submittedRenderables += renderables.size - offset;
+	}
+
 	/** Flushes the batch, causing all {@link Renderable}s in the batch to be rendered. Can only be called after the call to
 	 * {@link #begin(Camera)} and before the call to {@link #end()}. */
 	public void flush () {
 		sorter.sort(camera, renderables);
+		if (instancing) groupInstances();
 		Shader currentShader = null;
 		for (int i = 0; i < renderables.size; i++) {
-			final Renderable renderable = renderables.get(i);
+			Renderable renderable = renderables.get(i);
+			final int count = instancing ? instanceCounts.get(i) : 1;
+			if (count > 1) renderable = setInstanceData(i, count);
 			if (currentShader != renderable.shader) {
 				if (currentShader != null) currentShader.end();
 				currentShader = renderable.shader;
 				currentShader.begin(camera, context);
 			}
 			currentShader.render(renderable);
+			if (count > 1) {
+				// Other batches and shaders render the mesh without instances again.
+				renderable.meshPart.mesh.setInstanceData(instanceData, 0, 0);
+				i += count - 1;
+			}
 		}
 		if (currentShader != null) currentShader.end();
 		renderablesPool.flush();
 		renderables.clear();
 	}
 
+	/** Reorders the renderables so that the renderables which are rendered by the same instanced draw call are consecutive, and
+	 * sets the number of renderables of each draw call in {@link #instanceCounts}. */
+	private void groupInstances () {
+		final int n = renderables.size;
+		for (int i = 0; i < n; i++) {
+			final Renderable renderable = renderables.get(i);
+			if (!canInstance(renderable) || isBlended(renderable)) continue;
+			IntArray candidates = instanceCandidates.get(renderable.meshPart.mesh);
+			if (candidates == null) {
+				candidates = freeCandidateArrays.size > 0 ? freeCandidateArrays.pop() : new IntArray();
+				instanceCandidates.put(renderable.meshPart.mesh, candidates);
+			}
+			candidates.add(i);
+		}
+
+		// Renderables which are moved into an earlier draw call are set to null.
+		groupedRenderables.clear();
+		instanceCounts.clear();
+		for (int i = 0; i < n; i++) {
+			final Renderable renderable = renderables.get(i);
+			if (renderable == null) continue;
+			final int start = groupedRenderables.size;
+			groupedRenderables.add(renderable);
+			if (canInstance(renderable)) {
+				if (isBlended(renderable)) {
+					while (i + 1 < n && groupedRenderables.size - start < maxInstances && renderables.get(i + 1) != null
+						&& canInstance(renderables.get(i + 1), renderable))
+						groupedRenderables.add(renderables.get(++i));
+				} else {
+					final IntArray candidates = instanceCandidates.get(renderable.meshPart.mesh);
+					final int[] items = candidates.items;
+					int kept = 0;
+					for (int c = 0, cn = candidates.size; c < cn; c++) {
+						final int index = items[c];
+						if (index == i) continue;
+						final Renderable other = renderables.get(index);
+						if (groupedRenderables.size - start < maxInstances && canInstance(other, renderable)) {
+							groupedRenderables.add(other);
+							renderables.set(index, null);
+						} else
+							items[kept++] = index;
+					}
+					candidates.size = kept;
+				}
+			}
+			final int count = groupedRenderables.size - start;
+			instanceCounts.add(count);
+			for (int c = 1; c < count; c++)
+				instanceCounts.add(0);
+		}
+		renderables.clear();
+		renderables.addAll(groupedRenderables);
+		groupedRenderables.clear();
+
+		for (IntArray candidates : instanceCandidates.values()) {
+			candidates.clear();
+			freeCandidateArrays.add(candidates);
+		}
+		instanceCandidates.clear();
+	}
+
+	private boolean canInstance (final Renderable renderable) {
+		if (renderable.bones != null || renderable.material == null) return false;
+		final Mesh mesh = renderable.meshPart.mesh;
+		return !mesh.isInstanced() || instanceAttributes.equals(mesh.getInstancedAttributes());
+	}
+
+	/** @return Whether the other renderable can be rendered with the same instanced draw call as the renderable. */
+	private boolean canInstance (final Renderable other, final Renderable renderable) {
+		return other.shader == renderable.shader && other.environment == renderable.environment
+			&& other.userData == renderable.userData && other.bones == null && other.meshPart.equals(renderable.meshPart)
+			&& (other.material == renderable.material || renderable.material.equals(other.material));
+	}
+
+	private static boolean isBlended (final Renderable renderable) {
+		final BlendingAttribute blending = (BlendingAttribute)renderable.material.get(BlendingAttribute.Type);
+		return blending != null && blending.blended;
+	}
+
+	/** Writes the instance data of the count renderables starting at offset to their mesh.
+	 * @return The renderable to render them with. */
+	private Renderable setInstanceData (final int offset, final int count) {
+		final Renderable first = renderables.get(offset);
+		final Mesh mesh = first.meshPart.mesh;
+		if (!mesh.isInstanced()) mesh.enableInstancedRendering(false, maxInstances, createInstanceAttributes());
+		final int instanceSize = instanceAttributes.vertexSize / 4;
+		if (instanceData == null) instanceData = new float[maxInstances * instanceSize];
+		final float[] data = instanceData;
+		for (int i = 0, index = 0; i < count; i++, index += instanceSize) {
+			final Matrix4 worldTransform = renderables.get(offset + i).worldTransform;
+			System.arraycopy(worldTransform.val, 0, data, index, 16);
+			// A renderable with a singular transform has no area, so its normals don't matter.
+			if (worldTransform.det3x3() != 0)
+				System.arraycopy(tmpNormalMatrix.set(worldTransform).inv().transpose().val, 0, data, index + 16, 9);
+			else
+				System.arraycopy(tmpNormalMatrix.idt().val, 0, data, index + 16, 9);
+		}
+		mesh.setInstanceData(data, 0, count * instanceSize);
+		instancedRenderables += count;
+
+		instancedRenderable.set(first);
+		instancedRenderable.instanced = true;
+		instancedRenderable.shader = shaderProvider.getShader(instancedRenderable);
+		return instancedRenderable;
+	}
+
+	static private VertexAttribute[] createInstanceAttributes () {
+		// The columns of a matrix attribute are at consecutive locations, which are set by the unit of each column. The usages
+		// differ so that the columns of both matrices have different keys.
+		return new VertexAttribute[] {new VertexAttribute(Usage.Generic, 4, "i_worldTrans", 0),
+			new VertexAttribute(Usage.Generic, 4, "i_worldTrans", 1), new VertexAttribute(Usage.Generic, 4, "i_worldTrans", 2),
+			new VertexAttribute(Usage.Generic, 4, "i_worldTrans", 3), new VertexAttribute(Usage.Normal, 3, "i_normalMatrix", 0),
+			new VertexAttribute(Usage.Normal, 3, "i_normalMatrix", 1), new VertexAttribute(Usage.Normal, 3, "i_normalMatrix", 2)};
+	}
+
 	/** End rendering one or more {@link Renderable}s. Must be called after a call to {@link #begin(Camera)}. This will flush the
 	 * batch, causing any renderables provided using one of the render() methods to be rendered. After a call to this method the
 	 * OpenGL context can be altered again. */
@@ -227,6 +459,11 @@ public class ModelBatch implements Disposable {
 	 * Can only be called after a call to {@link #begin(Camera)} and before a call to {@link #end()}.
 	 * @param renderable The {@link Renderable} to be added. */
 	public void render (final Renderable renderable) {
+		if (culling && !isVisible(camera, renderable)) {
+			culledRenderables++;
+			return;
+		}
+		submittedRenderables++;
 		renderable.shader = shaderProvider.getShader(renderable);
 		renderables.add(renderable);
 	}
@@ -237,6 +474,7 @@ public class ModelBatch implements Disposable {
 	public void render (final RenderableProvider renderableProvider) {
 		final int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
+		cull(offset);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.shader = shaderProvider.getShader(renderable);
@@ -259,6 +497,7 @@ public class ModelBatch implements Disposable {
 	public void render (final RenderableProvider renderableProvider, final Environment environment) {
 		final int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
+		cull(offset);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.environment = environment;
@@ -284,6 +523,7 @@ public class ModelBatch implements Disposable {
 	public void render (final RenderableProvider renderableProvider, final Shader shader) {
 		final int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
+		cull(offset);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.shader = shader;
@@ -311,6 +551,7 @@ public class ModelBatch implements Disposable {
 	public void render (final RenderableProvider renderableProvider, final Environment environment, final Shader shader) {
 		final int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
+		cull(offset);
 		for (int i = offset; i < renderables.size; i++) {
 			Renderable renderable = renderables.get(i);
 			renderable.environment = environment;
@@ -340,7 +340,12 @@ public class ModelInstance implements RenderableProvider {
 						nodeAnim.scaling.add(new NodeKeyframe<Vector3>(kf.keytime, kf.value));
 				}
 			}
-			if (nodeAnim.translation != null || nodeAnim.rotation != null || nodeAnim.scaling != null)
+			// Channels are immutable, so they are always shared.
+			nodeAnim.translationChannel = nanim.translationChannel;
+			nodeAnim.rotationChannel = nanim.rotationChannel;
+			nodeAnim.scalingChannel = nanim.scalingChannel;
+			if (nodeAnim.translation != null || nodeAnim.rotation != null || nodeAnim.scaling != null
+				|| nodeAnim.translationChannel != null || nodeAnim.rotationChannel != null || nodeAnim.scalingChannel != null)
 				animation.nodeAnimations.add(nodeAnim);
 		}
 		if (animation.nodeAnimations.size > 0) animations.add(animation);
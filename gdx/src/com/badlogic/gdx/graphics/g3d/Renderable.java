@@ -92,6 +92,10 @@ public class Renderable {
 	public Shader shader;
 	/** User definable value, may be null. */
 	public Object userData;
+	/** Whether the {@link #meshPart} is rendered once for each instance in the instance data of its mesh, in which case shaders
+	 * read the world transform of each instance from that data instead of using {@link #worldTransform}. Set by
+	 * {@link ModelBatch} for renderables it {@link ModelBatch#setInstancing(boolean) instances}. */
+	public boolean instanced;
 
 	public Renderable set (Renderable renderable) {
 		worldTransform.set(renderable.worldTransform);
@@ -101,6 +105,7 @@ public class Renderable {
 		environment = renderable.environment;
 		shader = renderable.shader;
 		userData = renderable.userData;
+		instanced = renderable.instanced;
 		return this;
 	}
 }
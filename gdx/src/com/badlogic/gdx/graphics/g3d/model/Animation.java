@@ -31,4 +31,11 @@ public class Animation {
 	public float duration;
 	/** the animation curves for individual nodes **/
 	public Array<NodeAnimation> nodeAnimations = new Array<NodeAnimation>();
+
+	/** Converts the keyframes of all node animations to {@link KeyframeChannel}s, see {@link NodeAnimation#compact(boolean)}.
+	 * @param quantize Whether to store the values with 16 bits per component. */
+	public void compact (boolean quantize) {
+		for (int i = 0, n = nodeAnimations.size; i < n; i++)
+			nodeAnimations.get(i).compact(quantize);
+	}
 }
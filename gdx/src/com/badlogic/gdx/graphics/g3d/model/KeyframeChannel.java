@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** The keyframes of the translation, rotation or scaling of a {@link NodeAnimation}, stored as arrays of floats instead of a
+ * {@link NodeKeyframe} object per key. The values can be quantized to 16 bits per component, relative to the range of each
+ * component. A channel is immutable, so it can be shared by the animations of many model instances.
+ * <p>
+ * {@link #findKey(float, int)} starts searching at the key found for the previous sample, so sampling an animation that plays
+ * forward only checks one or two keys.
+ * @see NodeAnimation#compact(boolean) */
+public class KeyframeChannel {
+	/** The times of the keys in seconds, sorted ascending. */
+	public final float[] times;
+	/** The number of components of each value, 3 for a translation or scaling, 4 for a rotation. */
+	public final int components;
+	private final float[] values;
+	private final short[] quantizedValues;
+	private final float[] offsets, scales;
+
+	/** @param times The times of the keys in seconds, sorted ascending.
+	 * @param values The values of the keys, components floats per key.
+	 * @param quantize Whether to store the values with 16 bits per component instead of as floats. */
+	public KeyframeChannel (float[] times, int components, float[] values, boolean quantize) {
+		if (times.length == 0) throw new GdxRuntimeException("A channel needs at least one key.");
+		if (values.length != times.length * components)
+			throw new GdxRuntimeException("Expected " + times.length * components + " values: " + values.length);
+		this.times = times;
+		this.components = components;
+		if (!quantize) {
+			this.values = values;
+			quantizedValues = null;
+			offsets = scales = null;
+			return;
+		}
+		this.values = null;
+		offsets = new float[components];
+		scales = new float[components];
+		for (int c = 0; c < components; c++) {
+			float min = values[c], max = min;
+			for (int i = c; i < values.length; i += components) {
+				min = Math.min(min, values[i]);
+				max = Math.max(max, values[i]);
+			}
+			offsets[c] = min;
+			scales[c] = (max - min) / 65535f;
+		}
+		quantizedValues = new short[values.length];
+		for (int i = 0; i < values.length; i++) {
+			final float scale = scales[i % components];
+			quantizedValues[i] = (short)(scale == 0 ? 0 : Math.round((values[i] - offsets[i % components]) / scale));
+		}
+	}
+
+	/** Creates a channel with the values of translation or scaling keyframes. */
+	static public KeyframeChannel fromVector3 (Array<NodeKeyframe<Vector3>> keyframes, boolean quantize) {
+		final int n = keyframes.size;
+		final float[] times = new float[n], values = new float[n * 3];
+		for (int i = 0; i < n; i++) {
+			final NodeKeyframe<Vector3> keyframe = keyframes.get(i);
+			times[i] = keyframe.keytime;
+			values[i * 3] = keyframe.value.x;
+			values[i * 3 + 1] = keyframe.value.y;
+			values[i * 3 + 2] = keyframe.value.z;
+		}
+		return new KeyframeChannel(times, 3, values, quantize);
+	}
+
+	/** Creates a channel with the values of rotation keyframes. */
+	static public KeyframeChannel fromQuaternion (Array<NodeKeyframe<Quaternion>> keyframes, boolean quantize) {
+		final int n = keyframes.size;
+		final float[] times = new float[n], values = new float[n * 4];
+		for (int i = 0; i < n; i++) {
+			final NodeKeyframe<Quaternion> keyframe = keyframes.get(i);
+			times[i] = keyframe.keytime;
+			values[i * 4] = keyframe.value.x;
+			values[i * 4 + 1] = keyframe.value.y;
+			values[i * 4 + 2] = keyframe.value.z;
+			values[i * 4 + 3] = keyframe.value.w;
+		}
+		return new KeyframeChannel(times, 4, values, quantize);
+	}
+
+	/** @return The number of keys. */
+	public int size () {
+		return times.length;
+	}
+
+	public boolean isQuantized () {
+		return quantizedValues != null;
+	}
+
+	/** @return The value of the component of the key. */
+	public float getValue (int key, int component) {
+		final int index = key * components + component;
+		if (quantizedValues == null) return values[index];
+		return offsets[component] + (quantizedValues[index] & 0xFFFF) * scales[component];
+	}
+
+	/** Finds the last key at or before the time, or the first key if the time is before it.
+	 * @param hint The key to start searching at, usually the key returned for the previous sample. Any value is valid.
+	 * @return The index of the key. */
+	public int findKey (float time, int hint) {
+		final float[] times = this.times;
+		final int last = times.length - 1;
+		if (hint < 0 || hint > last) hint = 0;
+		int low, high;
+		if (time >= times[hint]) {
+			// Playback usually moves forward by less than a key.
+			if (hint == last || time < times[hint + 1]) return hint;
+			if (hint + 1 == last || time < times[hint + 2]) return hint + 1;
+			low = hint + 2;
+			high = last;
+		} else {
+			if (hint == 0) return 0;
+			low = 0;
+			high = hint - 1;
+		}
+		while (low < high) {
+			final int mid = (low + high + 1) >>> 1;
+			if (times[mid] <= time)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
+	}
+
+	/** @return The interpolation alpha between the key and the next key at the time, 0 if it is the last key or before it. */
+	public float getAlpha (float time, int key) {
+		if (key == times.length - 1 || time <= times[key]) return 0;
+		return (time - times[key]) / (times[key + 1] - times[key]);
+	}
+
+	/** Sets the translation or scaling at the time, interpolated linearly between the key and the next key.
+	 * @param key The key found by {@link #findKey(float, int)} for the time. */
+	public Vector3 sample (float time, int key, Vector3 out) {
+		out.set(getValue(key, 0), getValue(key, 1), getValue(key, 2));
+		final float alpha = getAlpha(time, key);
+		if (alpha > 0) {
+			out.x += (getValue(key + 1, 0) - out.x) * alpha;
+			out.y += (getValue(key + 1, 1) - out.y) * alpha;
+			out.z += (getValue(key + 1, 2) - out.z) * alpha;
+		}
+		return out;
+	}
+
+	/** Sets the rotation at the time, spherically interpolated between the key and the next key.
+	 * @param key The key found by {@link #findKey(float, int)} for the time. */
+	public Quaternion sample (float time, int key, Quaternion out) {
+		out.set(getValue(key, 0), getValue(key, 1), getValue(key, 2), getValue(key, 3));
+		final float alpha = getAlpha(time, key);
+		if (alpha > 0)
+			out.slerp(getValue(key + 1, 0), getValue(key + 1, 1), getValue(key + 1, 2), getValue(key + 1, 3), alpha);
+		return out;
+	}
+}
@@ -33,4 +33,22 @@ public class NodeAnimation {
 	public Array<NodeKeyframe<Quaternion>> rotation = null;
 	/** the scaling keyframes if any (might be null), sorted by time ascending **/
 	public Array<NodeKeyframe<Vector3>> scaling = null;
+	/** the translation keyframes as a {@link KeyframeChannel} (might be null), used instead of {@link #translation} if set **/
+	public KeyframeChannel translationChannel = null;
+	/** the rotation keyframes as a {@link KeyframeChannel} (might be null), used instead of {@link #rotation} if set **/
+	public KeyframeChannel rotationChannel = null;
+	/** the scaling keyframes as a {@link KeyframeChannel} (might be null), used instead of {@link #scaling} if set **/
+	public KeyframeChannel scalingChannel = null;
+
+	/** Converts the translation, rotation and scaling keyframes to {@link KeyframeChannel}s and sets the keyframe arrays to null.
+	 * Compact the animations of the {@link Model} before creating instances of it, so the instances share the channels.
+	 * @param quantize Whether to store the values with 16 bits per component. */
+	public void compact (boolean quantize) {
+		if (translation != null && translation.size > 0) translationChannel = KeyframeChannel.fromVector3(translation, quantize);
+		if (rotation != null && rotation.size > 0) rotationChannel = KeyframeChannel.fromQuaternion(rotation, quantize);
+		if (scaling != null && scaling.size > 0) scalingChannel = KeyframeChannel.fromVector3(scaling, quantize);
+		translation = null;
+		rotation = null;
+		scaling = null;
+	}
 }
@@ -250,7 +250,7 @@ public abstract class BaseShader implements Shader {
 
 	@Override
 	public void render (Renderable renderable) {
-		if (renderable.worldTransform.det3x3() == 0) return;
+		if (!renderable.instanced && renderable.worldTransform.det3x3() == 0) return;
 		combinedAttributes.clear();
 		if (renderable.environment != null) combinedAttributes.set(renderable.environment);
 		if (renderable.material != null) combinedAttributes.set(renderable.material);
@@ -260,6 +260,19 @@ public abstract class BaseShader implements Shader {
 	public void render (Renderable renderable, final Attributes combinedAttributes) {
 		for (int u, i = 0; i < localUniforms.size; ++i)
 			if (setters.get(u = localUniforms.get(i)) != null) setters.get(u).set(this, u, renderable, combinedAttributes);
+		if (renderable.instanced) {
+			// The instance data changes for every instanced renderable, so the mesh is bound and unbound each time.
+			if (currentMesh != null) {
+				currentMesh.unbind(program, tempArray.items, tempArray2.items);
+				currentMesh = null;
+			}
+			final Mesh mesh = renderable.meshPart.mesh;
+			mesh.bind(program, getAttributeLocations(mesh.getVertexAttributes()),
+				getInstancedAttributeLocations(mesh.getInstancedAttributes()));
+			renderable.meshPart.render(program, false);
+			mesh.unbind(program, tempArray.items, tempArray2.items);
+			return;
+		}
 		if (currentMesh != renderable.meshPart.mesh) {
 			if (currentMesh != null) currentMesh.unbind(program, tempArray.items, tempArray2.items);
 			currentMesh = renderable.meshPart.mesh;
@@ -128,7 +128,7 @@ public class DepthShader extends DefaultShader {
 				.has(TextureAttribute.Diffuse) != ((attributesMask & TextureAttribute.Diffuse) == TextureAttribute.Diffuse))
 				return false;
 		}
-		return (renderable.bones != null) == (numBones > 0);
+		return (renderable.bones != null) == (numBones > 0) && renderable.instanced == instanced;
 	}
 
 	@Override
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.ParallelRanges;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Updates many {@link AnimationController}s, optionally splitting them across the threads of an {@link AsyncExecutor}. Each
+ * update samples the keyframes, blends the animations and calculates the node and bone transforms of the controller's
+ * {@link ModelInstance}, see {@link ModelInstance#calculateTransforms()}.
+ * <p>
+ * Controllers updated by a single call must not share a model instance, nodes or bones. The
+ * {@link AnimationController.AnimationListener listeners} may be called on any of the executor's threads. On GWT the executor
+ * runs the tasks on the calling thread. */
+public class AnimationControllerUpdater {
+	private final UpdateRanges ranges = new UpdateRanges();
+
+	/** Controllers are only updated on the executor if every task gets at least this many of them. */
+	public int minControllersPerTask = 16;
+
+	/** Creates an updater without an executor. */
+	public AnimationControllerUpdater () {
+	}
+
+	/** @see #setExecutor(AsyncExecutor, int) */
+	public AnimationControllerUpdater (@Null AsyncExecutor executor, int tasks) {
+		setExecutor(executor, tasks);
+	}
+
+	/** Sets the executor whose threads share the updates, or null to update every controller on the calling thread.
+	 * @see ParallelRanges#setExecutor(AsyncExecutor, int) */
+	public void setExecutor (@Null AsyncExecutor executor, int tasks) {
+		ranges.setExecutor(executor, tasks);
+	}
+
+	public @Null AsyncExecutor getExecutor () {
+		return ranges.getExecutor();
+	}
+
+	/** Calls {@link AnimationController#update(float)} for each controller. Returns when all controllers have been updated.
+	 * @see #update(AnimationController[], int, int, float) */
+	public void update (Array<? extends AnimationController> controllers, float delta) {
+		update((Object[])controllers.items, 0, controllers.size, delta);
+	}
+
+	/** Calls {@link AnimationController#update(float)} for each controller in the range. Returns when all controllers have been
+	 * updated. If an update on another thread throws an exception, it is rethrown after all tasks finish. */
+	public void update (AnimationController[] controllers, int offset, int count, float delta) {
+		update((Object[])controllers, offset, count, delta);
+	}
+
+	/** @param controllers Holds AnimationControllers, may be the backing array of an {@link Array} which is not typed. */
+	private void update (Object[] controllers, int offset, int count, float delta) {
+		UpdateRanges ranges = this.ranges;
+		ranges.controllers = controllers;
+		ranges.delta = delta;
+		try {
+			ranges.run(offset, count, minControllersPerTask);
+		} finally {
+			ranges.controllers = null;
+		}
+	}
+
+	static void updateRange (Object[] controllers, int start, int end, float delta) {
+		for (int i = start; i < end; i++)
+			((AnimationController)controllers[i]).update(delta);
+	}
+
+	static private class UpdateRanges extends ParallelRanges {
+		Object[] controllers;
+		float delta;
+
+		protected void runRange (int start, int end) {
+			updateRange(controllers, start, end, delta);
+		}
+	}
+}
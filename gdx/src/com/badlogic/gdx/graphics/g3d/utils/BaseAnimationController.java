@@ -18,6 +18,7 @@ package com.badlogic.gdx.graphics.g3d.utils;
 
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.KeyframeChannel;
 import com.badlogic.gdx.graphics.g3d.model.Node;
 import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
 import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
@@ -34,6 +35,12 @@ import com.badlogic.gdx.utils.Pool.Poolable;
 /** Base class for applying one or more {@link Animation}s to a {@link ModelInstance}. This class only applies the actual
  * {@link Node} transformations, it does not manage animations or keep track of animation states. See {@link AnimationController}
  * for an implementation of this class which does manage animations.
+ * <p>
+ * Each controller has its own temporary state, so controllers of different model instances can be updated on different threads,
+ * see {@link AnimationControllerUpdater}.
+ * <p>
+ * For node animations with {@link KeyframeChannel}s, the controller remembers the key sampled last for each channel, so the next
+ * sample usually finds its key without searching.
  * 
  * @author Xoppa */
 public class BaseAnimationController {
@@ -95,7 +102,9 @@ public class BaseAnimationController {
 			return new Transform();
 		}
 	};
-	private final static ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
+	private final ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
+	private final Transform tmpT = new Transform();
+	private final ObjectMap<Animation, int[]> cursors = new ObjectMap<Animation, int[]>();
 	private boolean applying = false;
 	/** The {@link ModelInstance} on which the animations are being performed. */
 	public final ModelInstance target;
@@ -117,7 +126,7 @@ public class BaseAnimationController {
 	 * @param weight The blend weight of this animation relative to the previous applied animations. */
 	protected void apply (final Animation animation, final float time, final float weight) {
 		if (!applying) throw new GdxRuntimeException("You must call begin() before adding an animation");
-		applyAnimation(transforms, transformPool, weight, animation, time);
+		applyAnimation(transforms, transformPool, weight, animation, time, tmpT, getCursors(animation));
 	}
 
 	/** End applying multiple animations to the instance and update it to reflect the changes. */
@@ -135,10 +144,18 @@ public class BaseAnimationController {
 	/** Apply a single animation to the {@link ModelInstance} and update the it to reflect the changes. */
 	protected void applyAnimation (final Animation animation, final float time) {
 		if (applying) throw new GdxRuntimeException("Call end() first");
-		applyAnimation(null, null, 1.f, animation, time);
+		applyAnimation(null, null, 1.f, animation, time, tmpT, getCursors(animation));
 		target.calculateTransforms();
 	}
 
+	/** @return The keys sampled last for the channels of the animation, 3 for each node animation. */
+	private int[] getCursors (final Animation animation) {
+		int[] result = cursors.get(animation);
+		final int size = animation.nodeAnimations.size * 3;
+		if (result == null || result.length < size) cursors.put(animation, result = new int[size]);
+		return result;
+	}
+
 	/** Apply two animations, blending the second onto to first using weight. */
 	protected void applyAnimations (final Animation anim1, final float time1, final Animation anim2, final float time2,
 		final float weight) {
@@ -156,7 +173,7 @@ public class BaseAnimationController {
 		}
 	}
 
-	private final static Transform tmpT = new Transform();
+	private final static Transform sharedTmpT = new Transform();
 
 	/** Find first key frame index just before a given time
 	 * @param arr Key frames ordered by time ascending
@@ -187,7 +204,16 @@ public class BaseAnimationController {
 		return minIndex;
 	}
 
-	private final static Vector3 getTranslationAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out) {
+	/** @return The key of the channel at the time, starting the search at the cursor if there are cursors. */
+	private final static int findKey (final KeyframeChannel channel, final float time, final int[] cursors, final int cursor) {
+		if (cursors == null) return channel.findKey(time, 0);
+		return cursors[cursor] = channel.findKey(time, cursors[cursor]);
+	}
+
+	private final static Vector3 getTranslationAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out,
+		final int[] cursors, final int cursor) {
+		final KeyframeChannel channel = nodeAnim.translationChannel;
+		if (channel != null) return channel.sample(time, findKey(channel, time, cursors, cursor), out);
 		if (nodeAnim.translation == null) return out.set(nodeAnim.node.translation);
 		if (nodeAnim.translation.size == 1) return out.set(nodeAnim.translation.get(0).value);
 
@@ -203,7 +229,10 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Quaternion getRotationAtTime (final NodeAnimation nodeAnim, final float time, final Quaternion out) {
+	private final static Quaternion getRotationAtTime (final NodeAnimation nodeAnim, final float time, final Quaternion out,
+		final int[] cursors, final int cursor) {
+		final KeyframeChannel channel = nodeAnim.rotationChannel;
+		if (channel != null) return channel.sample(time, findKey(channel, time, cursors, cursor), out);
 		if (nodeAnim.rotation == null) return out.set(nodeAnim.node.rotation);
 		if (nodeAnim.rotation.size == 1) return out.set(nodeAnim.rotation.get(0).value);
 
@@ -219,7 +248,10 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Vector3 getScalingAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out) {
+	private final static Vector3 getScalingAtTime (final NodeAnimation nodeAnim, final float time, final Vector3 out,
+		final int[] cursors, final int cursor) {
+		final KeyframeChannel channel = nodeAnim.scalingChannel;
+		if (channel != null) return channel.sample(time, findKey(channel, time, cursors, cursor), out);
 		if (nodeAnim.scaling == null) return out.set(nodeAnim.node.scale);
 		if (nodeAnim.scaling.size == 1) return out.set(nodeAnim.scaling.get(0).value);
 
@@ -235,27 +267,29 @@ public class BaseAnimationController {
 		return out;
 	}
 
-	private final static Transform getNodeAnimationTransform (final NodeAnimation nodeAnim, final float time) {
-		final Transform transform = tmpT;
-		getTranslationAtTime(nodeAnim, time, transform.translation);
-		getRotationAtTime(nodeAnim, time, transform.rotation);
-		getScalingAtTime(nodeAnim, time, transform.scale);
+	private final static Transform getNodeAnimationTransform (final NodeAnimation nodeAnim, final float time,
+		final Transform transform, final int[] cursors, final int cursor) {
+		getTranslationAtTime(nodeAnim, time, transform.translation, cursors, cursor);
+		getRotationAtTime(nodeAnim, time, transform.rotation, cursors, cursor + 1);
+		getScalingAtTime(nodeAnim, time, transform.scale, cursors, cursor + 2);
 		return transform;
 	}
 
-	private final static void applyNodeAnimationDirectly (final NodeAnimation nodeAnim, final float time) {
+	private final static void applyNodeAnimationDirectly (final NodeAnimation nodeAnim, final float time, final Transform tmp,
+		final int[] cursors, final int cursor) {
 		final Node node = nodeAnim.node;
 		node.isAnimated = true;
-		final Transform transform = getNodeAnimationTransform(nodeAnim, time);
+		final Transform transform = getNodeAnimationTransform(nodeAnim, time, tmp, cursors, cursor);
 		transform.toMatrix4(node.localTransform);
 	}
 
 	private final static void applyNodeAnimationBlending (final NodeAnimation nodeAnim, final ObjectMap<Node, Transform> out,
-		final Pool<Transform> pool, final float alpha, final float time) {
+		final Pool<Transform> pool, final float alpha, final float time, final Transform tmp, final int[] cursors,
+		final int cursor) {
 
 		final Node node = nodeAnim.node;
 		node.isAnimated = true;
-		final Transform transform = getNodeAnimationTransform(nodeAnim, time);
+		final Transform transform = getNodeAnimationTransform(nodeAnim, time, tmp, cursors, cursor);
 
 		Transform t = out.get(node, null);
 		if (t != null) {
@@ -271,18 +305,37 @@ public class BaseAnimationController {
 		}
 	}
 
-	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones. */
+	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones. Uses a temporary
+	 * transform shared by all controllers, so it must not be called on more than one thread at a time.
+	 * @see #applyAnimation(ObjectMap, Pool, float, Animation, float, Transform) */
 	protected static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
 		final Animation animation, final float time) {
+		applyAnimation(out, pool, alpha, animation, time, sharedTmpT);
+	}
+
+	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones.
+	 * @param tmp Temporary storage for the sampled keyframes, which must not be used by another thread at the same time. */
+	protected static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
+		final Animation animation, final float time, final Transform tmp) {
+		applyAnimation(out, pool, alpha, animation, time, tmp, null);
+	}
+
+	/** Helper method to apply one animation to either an objectmap for blending or directly to the bones.
+	 * @param tmp Temporary storage for the sampled keyframes, which must not be used by another thread at the same time.
+	 * @param cursors The keys sampled last for the translation, rotation and scaling {@link KeyframeChannel} of each node
+	 *           animation, which are updated to the keys sampled now. May be null. */
+	protected static void applyAnimation (final ObjectMap<Node, Transform> out, final Pool<Transform> pool, final float alpha,
+		final Animation animation, final float time, final Transform tmp, final int[] cursors) {
 
+		final Array<NodeAnimation> nodeAnimations = animation.nodeAnimations;
 		if (out == null) {
-			for (final NodeAnimation nodeAnim : animation.nodeAnimations)
-				applyNodeAnimationDirectly(nodeAnim, time);
+			for (int i = 0, n = nodeAnimations.size; i < n; i++)
+				applyNodeAnimationDirectly(nodeAnimations.get(i), time, tmp, cursors, i * 3);
 		} else {
 			for (final Node node : out.keys())
 				node.isAnimated = false;
-			for (final NodeAnimation nodeAnim : animation.nodeAnimations)
-				applyNodeAnimationBlending(nodeAnim, out, pool, alpha, time);
+			for (int i = 0, n = nodeAnimations.size; i < n; i++)
+				applyNodeAnimationBlending(nodeAnimations.get(i), out, pool, alpha, time, tmp, cursors, i * 3);
 			for (final ObjectMap.Entry<Node, Transform> e : out.entries()) {
 				if (!e.key.isAnimated) {
 					e.key.isAnimated = true;
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@link RenderableSorter} which computes a 64 bit key once for each renderable and sorts the keys with a radix sort, instead
+ * of comparing renderables. Opaque renderables are sorted before blended renderables. Opaque renderables are grouped by shader,
+ * material and mesh, then sorted front to back. Blended renderables are sorted back to front, then by shader, material and mesh.
+ * Shaders, materials and meshes are grouped by a hash, so two different ones are not kept apart when their hashes collide. The
+ * sort is stable and doesn't allocate once its buffers have grown to the number of renderables. */
+public class RadixRenderableSorter implements RenderableSorter {
+	static private final int depthBits = 24, meshBits = 11, materialBits = 16, shaderBits = 12;
+	static private final long blendedBit = 1L << 63;
+
+	private final Vector3 tmpV1 = new Vector3();
+	private long[] keys = new long[0], tmpKeys = new long[0];
+	private int[] indices = new int[0], tmpIndices = new int[0];
+	private Object[] tmpRenderables = new Object[0];
+	private final int[] counts = new int[256];
+
+	@Override
+	public void sort (final Camera camera, final Array<Renderable> renderables) {
+		final int n = renderables.size;
+		if (n < 2) return;
+		if (keys.length < n) {
+			keys = new long[n];
+			tmpKeys = new long[n];
+			indices = new int[n];
+			tmpIndices = new int[n];
+			tmpRenderables = new Object[n];
+		}
+		final long[] keys = this.keys;
+		final int[] indices = this.indices;
+		for (int i = 0; i < n; i++) {
+			final Renderable renderable = renderables.get(i);
+			keys[i] = getKey(camera, renderable);
+			indices[i] = i;
+			tmpRenderables[i] = renderable;
+		}
+		radixSort(n);
+		final int[] sorted = this.indices;
+		for (int i = 0; i < n; i++) {
+			renderables.set(i, (Renderable)tmpRenderables[sorted[i]]);
+			tmpRenderables[sorted[i]] = null;
+		}
+	}
+
+	/** @return The key the renderable is sorted by, lower keys are rendered first. */
+	protected long getKey (final Camera camera, final Renderable renderable) {
+		final float distance2 = camera.position.dst2(getTranslation(renderable.worldTransform, renderable.meshPart.center, tmpV1));
+		// The bits of a positive float increase with its value, the top bits quantize it with a 16 bit mantissa.
+		final long depth = Float.floatToIntBits(distance2) >>> (31 - depthBits);
+		final long shader = hash(System.identityHashCode(renderable.shader), shaderBits);
+		final long material = renderable.material == null ? 0 : hash(renderable.material.hashCode(), materialBits);
+		final long mesh = hash(System.identityHashCode(renderable.meshPart.mesh), meshBits);
+		final BlendingAttribute blending = renderable.material == null ? null
+			: (BlendingAttribute)renderable.material.get(BlendingAttribute.Type);
+		if (blending != null && blending.blended) {
+			// Back to front.
+			final long inverseDepth = ~depth & ((1L << depthBits) - 1);
+			return blendedBit | inverseDepth << (shaderBits + materialBits + meshBits)
+				| shader << (materialBits + meshBits) | material << meshBits | mesh;
+		}
+		return shader << (materialBits + meshBits + depthBits) | material << (meshBits + depthBits) | mesh << depthBits | depth;
+	}
+
+	static private long hash (int hash, int bits) {
+		hash ^= hash >>> 16;
+		hash *= 0x85EBCA6B;
+		hash ^= hash >>> 13;
+		return hash & ((1L << bits) - 1);
+	}
+
+	private Vector3 getTranslation (Matrix4 worldTransform, Vector3 center, Vector3 output) {
+		if (center.isZero())
+			worldTransform.getTranslation(output);
+		else if (!worldTransform.hasRotationOrScaling())
+			worldTransform.getTranslation(output).add(center);
+		else
+			output.set(center).mul(worldTransform);
+		return output;
+	}
+
+	/** Sorts the first n keys and the indices with them, with a least significant digit radix sort on bytes. Bytes which are the
+	 * same for all keys are skipped. */
+	private void radixSort (final int n) {
+		long[] keys = this.keys, tmpKeys = this.tmpKeys;
+		int[] indices = this.indices, tmpIndices = this.tmpIndices;
+		final int[] counts = this.counts;
+		for (int shift = 0; shift < 64; shift += 8) {
+			for (int i = 0; i < 256; i++)
+				counts[i] = 0;
+			for (int i = 0; i < n; i++)
+				counts[(int)(keys[i] >>> shift) & 0xFF]++;
+			if (counts[(int)(keys[0] >>> shift) & 0xFF] == n) continue;
+			for (int i = 0, offset = 0; i < 256; i++) {
+				final int count = counts[i];
+				counts[i] = offset;
+				offset += count;
+			}
+			for (int i = 0; i < n; i++) {
+				final int index = counts[(int)(keys[i] >>> shift) & 0xFF]++;
+				tmpKeys[index] = keys[i];
+				tmpIndices[index] = indices[i];
+			}
+			long[] swapKeys = keys;
+			keys = tmpKeys;
+			tmpKeys = swapKeys;
+			int[] swapIndices = indices;
+			indices = tmpIndices;
+			tmpIndices = swapIndices;
+		}
+		this.keys = keys;
+		this.tmpKeys = tmpKeys;
+		this.indices = indices;
+		this.tmpIndices = tmpIndices;
+	}
+}
@@ -239,6 +239,7 @@ public class InstanceBufferObject implements InstanceData {
 				if (location < 0) continue;
 				int unitOffset = +attribute.unit;
 				shader.disableVertexAttribute(location + unitOffset);
+				Gdx.gl30.glVertexAttribDivisor(location + unitOffset, 0);
 			}
 		} else {
 			for (int i = 0; i < numAttributes; i++) {
@@ -247,6 +248,7 @@ public class InstanceBufferObject implements InstanceData {
 				if (location < 0) continue;
 				int unitOffset = +attribute.unit;
 				shader.disableVertexAttribute(location + unitOffset);
+				Gdx.gl30.glVertexAttribDivisor(location + unitOffset, 0);
 			}
 		}
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
@@ -419,6 +419,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glBufferData (int target, int size, Buffer data, int usage) {
 		calls++;
+		if (data != null) bufferUploadBytes.put(size);
 		gl20.glBufferData(target, size, data, usage);
 		check();
 	}
@@ -426,6 +427,7 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
 		calls++;
+		bufferUploadBytes.put(size);
 		gl20.glBufferSubData(target, offset, size, data);
 		check();
 	}
@@ -437,6 +437,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glBufferData (int target, int size, Buffer data, int usage) {
 		calls++;
+		if (data != null) bufferUploadBytes.put(size);
 		gl30.glBufferData(target, size, data, usage);
 		check();
 	}
@@ -444,6 +445,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
 		calls++;
+		bufferUploadBytes.put(size);
 		gl30.glBufferSubData(target, offset, size, data);
 		check();
 	}
@@ -1448,6 +1450,7 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public Buffer glMapBufferRange (int target, int offset, int length, int access) {
 		calls++;
+		if ((access & GL_MAP_WRITE_BIT) != 0) bufferUploadBytes.put(length);
 		Buffer result = gl30.glMapBufferRange(target, offset, length, access);
 		check();
 		return result;
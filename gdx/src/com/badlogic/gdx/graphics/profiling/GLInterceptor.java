@@ -26,6 +26,7 @@ public abstract class GLInterceptor implements GL20 {
 	protected int drawCalls;
 	protected int shaderSwitches;
 	protected final FloatCounter vertexCount = new FloatCounter(0);
+	protected final FloatCounter bufferUploadBytes = new FloatCounter(0);
 
 	protected GLProfiler glProfiler;
 
@@ -70,11 +71,16 @@ public abstract class GLInterceptor implements GL20 {
 		return vertexCount;
 	}
 
+	public FloatCounter getBufferUploadBytes () {
+		return bufferUploadBytes;
+	}
+
 	public void reset () {
 		calls = 0;
 		textureBindings = 0;
 		drawCalls = 0;
 		shaderSwitches = 0;
 		vertexCount.reset();
+		bufferUploadBytes.reset();
 	}
 }
@@ -148,6 +148,12 @@ public class GLProfiler {
 		return glInterceptor.getVertexCount();
 	}
 
+	/** @return {@link FloatCounter} containing the number of bytes written to buffer objects by each glBufferData,
+	 *         glBufferSubData and writable glMapBufferRange call since the last reset. Its total is the number of bytes uploaded. */
+	public FloatCounter getBufferUploadBytes () {
+		return glInterceptor.getBufferUploadBytes();
+	}
+
 	/** Will reset the statistical information which has been collected so far. This should be called after every frame. Error
 	 * listener is kept as it is. */
 	public void reset () {
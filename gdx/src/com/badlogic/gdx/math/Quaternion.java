@@ -580,7 +580,19 @@ public class Quaternion implements Serializable {
 	 * @param alpha alpha in the range [0,1]
 	 * @return this quaternion for chaining */
 	public Quaternion slerp (Quaternion end, float alpha) {
-		final float d = this.x * end.x + this.y * end.y + this.z * end.z + this.w * end.w;
+		return slerp(end.x, end.y, end.z, end.w, alpha);
+	}
+
+	/** Spherical linear interpolation between this quaternion and the other quaternion, based on the alpha value in the range
+	 * [0,1].
+	 * @param endX the x component of the end quaternion
+	 * @param endY the y component of the end quaternion
+	 * @param endZ the z component of the end quaternion
+	 * @param endW the w component of the end quaternion
+	 * @param alpha alpha in the range [0,1]
+	 * @return this quaternion for chaining */
+	public Quaternion slerp (float endX, float endY, float endZ, float endW, float alpha) {
+		final float d = this.x * endX + this.y * endY + this.z * endZ + this.w * endW;
 		float absDot = d < 0.f ? -d : d;
 
 		// Set the first and second scale for the interpolation
@@ -604,10 +616,10 @@ public class Quaternion implements Serializable {
 
 		// Calculate the x, y, z and w values for the quaternion by using a
 		// special form of linear interpolation for quaternions.
-		x = (scale0 * x) + (scale1 * end.x);
-		y = (scale0 * y) + (scale1 * end.y);
-		z = (scale0 * z) + (scale1 * end.z);
-		w = (scale0 * w) + (scale1 * end.w);
+		x = (scale0 * x) + (scale1 * endX);
+		y = (scale0 * y) + (scale1 * endY);
+		z = (scale0 * z) + (scale1 * endZ);
+		w = (scale0 * w) + (scale1 * endW);
 
 		// Return the interpolated quaternion
 		return this;
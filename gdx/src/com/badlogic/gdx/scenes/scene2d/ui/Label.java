@@ -21,6 +21,7 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.GlyphLayoutCache;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Null;
@@ -48,6 +49,7 @@ public class Label extends Widget {
 	private float fontScaleX = 1, fontScaleY = 1;
 	private boolean fontScaleChanged = false;
 	private @Null String ellipsis;
+	private @Null GlyphLayoutCache layoutCache;
 
 	public Label (@Null CharSequence text, Skin skin) {
 		this(text, skin.get(LabelStyle.class));
@@ -157,9 +159,11 @@ public class Label extends Widget {
 				width = Math.max(width, style.background.getMinWidth()) - style.background.getLeftWidth()
 					- style.background.getRightWidth();
 			}
-			layout.setText(cache.getFont(), text, Color.WHITE, width, Align.left, true);
-		} else
-			layout.setText(cache.getFont(), text);
+			setText(layout, cache.getFont(), Color.WHITE, width, Align.left, true, null);
+		} else {
+			BitmapFont font = cache.getFont();
+			setText(layout, font, font.getColor(), 0, Align.left, false, null);
+		}
 		prefWidth = layout.width;
 		prefHeight = layout.height;
 	}
@@ -193,7 +197,7 @@ public class Label extends Widget {
 		float textWidth, textHeight;
 		if (wrap || text.indexOf("\n") != -1) {
 			// If the text can span multiple lines, determine the text's actual size so it can be aligned within the label.
-			layout.setText(font, text, 0, text.length, Color.WHITE, width, lineAlign, wrap, ellipsis);
+			setText(layout, font, Color.WHITE, width, lineAlign, wrap, ellipsis);
 			textWidth = layout.width;
 			textHeight = layout.height;
 
@@ -219,12 +223,20 @@ public class Label extends Widget {
 		}
 		if (!cache.getFont().isFlipped()) y += textHeight;
 
-		layout.setText(font, text, 0, text.length, Color.WHITE, textWidth, lineAlign, wrap, ellipsis);
+		setText(layout, font, Color.WHITE, textWidth, lineAlign, wrap, ellipsis);
 		cache.setText(layout, x, y);
 
 		if (fontScaleChanged) font.getData().setScale(oldScaleX, oldScaleY);
 	}
 
+	private void setText (GlyphLayout layout, BitmapFont font, Color color, float targetWidth, int halign, boolean wrap,
+		@Null String truncate) {
+		if (layoutCache != null)
+			layoutCache.setText(layout, font, text, 0, text.length, color, targetWidth, halign, wrap, truncate);
+		else
+			layout.setText(font, text, 0, text.length, color, targetWidth, halign, wrap, truncate);
+	}
+
 	public void draw (Batch batch, float parentAlpha) {
 		validate();
 		Color color = tempColor.set(getColor());
@@ -353,6 +365,17 @@ public class Label extends Widget {
 			this.ellipsis = null;
 	}
 
+	/** Sets the cache used to compute the layout of the text, which avoids laying out the same text again when the label is
+	 * resized or invalidated without changing its text. The cache may be shared by many labels. Default is null. */
+	public void setLayoutCache (@Null GlyphLayoutCache layoutCache) {
+		this.layoutCache = layoutCache;
+		invalidateHierarchy();
+	}
+
+	public @Null GlyphLayoutCache getLayoutCache () {
+		return layoutCache;
+	}
+
 	/** Allows subclasses to access the cache in {@link #draw(Batch, float)}. */
 	protected BitmapFontCache getBitmapFontCache () {
 		return cache;
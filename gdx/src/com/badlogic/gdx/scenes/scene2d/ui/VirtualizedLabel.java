@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
+import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Null;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/** A read only text widget for very large text that mostly grows at the end, such as logs or chat. Unlike {@link Label}, the text
+ * is not laid out as a whole: line breaks are computed from glyph advances and, when text is {@link #append(CharSequence)
+ * appended}, only from the start of the last line. Only the lines in the {@link #setCullingArea(Rectangle) culling area} plus
+ * {@link #setMarginLines(int) margin lines} are laid out and cached, so it should be placed in a {@link ScrollPane}.
+ * <p>
+ * Lines are left aligned. Color markup is not taken into account when breaking lines.
+ * @see Label */
+public class VirtualizedLabel extends Widget implements Cullable {
+	static private final Color tempColor = new Color();
+
+	private LabelStyle style;
+	private final StringBuilder text = new StringBuilder();
+	/** Start and end index of each line. The end excludes the newline. */
+	private final IntArray lines = new IntArray();
+	private boolean wrap;
+	private float wrapWidth = -1;
+	private float maxLineWidth;
+	private BitmapFontCache cache;
+	private int cacheStart, cacheEnd;
+	private boolean cacheInvalid = true;
+	private int marginLines = 20;
+	private @Null Rectangle cullingArea;
+
+	public VirtualizedLabel (@Null CharSequence text, Skin skin) {
+		this(text, skin.get(LabelStyle.class));
+	}
+
+	public VirtualizedLabel (@Null CharSequence text, Skin skin, String styleName) {
+		this(text, skin.get(styleName, LabelStyle.class));
+	}
+
+	public VirtualizedLabel (@Null CharSequence text, LabelStyle style) {
+		setStyle(style);
+		setText(text);
+	}
+
+	public void setStyle (LabelStyle style) {
+		if (style == null) throw new IllegalArgumentException("style cannot be null.");
+		if (style.font == null) throw new IllegalArgumentException("Missing LabelStyle font.");
+		this.style = style;
+		cache = style.font.newFontCache();
+		breakLines(0);
+		invalidateHierarchy();
+	}
+
+	/** Returns the label's style. Modifying the returned style may not have an effect until {@link #setStyle(LabelStyle)} is
+	 * called. */
+	public LabelStyle getStyle () {
+		return style;
+	}
+
+	/** Replaces the text and computes all line breaks.
+	 * @param newText If null, "" will be used. */
+	public void setText (@Null CharSequence newText) {
+		text.clear();
+		if (newText != null) text.append(newText);
+		breakLines(0);
+		invalidateHierarchy();
+	}
+
+	/** Appends to the text. Line breaks are only computed from the start of the last line and the cached glyphs are kept unless
+	 * the last line is cached. */
+	public void append (CharSequence appendText) {
+		if (appendText.length() == 0) return;
+		text.append(appendText);
+		breakLines(lines.size / 2 - 1);
+		invalidateHierarchy();
+	}
+
+	/** Returns the text. It must not be modified directly. */
+	public StringBuilder getText () {
+		return text;
+	}
+
+	public int getLineCount () {
+		return lines.size / 2;
+	}
+
+	/** Returns the index in the text of the first character of the line. */
+	public int getLineStart (int line) {
+		return lines.get(line * 2);
+	}
+
+	/** Returns the index in the text after the last character of the line, excluding the newline. */
+	public int getLineEnd (int line) {
+		return lines.get(line * 2 + 1);
+	}
+
+	/** Recomputes the line breaks from the start of the specified line to the end of the text. */
+	private void breakLines (int fromLine) {
+		if (fromLine < 0) fromLine = 0;
+		int start = fromLine * 2 < lines.size ? lines.get(fromLine * 2) : 0;
+		lines.size = fromLine * 2;
+		if (fromLine == 0) maxLineWidth = 0;
+		if (fromLine == 0 || fromLine < cacheEnd) cacheInvalid = true;
+
+		BitmapFontData data = style.font.getData();
+		float scaleX = data.scaleX, wrapWidth = wrap && this.wrapWidth > 0 ? this.wrapWidth : Float.MAX_VALUE;
+		char[] chars = text.chars;
+		int length = text.length, lineStart = start, breakIndex = -1;
+		float width = 0;
+		Glyph lastGlyph = null;
+		for (int i = start; i < length; i++) {
+			char ch = chars[i];
+			if (ch == '\n') {
+				addLine(lineStart, i > lineStart && chars[i - 1] == '\r' ? i - 1 : i, width);
+				lineStart = i + 1;
+				breakIndex = -1;
+				width = 0;
+				lastGlyph = null;
+				continue;
+			}
+			Glyph glyph = data.getGlyph(ch);
+			if (glyph == null) {
+				glyph = data.missingGlyph;
+				if (glyph == null) continue;
+			}
+			float advance = glyph.xadvance;
+			if (lastGlyph != null) advance += lastGlyph.getKerning(ch);
+			advance *= scaleX;
+			if (width + advance > wrapWidth && i > lineStart && !data.isWhitespace(ch)) {
+				int end = breakIndex > lineStart ? breakIndex : i;
+				addLine(lineStart, end, width);
+				lineStart = end;
+				breakIndex = -1;
+				// Measure the characters moved to the new line.
+				width = 0;
+				lastGlyph = null;
+				for (int ii = lineStart; ii < i; ii++) {
+					Glyph moved = data.getGlyph(chars[ii]);
+					if (moved == null) moved = data.missingGlyph;
+					if (moved == null) continue;
+					width += (lastGlyph != null ? lastGlyph.getKerning(chars[ii]) + moved.xadvance : moved.xadvance) * scaleX;
+					lastGlyph = moved;
+				}
+				advance = glyph.xadvance;
+				if (lastGlyph != null) advance += lastGlyph.getKerning(ch);
+				advance *= scaleX;
+			}
+			width += advance;
+			lastGlyph = glyph;
+			if (data.isWhitespace(ch) || data.isBreakChar(ch)) breakIndex = i + 1;
+		}
+		addLine(lineStart, length, width);
+	}
+
+	private void addLine (int start, int end, float width) {
+		lines.add(start);
+		lines.add(end);
+		maxLineWidth = Math.max(maxLineWidth, width);
+	}
+
+	/** When true, lines longer than the width of the label are broken. Changing the width recomputes all line breaks. */
+	public void setWrap (boolean wrap) {
+		if (this.wrap == wrap) return;
+		this.wrap = wrap;
+		wrapWidth = -1;
+		if (!wrap) breakLines(0);
+		invalidateHierarchy();
+	}
+
+	public boolean getWrap () {
+		return wrap;
+	}
+
+	/** Sets the number of lines above and below the culling area that are laid out and cached, so scrolling a short distance does
+	 * not lay out lines again. Default is 20. */
+	public void setMarginLines (int marginLines) {
+		this.marginLines = marginLines;
+	}
+
+	public int getMarginLines () {
+		return marginLines;
+	}
+
+	public void layout () {
+		if (!wrap) return;
+		Drawable background = style.background;
+		float width = getWidth();
+		if (background != null) width -= background.getLeftWidth() + background.getRightWidth();
+		if (width == wrapWidth) return;
+		wrapWidth = width;
+		float oldPrefHeight = getPrefHeight();
+		breakLines(0);
+		if (getPrefHeight() != oldPrefHeight) invalidateHierarchy();
+	}
+
+	public void draw (Batch batch, float parentAlpha) {
+		validate();
+		Color color = tempColor.set(getColor());
+		color.a *= parentAlpha;
+		Drawable background = style.background;
+		if (background != null) {
+			batch.setColor(color.r, color.g, color.b, color.a);
+			background.draw(batch, getX(), getY(), getWidth(), getHeight());
+		}
+
+		float top = getHeight(), bottom = 0;
+		if (cullingArea != null) {
+			top = Math.min(top, cullingArea.y + cullingArea.height);
+			bottom = Math.max(bottom, cullingArea.y);
+		}
+		if (top <= bottom) return;
+		updateCache(top, bottom);
+
+		if (style.fontColor != null) color.mul(style.fontColor);
+		cache.tint(color);
+		cache.draw(batch);
+	}
+
+	/** Lays out and caches the lines between the specified heights plus the margin lines, if they are not already cached, then
+	 * positions the cache at the top of the label. The glyphs are laid out relative to the top, so the cached lines stay valid
+	 * when the label grows as lines are appended. */
+	void updateCache (float top, float bottom) {
+		BitmapFont font = style.font;
+		float lineHeight = font.getLineHeight(), topHeight = 0;
+		float x = 0;
+		Drawable background = style.background;
+		if (background != null) {
+			x = background.getLeftWidth();
+			topHeight = background.getTopHeight();
+		}
+		float textTop = getHeight() - topHeight;
+		int lineCount = lines.size / 2;
+		int first = Math.max(0, (int)((textTop - top) / lineHeight));
+		int last = Math.min(lineCount, (int)Math.ceil((textTop - bottom) / lineHeight) + 1);
+		if (cacheInvalid || first < cacheStart || last > cacheEnd) {
+			cacheStart = Math.max(0, first - marginLines);
+			cacheEnd = Math.min(lineCount, last + marginLines);
+			cacheInvalid = false;
+			cache.clear();
+			float y = -topHeight + font.getDescent() - cacheStart * lineHeight;
+			int[] lines = this.lines.items;
+			for (int i = cacheStart; i < cacheEnd; i++, y -= lineHeight) {
+				int start = lines[i * 2], end = lines[i * 2 + 1];
+				if (start < end) cache.addText(text, x, y, start, end, 0, Align.left, false);
+			}
+		}
+		cache.setPosition(getX(), getY() + getHeight());
+	}
+
+	/** Allows subclasses to access the cache in {@link #draw(Batch, float)}. */
+	protected BitmapFontCache getBitmapFontCache () {
+		return cache;
+	}
+
+	/** Returns the first line laid out by the last draw. */
+	public int getCacheStart () {
+		return cacheStart;
+	}
+
+	/** Returns the line after the last line laid out by the last draw. */
+	public int getCacheEnd () {
+		return cacheEnd;
+	}
+
+	public float getPrefWidth () {
+		if (wrap) return 0;
+		float width = maxLineWidth;
+		Drawable background = style.background;
+		if (background != null)
+			width = Math.max(width + background.getLeftWidth() + background.getRightWidth(), background.getMinWidth());
+		return width;
+	}
+
+	public float getPrefHeight () {
+		BitmapFont font = style.font;
+		float height = (lines.size / 2 - 1) * font.getLineHeight() + font.getCapHeight() - font.getDescent() * 2;
+		Drawable background = style.background;
+		if (background != null)
+			height = Math.max(height + background.getTopHeight() + background.getBottomHeight(), background.getMinHeight());
+		return height;
+	}
+
+	public void setCullingArea (@Null Rectangle cullingArea) {
+		this.cullingArea = cullingArea;
+	}
+
+	/** @return May be null.
+	 * @see #setCullingArea(Rectangle) */
+	public @Null Rectangle getCullingArea () {
+		return cullingArea;
+	}
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/** Builder style API for emitting JSON, implemented by {@link JsonWriter} for text and {@link UBJsonWriter} for binary output.
+ * @see Json#getBaseWriter() */
+public interface BaseJsonWriter extends Closeable, Flushable {
+	BaseJsonWriter name (String name) throws IOException;
+
+	BaseJsonWriter object () throws IOException;
+
+	BaseJsonWriter array () throws IOException;
+
+	/** @param value May be null. */
+	BaseJsonWriter value (@Null Object value) throws IOException;
+
+	BaseJsonWriter object (String name) throws IOException;
+
+	BaseJsonWriter array (String name) throws IOException;
+
+	/** @param value May be null. */
+	BaseJsonWriter set (String name, @Null Object value) throws IOException;
+
+	/** Ends the current object or array. */
+	BaseJsonWriter pop () throws IOException;
+}
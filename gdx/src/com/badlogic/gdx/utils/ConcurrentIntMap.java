@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** A map that can be used from multiple threads, with the same low allocation characteristics as {@link IntMap}. No allocation
+ * is done except when growing the table size.
+ * <p>
+ * The map is split into segments, each an {@link IntMap} guarded by its own lock. A key always goes to the same segment, so
+ * threads using keys in different segments don't block each other. The number of segments is the concurrency level, the
+ * expected number of threads using the map at the same time.
+ * <p>
+ * Iteration is done by copying the keys, values or entries to a caller supplied collection, see {@link #keys(IntArray)},
+ * {@link #values(Array)} and {@link #copyTo(IntMap)}. Each segment is copied atomically, but changes to other segments made
+ * during the copy may or may not be seen.
+ * <p>
+ * On GWT there is only one thread, so this is emulated by a single {@link IntMap}. */
+public class ConcurrentIntMap<V> {
+	private final IntMap<V>[] segments;
+	private final int segmentShift;
+
+	/** Creates a new map with an initial capacity of 51 and a concurrency level of 16. */
+	public ConcurrentIntMap () {
+		this(51, 16);
+	}
+
+	/** Creates a new map with a concurrency level of 16.
+	 * @param initialCapacity The number of items the map holds before any segment is grown, if keys are evenly distributed. */
+	public ConcurrentIntMap (int initialCapacity) {
+		this(initialCapacity, 16);
+	}
+
+	/** @param initialCapacity The number of items the map holds before any segment is grown, if keys are evenly distributed.
+	 * @param concurrencyLevel The number of segments, increased to the next power of two. */
+	public ConcurrentIntMap (int initialCapacity, int concurrencyLevel) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("initialCapacity must be >= 0: " + initialCapacity);
+		if (concurrencyLevel <= 0) throw new IllegalArgumentException("concurrencyLevel must be > 0: " + concurrencyLevel);
+		int segmentCount = MathUtils.nextPowerOfTwo(concurrencyLevel);
+		segments = new IntMap[segmentCount];
+		int segmentCapacity = (initialCapacity + segmentCount - 1) / segmentCount;
+		for (int i = 0; i < segmentCount; i++)
+			segments[i] = new IntMap(segmentCapacity);
+		segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+	}
+
+	/** Returns the segment for the key. The lower half of the Fibonacci hash is used, because IntMap uses the upper bits to
+	 * place keys in its table. */
+	private IntMap<V> segment (int key) {
+		if (segments.length == 1) return segments[0];
+		return segments[(int)((key * 0x9E3779B97F4A7C15L) << 32 >>> segmentShift)];
+	}
+
+	/** Returns the value for the specified key, or null if the key is not in the map. */
+	public @Null V get (int key) {
+		IntMap<V> segment = segment(key);
+		synchronized (segment) {
+			return segment.get(key);
+		}
+	}
+
+	/** Returns the value for the specified key, or the default value if the key is not in the map. */
+	public V get (int key, @Null V defaultValue) {
+		IntMap<V> segment = segment(key);
+		synchronized (segment) {
+			return segment.get(key, defaultValue);
+		}
+	}
+
+	/** Returns the old value associated with the specified key, or null. */
+	public @Null V put (int key, @Null V value) {
+		IntMap<V> segment = segment(key);
+		synchronized (segment) {
+			return segment.put(key, value);
+		}
+	}
+
+	/** Puts the value only if the key is not in the map.
+	 * @return The value already in the map for the key, or null if the specified value was put. */
+	public @Null V putIfAbsent (int key, @Null V value) {
+		IntMap<V> segment = segment(key);
+		synchronized (segment) {
+			if (segment.containsKey(key)) return segment.get(key);
+			segment.put(key, value);
+			return null;
+		}
+	}
+
+	/** Returns the value for the specified key. If the key is not in the map, the value is created by the factory and put into
+	 * the map. The factory is called at most once per missing key, while holding the lock for the key's segment, so it should be
+	 * fast and must not use this map.
+	 * @return The existing value or the value created by the factory. */
+	public V computeIfAbsent (int key, ValueFactory<V> factory) {
+		IntMap<V> segment = segment(key);
+		synchronized (segment) {
+			V value = segment.get(key);
+			if (value == null && !segment.containsKey(key)) {
+				value = factory.create(key);
+				segment.put(key, value);
+			}
+			return value;
+		}
+	}
+
+	/** Returns the value for the removed key, or null if the key is not in the map. */
+	public @Null V remove (int key) {
+		IntMap<V> segment = segment(key);
+		synchronized (segment) {
+			return segment.remove(key);
+		}
+	}
+
+	public boolean containsKey (int key) {
+		IntMap<V> segment = segment(key);
+		synchronized (segment) {
+			return segment.containsKey(key);
+		}
+	}
+
+	/** Returns the number of items in the map. This is only a snapshot when other threads are changing the map. */
+	public int size () {
+		int size = 0;
+		for (IntMap<V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size;
+			}
+		}
+		return size;
+	}
+
+	public boolean isEmpty () {
+		return size() == 0;
+	}
+
+	public boolean notEmpty () {
+		return size() > 0;
+	}
+
+	public void clear () {
+		for (IntMap<V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/** Adds the keys in the map to the specified array.
+	 * @return The array passed in. */
+	public IntArray keys (IntArray keys) {
+		for (IntMap<V> segment : segments) {
+			synchronized (segment) {
+				if (segment.hasZeroValue) keys.add(0);
+				int[] keyTable = segment.keyTable;
+				for (int i = 0, n = keyTable.length; i < n; i++)
+					if (keyTable[i] != 0) keys.add(keyTable[i]);
+			}
+		}
+		return keys;
+	}
+
+	/** Adds the values in the map to the specified array.
+	 * @return The array passed in. */
+	public Array<V> values (Array<V> values) {
+		for (IntMap<V> segment : segments) {
+			synchronized (segment) {
+				if (segment.hasZeroValue) values.add(segment.zeroValue);
+				int[] keyTable = segment.keyTable;
+				V[] valueTable = segment.valueTable;
+				for (int i = 0, n = keyTable.length; i < n; i++)
+					if (keyTable[i] != 0) values.add(valueTable[i]);
+			}
+		}
+		return values;
+	}
+
+	/** Puts all the entries in this map into the specified map.
+	 * @return The map passed in. */
+	public IntMap<V> copyTo (IntMap<V> map) {
+		for (IntMap<V> segment : segments) {
+			synchronized (segment) {
+				map.putAll(segment);
+			}
+		}
+		return map;
+	}
+
+	public String toString () {
+		return copyTo(new IntMap()).toString();
+	}
+
+	/** Creates the value for a key that is not in a map.
+	 * @see ConcurrentIntMap#computeIfAbsent(int, ValueFactory) */
+	static public interface ValueFactory<V> {
+		public V create (int key);
+	}
+}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** A {@link Pool} that can be used from multiple threads concurrently without external synchronization. Each thread keeps a
+ * small cache of free objects which it can obtain from and free to without contention. When a thread's cache is empty or full,
+ * objects are taken from or given to a lock-free bounded queue shared by all threads.
+ * <p>
+ * The {@link #max} bound applies to all free objects, cached by any thread or shared. The shared queue holds at most
+ * {@link #sharedCapacity} objects, when both the shared queue and the freeing thread's cache are full the object is
+ * {@link #discard(Object) discarded}. Objects are {@link #reset(Object) reset} before they become visible to other threads.
+ * <p>
+ * {@link #clear()} only discards objects cached by the calling thread and the shared queue, objects cached by other threads
+ * stay in those threads' caches.
+ * <p>
+ * {@link #peak} is only written while holding this pool's monitor, so concurrent frees do not lose updates. */
+abstract public class ConcurrentPool<T> extends Pool<T> {
+	/** The number of objects the shared queue can hold, a power of two. */
+	public final int sharedCapacity;
+	/** The maximum number of free objects each thread caches before freed objects go to the shared queue. */
+	public final int threadCacheSize;
+
+	private final AtomicInteger free = new AtomicInteger();
+	private final SharedQueue<T> shared;
+	private final ThreadLocal<Array<T>> threadCache = new ThreadLocal<Array<T>>() {
+		protected Array<T> initialValue () {
+			return new Array(false, threadCacheSize);
+		}
+	};
+
+	/** Creates a pool with an initial capacity of 16 and no maximum. */
+	public ConcurrentPool () {
+		this(16, Integer.MAX_VALUE);
+	}
+
+	/** Creates a pool with the specified initial capacity and no maximum. */
+	public ConcurrentPool (int initialCapacity) {
+		this(initialCapacity, Integer.MAX_VALUE);
+	}
+
+	/** Creates a pool with a per thread cache of 16 objects and a shared queue of up to 1024 objects, or {@code max} if less.
+	 * @param initialCapacity The initial number of objects the shared queue can hold if larger than 1024.
+	 * @param max The maximum number of free objects to store in this pool. */
+	public ConcurrentPool (int initialCapacity, int max) {
+		this(initialCapacity, max, 16);
+	}
+
+	/** @param initialCapacity The initial number of objects the shared queue can hold if larger than 1024.
+	 * @param max The maximum number of free objects to store in this pool.
+	 * @param threadCacheSize The maximum number of free objects each thread caches before using the shared queue. */
+	public ConcurrentPool (int initialCapacity, int max, int threadCacheSize) {
+		super(0, max);
+		if (threadCacheSize < 0) throw new IllegalArgumentException("threadCacheSize must be >= 0: " + threadCacheSize);
+		this.threadCacheSize = threadCacheSize;
+		shared = new SharedQueue(MathUtils.nextPowerOfTwo(Math.max(1, Math.min(max, Math.max(initialCapacity, 1024)))));
+		sharedCapacity = shared.items.length();
+	}
+
+	/** Returns an object from this pool. The object is taken from the calling thread's cache, then from the shared queue, and is
+	 * created with {@link #newObject()} if neither has a free object. */
+	public T obtain () {
+		Array<T> cache = threadCache.get();
+		T object = cache.size > 0 ? cache.pop() : shared.poll();
+		boolean created = object == null;
+		if (created)
+			object = newObject();
+		else
+			free.decrementAndGet();
+		PoolStats stats = getStats();
+		if (stats != null) {
+			synchronized (stats) {
+				stats.obtained(object, created);
+			}
+		}
+		return object;
+	}
+
+	/** Puts the specified object in the pool, making it eligible to be returned by {@link #obtain()} on any thread. If the pool
+	 * already contains {@link #max} free objects, the specified object is {@link #discard(Object) discarded}.
+	 * <p>
+	 * The pool does not check if an object is already freed, so the same object must not be freed multiple times. */
+	public void free (T object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		free(object, threadCache.get());
+	}
+
+	private void free (T object, Array<T> cache) {
+		int count = free.incrementAndGet();
+		boolean discarded = false;
+		if (count > max) {
+			free.decrementAndGet();
+			discard(object);
+			discarded = true;
+		} else {
+			if (count > peak) updatePeak(count);
+			reset(object);
+			if (cache.size < threadCacheSize)
+				cache.add(object);
+			else if (!shared.offer(object)) {
+				free.decrementAndGet();
+				discard(object);
+				discarded = true;
+			}
+		}
+		PoolStats stats = getStats();
+		if (stats != null) {
+			synchronized (stats) {
+				stats.freed(object, discarded);
+			}
+		}
+	}
+
+	/** Adds the specified number of new free objects to the shared queue, so they can be obtained by any thread. */
+	public void fill (int size) {
+		for (int i = 0; i < size; i++) {
+			if (free.incrementAndGet() > max) {
+				free.decrementAndGet();
+				break;
+			}
+			if (!shared.offer(newObject())) {
+				free.decrementAndGet();
+				break;
+			}
+		}
+		updatePeak(free.get());
+	}
+
+	/** Sets {@link #peak} if the count is higher. Only called when a new maximum is likely, so the lock is rarely taken. */
+	private synchronized void updatePeak (int count) {
+		if (count > peak) peak = count;
+	}
+
+	/** Puts the specified objects in the pool. Null objects within the array are silently ignored.
+	 * <p>
+	 * The pool does not check if an object is already freed, so the same object must not be freed multiple times.
+	 * @see #free(Object) */
+	public void freeAll (Array<T> objects) {
+		if (objects == null) throw new IllegalArgumentException("objects cannot be null.");
+		Array<T> cache = threadCache.get();
+		for (int i = 0, n = objects.size; i < n; i++) {
+			T object = objects.get(i);
+			if (object != null) free(object, cache);
+		}
+	}
+
+	/** Removes and discards all free objects from the calling thread's cache and the shared queue. */
+	public void clear () {
+		Array<T> cache = threadCache.get();
+		int discarded = cache.size;
+		for (int i = 0; i < discarded; i++)
+			discard(cache.get(i));
+		free.addAndGet(-discarded);
+		cache.clear();
+		for (T object; (object = shared.poll()) != null; discarded++) {
+			free.decrementAndGet();
+			discard(object);
+		}
+		PoolStats stats = getStats();
+		if (stats != null) {
+			synchronized (stats) {
+				stats.discarded(discarded);
+			}
+		}
+	}
+
+	/** The number of free objects in all thread caches and the shared queue. This is only a snapshot when other threads are using
+	 * the pool. */
+	public int getFree () {
+		return free.get();
+	}
+
+	/** A bounded multi-producer multi-consumer queue which does not allocate when objects are added or removed. Each slot has a
+	 * sequence number which tells producers and consumers whether the slot is free or filled for the current lap around the
+	 * queue, so a slot is claimed with a single compare-and-set on the enqueue or dequeue position. */
+	static private class SharedQueue<T> {
+		final AtomicReferenceArray<T> items;
+		final AtomicLongArray sequences;
+		final int mask;
+		final AtomicLong enqueuePosition = new AtomicLong(), dequeuePosition = new AtomicLong();
+
+		SharedQueue (int capacity) {
+			items = new AtomicReferenceArray(capacity);
+			sequences = new AtomicLongArray(capacity);
+			for (int i = 0; i < capacity; i++)
+				sequences.set(i, i);
+			mask = capacity - 1;
+		}
+
+		boolean offer (T object) {
+			long position = enqueuePosition.get();
+			int index;
+			while (true) {
+				index = (int)(position & mask);
+				long difference = sequences.get(index) - position;
+				if (difference == 0) {
+					if (enqueuePosition.compareAndSet(position, position + 1)) break;
+					position = enqueuePosition.get();
+				} else if (difference < 0)
+					return false; // Full.
+				else
+					position = enqueuePosition.get();
+			}
+			items.set(index, object);
+			sequences.set(index, position + 1);
+			return true;
+		}
+
+		@Null
+		T poll () {
+			long position = dequeuePosition.get();
+			int index;
+			while (true) {
+				index = (int)(position & mask);
+				long difference = sequences.get(index) - (position + 1);
+				if (difference == 0) {
+					if (dequeuePosition.compareAndSet(position, position + 1)) break;
+					position = dequeuePosition.get();
+				} else if (difference < 0)
+					return null; // Empty.
+				else
+					position = dequeuePosition.get();
+			}
+			T object = items.get(index);
+			items.set(index, null);
+			sequences.set(index, position + mask + 1);
+			return object;
+		}
+	}
+}
@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/** A resizable, ordered or unordered float array backed by a direct buffer in native memory, see {@link FloatArray}. The buffer
+ * can be passed to OpenGL or native code without first copying the items from the Java heap, eg with
+ * {@link com.badlogic.gdx.graphics.Mesh#setVertices(FloatBuffer)}.
+ * <p>
+ * The memory is allocated with {@link BufferUtils#newUnsafeByteBuffer(int)}, so it is included in
+ * {@link BufferUtils#getAllocatedBytesUnsafe()}, and must be released with {@link #dispose()}. The buffer is replaced when the
+ * array grows, so {@link #getBuffer()} should not be kept across calls that add items. */
+public class DirectFloatArray implements Disposable {
+	private ByteBuffer bytes;
+	private FloatBuffer items;
+	public int size;
+	public boolean ordered;
+
+	/** Creates an ordered array with a capacity of 16. */
+	public DirectFloatArray () {
+		this(true, 16);
+	}
+
+	/** Creates an ordered array with the specified capacity. */
+	public DirectFloatArray (int capacity) {
+		this(true, capacity);
+	}
+
+	/** @param ordered If false, methods that remove elements may change the order of other elements in the array, which avoids a
+	 *           memory copy.
+	 * @param capacity Any elements added beyond this will cause the backing buffer to be grown. */
+	public DirectFloatArray (boolean ordered, int capacity) {
+		this.ordered = ordered;
+		resize(capacity);
+	}
+
+	/** Creates a new ordered array containing the elements in the specified array. The capacity is set to the number of elements,
+	 * so any subsequent elements added will cause the backing buffer to be grown. */
+	public DirectFloatArray (FloatArray array) {
+		this(array.ordered, array.size);
+		addAll(array.items, 0, array.size);
+	}
+
+	public void add (float value) {
+		FloatBuffer items = this.items;
+		if (size + 1 > items.limit()) items = grow(size + 1);
+		items.put(size++, value);
+	}
+
+	public void add (float value1, float value2) {
+		FloatBuffer items = this.items;
+		if (size + 2 > items.limit()) items = grow(size + 2);
+		items.put(size, value1);
+		items.put(size + 1, value2);
+		size += 2;
+	}
+
+	public void add (float value1, float value2, float value3) {
+		FloatBuffer items = this.items;
+		if (size + 3 > items.limit()) items = grow(size + 3);
+		items.put(size, value1);
+		items.put(size + 1, value2);
+		items.put(size + 2, value3);
+		size += 3;
+	}
+
+	public void add (float value1, float value2, float value3, float value4) {
+		FloatBuffer items = this.items;
+		if (size + 4 > items.limit()) items = grow(size + 4);
+		items.put(size, value1);
+		items.put(size + 1, value2);
+		items.put(size + 2, value3);
+		items.put(size + 3, value4);
+		size += 4;
+	}
+
+	public void addAll (FloatArray array) {
+		addAll(array.items, 0, array.size);
+	}
+
+	public void addAll (float... array) {
+		addAll(array, 0, array.length);
+	}
+
+	public void addAll (float[] array, int offset, int length) {
+		FloatBuffer items = this.items;
+		int sizeNeeded = size + length;
+		if (sizeNeeded > items.limit()) items = grow(sizeNeeded);
+		((Buffer)items).position(size);
+		items.put(array, offset, length);
+		((Buffer)items).clear();
+		size = sizeNeeded;
+	}
+
+	public float get (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return items.get(index);
+	}
+
+	public void set (int index, float value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		items.put(index, value);
+	}
+
+	public void incr (int index, float value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		items.put(index, items.get(index) + value);
+	}
+
+	public void insert (int index, float value) {
+		if (index > size) throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
+		FloatBuffer items = this.items;
+		if (size + 1 > items.limit()) items = grow(size + 1);
+		if (ordered) {
+			for (int i = size; i > index; i--)
+				items.put(i, items.get(i - 1));
+		} else
+			items.put(size, items.get(index));
+		size++;
+		items.put(index, value);
+	}
+
+	public void swap (int first, int second) {
+		if (first >= size) throw new IndexOutOfBoundsException("first can't be >= size: " + first + " >= " + size);
+		if (second >= size) throw new IndexOutOfBoundsException("second can't be >= size: " + second + " >= " + size);
+		FloatBuffer items = this.items;
+		float firstValue = items.get(first);
+		items.put(first, items.get(second));
+		items.put(second, firstValue);
+	}
+
+	public boolean contains (float value) {
+		return indexOf(value) != -1;
+	}
+
+	public int indexOf (float value) {
+		FloatBuffer items = this.items;
+		for (int i = 0, n = size; i < n; i++)
+			if (items.get(i) == value) return i;
+		return -1;
+	}
+
+	public boolean removeValue (float value) {
+		int index = indexOf(value);
+		if (index == -1) return false;
+		removeIndex(index);
+		return true;
+	}
+
+	/** Removes and returns the item at the specified index. */
+	public float removeIndex (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		FloatBuffer items = this.items;
+		float value = items.get(index);
+		size--;
+		if (ordered) {
+			for (int i = index, n = size; i < n; i++)
+				items.put(i, items.get(i + 1));
+		} else
+			items.put(index, items.get(size));
+		return value;
+	}
+
+	/** Removes the items between the specified indices, inclusive. */
+	public void removeRange (int start, int end) {
+		int n = size;
+		if (end >= n) throw new IndexOutOfBoundsException("end can't be >= size: " + end + " >= " + size);
+		if (start > end) throw new IndexOutOfBoundsException("start can't be > end: " + start + " > " + end);
+		FloatBuffer items = this.items;
+		int count = end - start + 1, lastIndex = n - count;
+		int from = ordered ? start + count : Math.max(lastIndex, end + 1);
+		for (int i = from, ii = start; i < n; i++, ii++)
+			items.put(ii, items.get(i));
+		size = n - count;
+	}
+
+	/** Removes and returns the last item. */
+	public float pop () {
+		return items.get(--size);
+	}
+
+	/** Returns the last item. */
+	public float peek () {
+		return items.get(size - 1);
+	}
+
+	/** Returns the first item. */
+	public float first () {
+		if (size == 0) throw new IllegalStateException("Array is empty.");
+		return items.get(0);
+	}
+
+	/** Returns true if the array has one or more items. */
+	public boolean notEmpty () {
+		return size > 0;
+	}
+
+	/** Returns true if the array is empty. */
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	public void clear () {
+		size = 0;
+	}
+
+	/** Returns the number of items the backing buffer can hold before it is grown. */
+	public int capacity () {
+		return items.capacity();
+	}
+
+	/** Reduces the size of the backing buffer to the size of the actual items. */
+	public void shrink () {
+		if (items.capacity() != size) resize(size);
+	}
+
+	/** Increases the size of the backing buffer to accommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple backing buffer resizes. */
+	public void ensureCapacity (int additionalCapacity) {
+		if (additionalCapacity < 0) throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
+		int sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded > items.capacity()) grow(sizeNeeded);
+	}
+
+	/** Sets the array size, leaving any values beyond the current size undefined. */
+	public void setSize (int newSize) {
+		if (newSize < 0) throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+		if (newSize > items.limit()) grow(newSize);
+		size = newSize;
+	}
+
+	/** Reduces the size of the array to the specified size. If the array is already smaller than the specified size, no action is
+	 * taken. */
+	public void truncate (int newSize) {
+		if (size > newSize) size = newSize;
+	}
+
+	/** Returns the items with a limit of at least the specified size, growing the backing buffer if needed. The limit is lowered
+	 * by {@link #getBuffer()}, so it is reset here before writing past the current size. */
+	private FloatBuffer grow (int sizeNeeded) {
+		if (sizeNeeded <= items.capacity()) {
+			((Buffer)items).clear();
+			return items;
+		}
+		return resize(Math.max(Math.max(8, sizeNeeded), (int)(size * 1.75f)));
+	}
+
+	protected FloatBuffer resize (int newSize) {
+		ByteBuffer newBytes = newBuffer(newSize * 4);
+		newBytes.order(ByteOrder.nativeOrder());
+		FloatBuffer newItems = newBytes.asFloatBuffer();
+		if (bytes != null) {
+			int count = Math.min(size, newSize);
+			((Buffer)items).position(0);
+			((Buffer)items).limit(count);
+			newItems.put(items);
+			((Buffer)newItems).clear();
+			freeBuffer(bytes);
+		}
+		bytes = newBytes;
+		items = newItems;
+		return newItems;
+	}
+
+	/** Allocates the direct buffer used to store the items. By default {@link BufferUtils#newUnsafeByteBuffer(int)} is used. */
+	protected ByteBuffer newBuffer (int numBytes) {
+		return BufferUtils.newUnsafeByteBuffer(numBytes);
+	}
+
+	/** Releases a buffer returned by {@link #newBuffer(int)}. */
+	protected void freeBuffer (ByteBuffer buffer) {
+		BufferUtils.disposeUnsafeByteBuffer(buffer);
+	}
+
+	/** Returns the backing buffer with its position set to 0 and its limit set to {@link #size}. The buffer is only valid until
+	 * the array is grown or disposed. */
+	public FloatBuffer getBuffer () {
+		((Buffer)items).position(0);
+		((Buffer)items).limit(size);
+		return items;
+	}
+
+	/** Returns the backing buffer as bytes, with its position set to 0 and its limit set to the number of bytes used by the items.
+	 * The buffer is only valid until the array is grown or disposed. */
+	public ByteBuffer getByteBuffer () {
+		((Buffer)bytes).position(0);
+		((Buffer)bytes).limit(size * 4);
+		return bytes;
+	}
+
+	public float[] toArray () {
+		float[] array = new float[size];
+		FloatBuffer items = getBuffer();
+		items.get(array);
+		((Buffer)items).clear();
+		return array;
+	}
+
+	/** Releases the native memory. The array must not be used afterward. */
+	public void dispose () {
+		if (bytes == null) return;
+		freeBuffer(bytes);
+		bytes = null;
+		items = null;
+		size = 0;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		FloatBuffer items = this.items;
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		buffer.append(items.get(0));
+		for (int i = 1; i < size; i++) {
+			buffer.append(", ");
+			buffer.append(items.get(i));
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+}
@@ -16,8 +16,11 @@
 
 package com.badlogic.gdx.utils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -30,7 +33,9 @@ import java.util.Map;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.IntSet.IntSetIterator;
+import com.badlogic.gdx.utils.JsonPullParser.Token;
 import com.badlogic.gdx.utils.JsonValue.PrettyPrintSettings;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gdx.utils.reflect.ArrayReflection;
@@ -45,7 +50,7 @@ import com.badlogic.gdx.utils.reflect.ReflectionException;
 public class Json {
 	static private final boolean debug = false;
 
-	private JsonWriter writer;
+	private BaseJsonWriter writer;
 	private String typeName = "class";
 	private boolean usePrototypes = true;
 	private OutputType outputType;
@@ -62,6 +67,7 @@ public class Json {
 	private final ObjectMap<Class, Serializer> classToSerializer = new ObjectMap();
 	private final ObjectMap<Class, Object[]> classToDefaultValues = new ObjectMap();
 	private final Object[] equals1 = {null}, equals2 = {null};
+	private final JsonValue streamValue = new JsonValue(ValueType.nullValue);
 
 	public Json () {
 		outputType = OutputType.minimal;
@@ -282,15 +288,79 @@ public class Json {
 		}
 	}
 
+	/** Writes the object as UBJSON, a binary form of JSON that can be read with {@link #fromUBJson(Class, byte[])}. Primitive
+	 * arrays are written as optimized UBJSON arrays, which store the element type and count once. */
+	public byte[] toUBJson (@Null Object object) {
+		return toUBJson(object, object == null ? null : object.getClass(), null);
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @see #toUBJson(Object) */
+	public byte[] toUBJson (@Null Object object, @Null Class knownType, @Null Class elementType) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+		toUBJson(object, knownType, elementType, buffer);
+		return buffer.toByteArray();
+	}
+
+	/** @see #toUBJson(Object) */
+	public void toUBJson (@Null Object object, FileHandle file) {
+		toUBJson(object, object == null ? null : object.getClass(), null, file);
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @see #toUBJson(Object) */
+	public void toUBJson (@Null Object object, @Null Class knownType, @Null Class elementType, FileHandle file) {
+		OutputStream output = null;
+		try {
+			output = file.write(false, 8192);
+			toUBJson(object, knownType, elementType, output);
+		} catch (Exception ex) {
+			throw new SerializationException("Error writing file: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(output);
+		}
+	}
+
+	/** For best performance the stream should be buffered. The stream is closed afterward.
+	 * @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @see #toUBJson(Object) */
+	public void toUBJson (@Null Object object, @Null Class knownType, @Null Class elementType, OutputStream output) {
+		setWriter(new UBJsonWriter(output));
+		try {
+			writeValue(object, knownType, elementType);
+		} finally {
+			StreamUtils.closeQuietly(this.writer);
+			this.writer = null;
+		}
+	}
+
 	/** Sets the writer where JSON output will be written. This is only necessary when not using the toJson methods. */
 	public void setWriter (Writer writer) {
 		if (!(writer instanceof JsonWriter)) writer = new JsonWriter(writer);
-		this.writer = (JsonWriter)writer;
-		this.writer.setOutputType(outputType);
-		this.writer.setQuoteLongValues(quoteLongValues);
+		JsonWriter jsonWriter = (JsonWriter)writer;
+		jsonWriter.setOutputType(outputType);
+		jsonWriter.setQuoteLongValues(quoteLongValues);
+		this.writer = jsonWriter;
+	}
+
+	/** Sets the writer where UBJSON output will be written. This is only necessary when not using the toUBJson methods. */
+	public void setWriter (UBJsonWriter writer) {
+		this.writer = writer;
 	}
 
-	public JsonWriter getWriter () {
+	/** Returns the {@link JsonWriter} output is being written to, or null.
+	 * @throws IllegalStateException if output is being written to a {@link UBJsonWriter}, see {@link #getBaseWriter()}. */
+	public @Null JsonWriter getWriter () {
+		if (writer instanceof UBJsonWriter) throw new IllegalStateException("UBJSON is being written, use getBaseWriter().");
+		return (JsonWriter)writer;
+	}
+
+	/** Returns the {@link JsonWriter} or {@link UBJsonWriter} output is being written to, or null. Serializers that should work
+	 * with both {@link #toJson(Object)} and {@link #toUBJson(Object)} write through this. */
+	public @Null BaseJsonWriter getBaseWriter () {
 		return writer;
 	}
 
@@ -308,23 +378,29 @@ public class Json {
 			if (ignoreDeprecated && metadata.deprecated) continue;
 			Field field = metadata.field;
 			try {
-				Object value = field.get(object);
-				if (defaultValues != null) {
-					Object defaultValue = defaultValues[defaultIndex++];
-					if (value == null && defaultValue == null) continue;
-					if (value != null && defaultValue != null) {
-						if (value.equals(defaultValue)) continue;
-						if (value.getClass().isArray() && defaultValue.getClass().isArray()) {
-							equals1[0] = value;
-							equals2[0] = defaultValue;
-							if (Arrays.deepEquals(equals1, equals2)) continue;
+				Object value;
+				if (metadata.primitive) {
+					value = getPrimitive(object, metadata, defaultValues != null ? defaultValues[defaultIndex++] : null);
+					if (value == null) continue;
+				} else {
+					value = field.get(object);
+					if (defaultValues != null) {
+						Object defaultValue = defaultValues[defaultIndex++];
+						if (value == null && defaultValue == null) continue;
+						if (value != null && defaultValue != null) {
+							if (value.equals(defaultValue)) continue;
+							if (value.getClass().isArray() && defaultValue.getClass().isArray()) {
+								equals1[0] = value;
+								equals2[0] = defaultValue;
+								if (Arrays.deepEquals(equals1, equals2)) continue;
+							}
 						}
 					}
 				}
 
 				if (debug) System.out.println("Writing field: " + field.getName() + " (" + type.getName() + ")");
 				writer.name(field.getName());
-				writeValue(value, field.getType(), metadata.elementType);
+				writeValue(value, metadata.type, metadata.elementType);
 			} catch (ReflectionException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
 			} catch (SerializationException ex) {
@@ -338,6 +414,53 @@ public class Json {
 		}
 	}
 
+	/** Reads a primitive field without boxing and compares it to the default value the same way {@link Object#equals(Object)}
+	 * would.
+	 * @param defaultValue May be null if there are no default values.
+	 * @return The boxed value, or null if it equals the default value and should not be written. */
+	private @Null Object getPrimitive (Object object, FieldMetadata metadata, @Null Object defaultValue) throws ReflectionException {
+		Field field = metadata.field;
+		Class type = metadata.type;
+		if (type == float.class) {
+			float value = field.getFloat(object);
+			if (defaultValue != null && Float.floatToIntBits(value) == Float.floatToIntBits((Float)defaultValue)) return null;
+			return value;
+		}
+		if (type == int.class) {
+			int value = field.getInt(object);
+			if (defaultValue != null && value == (Integer)defaultValue) return null;
+			return value;
+		}
+		if (type == boolean.class) {
+			boolean value = field.getBoolean(object);
+			if (defaultValue != null && value == (Boolean)defaultValue) return null;
+			return value;
+		}
+		if (type == long.class) {
+			long value = field.getLong(object);
+			if (defaultValue != null && value == (Long)defaultValue) return null;
+			return value;
+		}
+		if (type == double.class) {
+			double value = field.getDouble(object);
+			if (defaultValue != null && Double.doubleToLongBits(value) == Double.doubleToLongBits((Double)defaultValue)) return null;
+			return value;
+		}
+		if (type == short.class) {
+			short value = field.getShort(object);
+			if (defaultValue != null && value == (Short)defaultValue) return null;
+			return value;
+		}
+		if (type == byte.class) {
+			byte value = field.getByte(object);
+			if (defaultValue != null && value == (Byte)defaultValue) return null;
+			return value;
+		}
+		char value = field.getChar(object);
+		if (defaultValue != null && value == (Character)defaultValue) return null;
+		return value;
+	}
+
 	private @Null Object[] getDefaultValues (Class type) {
 		if (!usePrototypes) return null;
 		if (classToDefaultValues.containsKey(type)) return classToDefaultValues.get(type);
@@ -489,6 +612,7 @@ public class Json {
 			if ((knownType != null && knownType.isPrimitive()) || knownType == String.class || knownType == Integer.class
 				|| knownType == Boolean.class || knownType == Float.class || knownType == Long.class || knownType == Double.class
 				|| knownType == Short.class || knownType == Byte.class || knownType == Character.class) {
+				if (writer instanceof UBJsonWriter) value = ubjsonValue(value);
 				writer.value(value);
 				return;
 			}
@@ -557,6 +681,11 @@ public class Json {
 				return;
 			}
 			if (actualType.isArray()) {
+				if (writer instanceof UBJsonWriter && actualType.getComponentType().isPrimitive() && actualType != char[].class
+					&& actualType != boolean[].class) {
+					writer.value(value); // Optimized array with the element type and count written once.
+					return;
+				}
 				if (elementType == null) elementType = actualType.getComponentType();
 				int length = ArrayReflection.getLength(value);
 				writeArrayStart();
@@ -693,6 +822,23 @@ public class Json {
 		writeObjectStart();
 	}
 
+	/** Returns the smallest UBJSON type that can hold a whole number. Chars are returned as strings, like JSON writes them, rather
+	 * than numbers. */
+	private Object ubjsonValue (Object value) {
+		if (value instanceof Character) return value.toString();
+		if (value instanceof Integer || value instanceof Long || value instanceof Float || value instanceof Double
+			|| value instanceof Short) {
+			Number number = (Number)value;
+			long longValue = number.longValue();
+			if (number.doubleValue() == longValue) {
+				if (longValue >= Byte.MIN_VALUE && longValue <= Byte.MAX_VALUE) return (byte)longValue;
+				if (longValue >= Short.MIN_VALUE && longValue <= Short.MAX_VALUE) return (short)longValue;
+				if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) return (int)longValue;
+			}
+		}
+		return value;
+	}
+
 	/** @param knownType May be null if the type is unknown. */
 	public void writeObjectStart (String name, Class actualType, @Null Class knownType) {
 		try {
@@ -839,6 +985,85 @@ public class Json {
 		return readValue(type, elementType, new JsonReader().parse(json));
 	}
 
+	/** Reads UBJSON written by {@link #toUBJson(Object)}.
+	 * @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromUBJson (Class<T> type, byte[] data) {
+		return readValue(type, null, newUBJsonReader().parse(new ByteArrayInputStream(data)));
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object)}.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromUBJson (Class<T> type, Class elementType, byte[] data) {
+		return readValue(type, elementType, newUBJsonReader().parse(new ByteArrayInputStream(data)));
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object)}. For best performance the stream should be buffered. The stream is
+	 * closed afterward.
+	 * @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromUBJson (Class<T> type, InputStream input) {
+		return readValue(type, null, newUBJsonReader().parse(input));
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object)}. For best performance the stream should be buffered. The stream is
+	 * closed afterward.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromUBJson (Class<T> type, Class elementType, InputStream input) {
+		return readValue(type, elementType, newUBJsonReader().parse(input));
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object)}.
+	 * @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromUBJson (Class<T> type, FileHandle file) {
+		return fromUBJson(type, null, file);
+	}
+
+	/** Reads UBJSON written by {@link #toUBJson(Object)}.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromUBJson (Class<T> type, Class elementType, FileHandle file) {
+		try {
+			return readValue(type, elementType, newUBJsonReader().parse(file));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
+	private UBJsonReader newUBJsonReader () {
+		UBJsonReader reader = new UBJsonReader();
+		reader.oldFormat = false; // Match the value types written by UBJsonWriter.
+		return reader;
+	}
+
+	/** Reads a value directly from the parser, without first parsing the whole input into {@link JsonValue} objects. See
+	 * {@link #readValue(Class, Class, JsonPullParser)}. The parser is closed afterward.
+	 * @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromJson (Class<T> type, JsonPullParser parser) {
+		return fromJson(type, null, parser);
+	}
+
+	/** Reads a value directly from the parser, without first parsing the whole input into {@link JsonValue} objects. See
+	 * {@link #readValue(Class, Class, JsonPullParser)}. The parser is closed afterward.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T fromJson (Class<T> type, Class elementType, JsonPullParser parser) {
+		try {
+			if (parser.next() == Token.end) return null;
+			return readValue(type, elementType, parser);
+		} finally {
+			parser.close();
+		}
+	}
+
 	public void readField (Object object, String name, JsonValue jsonData) {
 		readField(object, name, name, null, jsonData);
 	}
@@ -886,7 +1111,7 @@ public class Json {
 		Class type = object.getClass();
 		OrderedMap<String, FieldMetadata> fields = getFields(type);
 		for (JsonValue child = jsonMap.child; child != null; child = child.next) {
-			FieldMetadata metadata = fields.get(child.name().replace(" ", "_"));
+			FieldMetadata metadata = fields.get(child.name().replace(' ', '_'));
 			if (metadata == null) {
 				if (child.name.equals(typeName)) continue;
 				if (ignoreUnknownFields || ignoreUnknownField(type, child.name)) {
@@ -903,7 +1128,8 @@ public class Json {
 			}
 			Field field = metadata.field;
 			try {
-				field.set(object, readValue(field.getType(), metadata.elementType, child));
+				if (!metadata.primitive || !setPrimitive(object, metadata, child))
+					field.set(object, readValue(metadata.type, metadata.elementType, child));
 			} catch (ReflectionException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
 			} catch (SerializationException ex) {
@@ -1175,6 +1401,259 @@ public class Json {
 		return null;
 	}
 
+	/** Reads the parser's current value. Objects read by reflection, maps and arrays are read directly from the parser. A value
+	 * with a {@link Serializer}, a {@link Serializable}, a set or a type that is written as an object wrapper (boxed primitives,
+	 * enums, collections with a class tag) is first read into a {@link JsonValue} and passed to
+	 * {@link #readValue(Class, Class, JsonValue)}, as is an object of unknown type. The class tag of an object must be its first
+	 * field, as it is when written by this class.
+	 * <p>
+	 * If the current token is {@link Token#startObject} or {@link Token#startArray}, the parser is left on the matching end token.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public @Null <T> T readValue (@Null Class<T> type, @Null Class elementType, JsonPullParser parser) {
+		Token token = parser.token();
+		if (token == Token.startObject) return readObject(type, elementType, parser);
+
+		if (type != null
+			&& (classToSerializer.get(type) != null || ClassReflection.isAssignableFrom(Serializable.class, type)))
+			return readValue(type, elementType, parser.readValue());
+
+		if (token == Token.startArray) return readArray(type, elementType, parser);
+
+		return readValue(type, elementType, streamValue(parser));
+	}
+
+	/** Returns the parser's current value as a JsonValue, so it is converted the same as when read from a DOM. The JsonValue is
+	 * reused and must not be kept. */
+	private JsonValue streamValue (JsonPullParser parser) {
+		JsonValue jsonData = streamValue;
+		Token token = parser.token();
+		switch (token) {
+		case stringValue:
+		case nullValue:
+			jsonData.set(parser.asString());
+			break;
+		case doubleValue:
+			jsonData.set(parser.asDouble(), parser.asString());
+			break;
+		case longValue:
+			jsonData.set(parser.asLong(), parser.asString());
+			break;
+		case booleanValue:
+			jsonData.set(parser.asBoolean());
+			break;
+		default:
+			throw new SerializationException("Expected a value on line " + parser.line() + ": " + token);
+		}
+		return jsonData;
+	}
+
+	private boolean setPrimitive (Object object, FieldMetadata metadata, JsonPullParser parser) throws ReflectionException {
+		Token token = parser.token();
+		if (token != Token.doubleValue && token != Token.longValue && token != Token.booleanValue) return false;
+		return setPrimitive(object, metadata, streamValue(parser));
+	}
+
+	/** Sets a primitive field from a number or boolean without boxing or going through {@link #readValue(Class, Class, JsonValue)}.
+	 * @return false if the value must be read with readValue. */
+	private boolean setPrimitive (Object object, FieldMetadata metadata, JsonValue jsonData) throws ReflectionException {
+		Class type = metadata.type;
+		if (classToSerializer.size > 0 && classToSerializer.containsKey(type)) return false;
+		Field field = metadata.field;
+		if (jsonData.isNumber()) {
+			if (type == float.class)
+				field.setFloat(object, jsonData.asFloat());
+			else if (type == int.class)
+				field.setInt(object, jsonData.asInt());
+			else if (type == long.class)
+				field.setLong(object, jsonData.asLong());
+			else if (type == double.class)
+				field.setDouble(object, jsonData.asDouble());
+			else if (type == short.class)
+				field.setShort(object, jsonData.asShort());
+			else if (type == byte.class)
+				field.setByte(object, jsonData.asByte());
+			else
+				return false;
+			return true;
+		}
+		if (jsonData.isBoolean() && type == boolean.class) {
+			field.setBoolean(object, jsonData.asBoolean());
+			return true;
+		}
+		return false;
+	}
+
+	private @Null <T> T readObject (@Null Class<T> type, @Null Class elementType, JsonPullParser parser) {
+		Token token = parser.next();
+		String className = null;
+		if (typeName != null && token == Token.stringValue && typeName.equals(parser.name())) {
+			className = parser.asString();
+			type = getClass(className);
+			if (type == null) {
+				try {
+					type = ClassReflection.forName(className);
+				} catch (ReflectionException ex) {
+					throw new SerializationException(ex);
+				}
+			}
+			token = parser.next();
+		}
+
+		if (type == null || !isStreamable(type)) {
+			JsonValue jsonData = new JsonValue(ValueType.object);
+			if (className != null) jsonData.addChild(typeName, new JsonValue(className));
+			parser.readChildren(jsonData);
+			return readValue(type, elementType, jsonData);
+		}
+
+		Object object = newInstance(type);
+
+		// JSON object special cases.
+		if (object instanceof ObjectMap) {
+			ObjectMap result = (ObjectMap)object;
+			for (; token != Token.endObject; token = parser.next()) {
+				String name = parser.name();
+				result.put(name, readValue(elementType, null, parser));
+			}
+			return (T)result;
+		}
+		if (object instanceof ObjectIntMap) {
+			ObjectIntMap result = (ObjectIntMap)object;
+			for (; token != Token.endObject; token = parser.next()) {
+				String name = parser.name();
+				result.put(name, readValue(Integer.class, null, parser));
+			}
+			return (T)result;
+		}
+		if (object instanceof ObjectFloatMap) {
+			ObjectFloatMap result = (ObjectFloatMap)object;
+			for (; token != Token.endObject; token = parser.next()) {
+				String name = parser.name();
+				result.put(name, readValue(Float.class, null, parser));
+			}
+			return (T)result;
+		}
+		if (object instanceof IntMap) {
+			IntMap result = (IntMap)object;
+			for (; token != Token.endObject; token = parser.next()) {
+				int key = Integer.parseInt(parser.name());
+				result.put(key, readValue(elementType, null, parser));
+			}
+			return (T)result;
+		}
+		if (object instanceof LongMap) {
+			LongMap result = (LongMap)object;
+			for (; token != Token.endObject; token = parser.next()) {
+				long key = Long.parseLong(parser.name());
+				result.put(key, readValue(elementType, null, parser));
+			}
+			return (T)result;
+		}
+		if (object instanceof ArrayMap) {
+			ArrayMap result = (ArrayMap)object;
+			for (; token != Token.endObject; token = parser.next()) {
+				String name = parser.name();
+				result.put(name, readValue(elementType, null, parser));
+			}
+			return (T)result;
+		}
+		if (object instanceof Map) {
+			Map result = (Map)object;
+			for (; token != Token.endObject; token = parser.next()) {
+				String name = parser.name();
+				if (name.equals(typeName)) {
+					parser.skipValue();
+					continue;
+				}
+				result.put(name, readValue(elementType, null, parser));
+			}
+			return (T)result;
+		}
+
+		OrderedMap<String, FieldMetadata> fields = getFields(type);
+		for (; token != Token.endObject; token = parser.next()) {
+			String name = parser.name();
+			FieldMetadata metadata = fields.get(name.replace(' ', '_'));
+			if (metadata == null) {
+				if (name.equals(typeName) || ignoreUnknownFields || ignoreUnknownField(type, name)) {
+					if (debug) System.out.println("Ignoring unknown field: " + name + " (" + type.getName() + ")");
+					parser.skipValue();
+					continue;
+				}
+				SerializationException ex = new SerializationException("Field not found: " + name + " (" + type.getName() + ")");
+				ex.addTrace("line " + parser.line());
+				throw ex;
+			} else if (ignoreDeprecated && !readDeprecated && metadata.deprecated) {
+				parser.skipValue();
+				continue;
+			}
+			Field field = metadata.field;
+			try {
+				if (!metadata.primitive || !setPrimitive(object, metadata, parser))
+					field.set(object, readValue(metadata.type, metadata.elementType, parser));
+			} catch (ReflectionException ex) {
+				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
+			} catch (SerializationException ex) {
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			} catch (RuntimeException runtimeEx) {
+				SerializationException ex = new SerializationException(runtimeEx);
+				ex.addTrace("line " + parser.line());
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			}
+		}
+		return (T)object;
+	}
+
+	/** Returns false if an object of the type must be read from a {@link JsonValue}. */
+	private boolean isStreamable (Class type) {
+		if (classToSerializer.get(type) != null) return false;
+		if (ClassReflection.isAssignableFrom(Serializable.class, type)) return false;
+		if (typeName != null && ClassReflection.isAssignableFrom(Collection.class, type)) return false;
+		if (type == String.class || type == Integer.class || type == Boolean.class || type == Float.class || type == Long.class
+			|| type == Double.class || type == Short.class || type == Byte.class || type == Character.class
+			|| ClassReflection.isAssignableFrom(Enum.class, type)) return false;
+		return !ClassReflection.isAssignableFrom(ObjectSet.class, type) && !ClassReflection.isAssignableFrom(IntSet.class, type);
+	}
+
+	private @Null <T> T readArray (@Null Class<T> type, @Null Class elementType, JsonPullParser parser) {
+		// JSON array special cases.
+		if (type == null || type == Object.class) type = (Class<T>)Array.class;
+		if (ClassReflection.isAssignableFrom(Array.class, type)) {
+			Array result = type == Array.class ? new Array() : (Array)newInstance(type);
+			for (Token token = parser.next(); token != Token.endArray; token = parser.next())
+				result.add(readValue(elementType, null, parser));
+			return (T)result;
+		}
+		if (ClassReflection.isAssignableFrom(Queue.class, type)) {
+			Queue result = type == Queue.class ? new Queue() : (Queue)newInstance(type);
+			for (Token token = parser.next(); token != Token.endArray; token = parser.next())
+				result.addLast(readValue(elementType, null, parser));
+			return (T)result;
+		}
+		if (ClassReflection.isAssignableFrom(Collection.class, type)) {
+			Collection result = type.isInterface() ? new ArrayList() : (Collection)newInstance(type);
+			for (Token token = parser.next(); token != Token.endArray; token = parser.next())
+				result.add(readValue(elementType, null, parser));
+			return (T)result;
+		}
+		if (type.isArray()) {
+			Class componentType = type.getComponentType();
+			if (elementType == null) elementType = componentType;
+			Array values = new Array();
+			for (Token token = parser.next(); token != Token.endArray; token = parser.next())
+				values.add(readValue(elementType, null, parser));
+			Object result = ArrayReflection.newInstance(componentType, values.size);
+			for (int i = 0, n = values.size; i < n; i++)
+				ArrayReflection.set(result, i, values.get(i));
+			return (T)result;
+		}
+		throw new SerializationException("Unable to convert array on line " + parser.line() + " to required type: " + type.getName());
+	}
+
 	/** Each field on the <code>to</code> object is set to the value for the field with the same name on the <code>from</code>
 	 * object. The <code>to</code> object must have at least all the fields of the <code>from</code> object with the same name and
 	 * type. */
@@ -1256,13 +1735,17 @@ public class Json {
 
 	static private class FieldMetadata {
 		final Field field;
+		final Class type;
+		final boolean primitive;
 		Class elementType;
 		boolean deprecated;
 
 		public FieldMetadata (Field field) {
 			this.field = field;
-			int index = (ClassReflection.isAssignableFrom(ObjectMap.class, field.getType())
-				|| ClassReflection.isAssignableFrom(Map.class, field.getType())) ? 1 : 0;
+			type = field.getType();
+			primitive = type.isPrimitive();
+			int index = (ClassReflection.isAssignableFrom(ObjectMap.class, type)
+				|| ClassReflection.isAssignableFrom(Map.class, type)) ? 1 : 0;
 			this.elementType = field.getElementType(index);
 			deprecated = field.isAnnotationPresent(Deprecated.class);
 		}
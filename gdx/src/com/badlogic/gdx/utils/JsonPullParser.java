@@ -0,0 +1,540 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+
+/** Streaming JSON parser that reads one token at a time. Unlike {@link JsonReader}, the input is read in chunks into a fixed size
+ * buffer and no DOM is built, so memory use does not depend on the size of the input. The same relaxed JSON is accepted: comments,
+ * unquoted names and values, and newlines instead of commas.
+ * <p>
+ * Call {@link #next()} to advance to the next token. When the token is a value, the value is available from {@link #asString()},
+ * {@link #asDouble()}, etc and {@link #name()} is the value's name if it is in an object. {@link #skipValue()} skips an object or
+ * array and {@link #readValue()} reads the current value into a {@link JsonValue}.
+ * <p>
+ * {@link Json#fromJson(Class, JsonPullParser)} deserializes objects directly from the parser. */
+public class JsonPullParser implements Closeable {
+	private final Reader reader;
+	private final char[] buffer;
+	private int position, limit, line = 1;
+	private boolean eof, rootRead, skipping;
+
+	private boolean[] objects = new boolean[8];
+	private int depth;
+
+	private Token token;
+	private @Null String name, stringValue;
+	private double doubleValue;
+	private long longValue;
+	private final StringBuilder text = new StringBuilder(32);
+
+	public JsonPullParser (String json) {
+		this(new StringReader(json), Math.max(16, Math.min(json.length(), 8192)));
+	}
+
+	/** @param input Read as UTF-8. */
+	public JsonPullParser (InputStream input) {
+		this(reader(input));
+	}
+
+	/** @param file Read as UTF-8. */
+	public JsonPullParser (FileHandle file) {
+		this(file.reader("UTF-8"));
+	}
+
+	/** Creates a parser with an 8KB buffer. */
+	public JsonPullParser (Reader reader) {
+		this(reader, 8192);
+	}
+
+	/** @param bufferSize The number of chars read from the reader at a time. */
+	public JsonPullParser (Reader reader, int bufferSize) {
+		if (bufferSize < 16) throw new IllegalArgumentException("bufferSize must be >= 16: " + bufferSize);
+		this.reader = reader;
+		buffer = new char[bufferSize];
+	}
+
+	static private Reader reader (InputStream input) {
+		try {
+			return new InputStreamReader(input, "UTF-8");
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading stream.", ex);
+		}
+	}
+
+	/** Advances to the next token.
+	 * @return The new current token, {@link Token#end} after the root value has been read.
+	 * @throws SerializationException if the input is not valid JSON or can't be read. */
+	public Token next () {
+		name = null;
+		int c = skipWhitespace();
+		if (depth == 0) {
+			if (c == -1) return token = Token.end;
+			if (rootRead) throw error("Expected end of input", c);
+			rootRead = true;
+			return token = readValueToken(c);
+		}
+		boolean object = objects[depth - 1];
+		if (c == ',') {
+			position++;
+			c = skipWhitespace();
+		}
+		if (c == '}' || c == ']') {
+			if (c != (object ? '}' : ']')) throw error(object ? "Expected '}'" : "Expected ']'", c);
+			position++;
+			depth--;
+			return token = object ? Token.endObject : Token.endArray;
+		}
+		if (c == -1) throw error(object ? "Unmatched brace" : "Unmatched bracket", c);
+		if (object) {
+			if (c == '"') {
+				position++;
+				readQuoted();
+			} else
+				readUnquoted(true);
+			name = skipping ? null : text.toString();
+			c = skipWhitespace();
+			if (c != ':') throw error("Expected ':'", c);
+			position++;
+			c = skipWhitespace();
+		}
+		return token = readValueToken(c);
+	}
+
+	private Token readValueToken (int c) {
+		switch (c) {
+		case '{':
+			position++;
+			push(true);
+			return Token.startObject;
+		case '[':
+			position++;
+			push(false);
+			return Token.startArray;
+		case '"':
+			position++;
+			readQuoted();
+			stringValue = skipping ? null : text.toString();
+			return Token.stringValue;
+		case -1:
+		case ':':
+		case ',':
+		case '}':
+		case ']':
+			throw error("Expected value", c);
+		}
+		readUnquoted(false);
+		if (skipping) return Token.stringValue;
+		String value = text.toString();
+		stringValue = value;
+		if (value.equals("true")) return Token.booleanValue;
+		if (value.equals("false")) return Token.booleanValue;
+		if (value.equals("null")) {
+			stringValue = null;
+			return Token.nullValue;
+		}
+		boolean couldBeDouble = false, couldBeLong = true;
+		outer:
+		for (int i = 0, n = value.length(); i < n; i++) {
+			switch (value.charAt(i)) {
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9':
+			case '-':
+			case '+':
+				break;
+			case '.':
+			case 'e':
+			case 'E':
+				couldBeDouble = true;
+				couldBeLong = false;
+				break;
+			default:
+				couldBeDouble = false;
+				couldBeLong = false;
+				break outer;
+			}
+		}
+		try {
+			if (couldBeDouble) {
+				doubleValue = Double.parseDouble(value);
+				return Token.doubleValue;
+			}
+			if (couldBeLong) {
+				longValue = Long.parseLong(value);
+				return Token.longValue;
+			}
+		} catch (NumberFormatException ignored) {
+		}
+		return Token.stringValue;
+	}
+
+	private void push (boolean object) {
+		if (depth == objects.length) {
+			boolean[] newObjects = new boolean[depth << 1];
+			System.arraycopy(objects, 0, newObjects, 0, depth);
+			objects = newObjects;
+		}
+		objects[depth++] = object;
+	}
+
+	/** Reads chars up to the closing quote into {@link #text}. */
+	private void readQuoted () {
+		StringBuilder text = this.text;
+		text.setLength(0);
+		char[] buffer = this.buffer;
+		while (true) {
+			if (position == limit && !ensure(1)) throw error("Unterminated string", -1);
+			int start = position, limit = this.limit;
+			char c = 0;
+			while (position < limit) {
+				c = buffer[position];
+				if (c == '"' || c == '\\' || c == '\n') break;
+				position++;
+			}
+			if (!skipping) text.append(buffer, start, position - start);
+			if (position == limit) continue;
+			position++;
+			if (c == '"') return;
+			if (c == '\n')
+				line++;
+			else
+				c = readEscape();
+			if (!skipping) text.append(c);
+		}
+	}
+
+	/** Reads chars up to the end of an unquoted name or value into {@link #text}, without trailing whitespace. */
+	private void readUnquoted (boolean name) {
+		StringBuilder text = this.text;
+		text.setLength(0);
+		outer:
+		while (true) {
+			if (position == limit && !ensure(1)) break;
+			char c = buffer[position];
+			switch (c) {
+			case '\r':
+			case '\n':
+				break outer;
+			case ':':
+				if (name) break outer;
+				break;
+			case '}':
+			case ']':
+			case ',':
+				if (!name) break outer;
+				break;
+			case '/':
+				if (ensure(2)) {
+					char next = buffer[position + 1];
+					if (next == '/' || next == '*') break outer;
+				}
+				break;
+			case '\\':
+				position++;
+				c = readEscape();
+				if (!skipping) text.append(c);
+				continue;
+			}
+			position++;
+			if (!skipping) text.append(c);
+		}
+		int length = text.length;
+		while (length > 0 && isWhitespace(text.charAt(length - 1)))
+			length--;
+		text.setLength(length);
+	}
+
+	/** Reads the char after a backslash. */
+	private char readEscape () {
+		if (!ensure(1)) throw error("Unterminated escape", -1);
+		char c = buffer[position++];
+		switch (c) {
+		case '"':
+		case '\\':
+		case '/':
+			return c;
+		case 'b':
+			return '\b';
+		case 'f':
+			return '\f';
+		case 'n':
+			return '\n';
+		case 'r':
+			return '\r';
+		case 't':
+			return '\t';
+		case 'u':
+			if (!ensure(4)) throw error("Unterminated escape", -1);
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				int digit = Character.digit(buffer[position++], 16);
+				if (digit == -1) throw error("Illegal unicode escape", buffer[position - 1]);
+				value = (value << 4) | digit;
+			}
+			return (char)value;
+		}
+		throw new SerializationException("Illegal escaped character: \\" + c);
+	}
+
+	/** Skips whitespace and comments.
+	 * @return The next char, or -1 at the end of the input. */
+	private int skipWhitespace () {
+		char[] buffer = this.buffer;
+		while (true) {
+			if (position == limit && !ensure(1)) return -1;
+			char c = buffer[position];
+			if (c == '\n') {
+				line++;
+				position++;
+			} else if (c == ' ' || c == '\t' || c == '\r')
+				position++;
+			else if (c == '/' && ensure(2) && (buffer[position + 1] == '/' || buffer[position + 1] == '*')) {
+				boolean lineComment = buffer[position + 1] == '/';
+				position += 2;
+				while (true) {
+					if (position == limit && !ensure(1)) {
+						if (lineComment) return -1;
+						throw error("Unterminated comment", -1);
+					}
+					c = buffer[position];
+					if (lineComment) {
+						if (c == '\n') break;
+					} else if (c == '*' && ensure(2) && buffer[position + 1] == '/') {
+						position += 2;
+						break;
+					}
+					if (c == '\n') line++;
+					position++;
+				}
+			} else
+				return c;
+		}
+	}
+
+	static private boolean isWhitespace (char c) {
+		return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+	}
+
+	/** Ensures at least the specified number of chars are buffered after the position.
+	 * @return false if the end of the input was reached first. */
+	private boolean ensure (int count) {
+		int available = limit - position;
+		if (available >= count) return true;
+		if (eof) return false;
+		System.arraycopy(buffer, position, buffer, 0, available);
+		position = 0;
+		limit = available;
+		try {
+			while (limit < count) {
+				int length = reader.read(buffer, limit, buffer.length - limit);
+				if (length == -1) {
+					eof = true;
+					return false;
+				}
+				limit += length;
+			}
+		} catch (IOException ex) {
+			throw new SerializationException("Error reading input.", ex);
+		}
+		return true;
+	}
+
+	private SerializationException error (String message, int c) {
+		if (c == -1) return new SerializationException("Error parsing JSON on line " + line + ", " + message + " at end of input.");
+		return new SerializationException("Error parsing JSON on line " + line + ", " + message + " near: " + (char)c);
+	}
+
+	/** Returns the current token, or null if {@link #next()} has not been called. */
+	public @Null Token token () {
+		return token;
+	}
+
+	/** Returns the name of the current value if it is in an object, else null. */
+	public @Null String name () {
+		return name;
+	}
+
+	/** Returns the number of objects and arrays that contain the current token. A {@link Token#startObject} or
+	 * {@link Token#startArray} token is counted. */
+	public int depth () {
+		return depth;
+	}
+
+	/** Returns the line number of the current position, starting at 1. */
+	public int line () {
+		return line;
+	}
+
+	/** Returns the current value as a string, or null for {@link Token#nullValue}. Numbers are returned as they appear in the
+	 * input. */
+	public @Null String asString () {
+		switch (token) {
+		case stringValue:
+		case doubleValue:
+		case longValue:
+		case booleanValue:
+		case nullValue:
+			return stringValue;
+		}
+		throw new IllegalStateException("Value cannot be converted to string: " + token);
+	}
+
+	public double asDouble () {
+		switch (token) {
+		case stringValue:
+			return Double.parseDouble(stringValue);
+		case doubleValue:
+			return doubleValue;
+		case longValue:
+			return longValue;
+		case booleanValue:
+			return stringValue.equals("true") ? 1 : 0;
+		}
+		throw new IllegalStateException("Value cannot be converted to double: " + token);
+	}
+
+	public float asFloat () {
+		return (float)asDouble();
+	}
+
+	public long asLong () {
+		switch (token) {
+		case stringValue:
+			return Long.parseLong(stringValue);
+		case doubleValue:
+			return (long)doubleValue;
+		case longValue:
+			return longValue;
+		case booleanValue:
+			return stringValue.equals("true") ? 1 : 0;
+		}
+		throw new IllegalStateException("Value cannot be converted to long: " + token);
+	}
+
+	public int asInt () {
+		return (int)asLong();
+	}
+
+	public boolean asBoolean () {
+		switch (token) {
+		case stringValue:
+			return stringValue.equalsIgnoreCase("true");
+		case doubleValue:
+			return doubleValue != 0;
+		case longValue:
+			return longValue != 0;
+		case booleanValue:
+			return stringValue.equals("true");
+		}
+		throw new IllegalStateException("Value cannot be converted to boolean: " + token);
+	}
+
+	/** If the current token is {@link Token#startObject} or {@link Token#startArray}, advances past the matching end token without
+	 * creating strings for the skipped values. Otherwise nothing is done. */
+	public void skipValue () {
+		if (token != Token.startObject && token != Token.startArray) return;
+		int target = depth - 1;
+		skipping = true;
+		try {
+			while (depth > target)
+				next();
+		} finally {
+			skipping = false;
+		}
+	}
+
+	/** Reads the current value into a new {@link JsonValue}. If the current token is {@link Token#startObject} or
+	 * {@link Token#startArray}, the whole object or array is read and the parser is left on the matching end token. */
+	public JsonValue readValue () {
+		JsonValue value;
+		switch (token) {
+		case startObject:
+		case startArray:
+			value = new JsonValue(token == Token.startObject ? ValueType.object : ValueType.array);
+			value.setName(name);
+			next();
+			readChildren(value);
+			return value;
+		case stringValue:
+		case nullValue:
+			value = new JsonValue(stringValue);
+			break;
+		case doubleValue:
+			value = new JsonValue(doubleValue, stringValue);
+			break;
+		case longValue:
+			value = new JsonValue(longValue, stringValue);
+			break;
+		case booleanValue:
+			value = new JsonValue(stringValue.equals("true"));
+			break;
+		default:
+			throw new IllegalStateException("Current token is not a value: " + token);
+		}
+		value.setName(name);
+		return value;
+	}
+
+	/** Reads values and adds them to the object or array, starting with the current token and ending on the object or array's end
+	 * token. */
+	void readChildren (JsonValue parent) {
+		JsonValue last = parent.child;
+		if (last != null) {
+			while (last.next != null)
+				last = last.next;
+		}
+		for (Token token = this.token; token != Token.endObject && token != Token.endArray; token = next()) {
+			JsonValue child = readValue();
+			child.parent = parent;
+			if (last == null)
+				parent.child = child;
+			else {
+				last.next = child;
+				child.prev = last;
+			}
+			last = child;
+			parent.size++;
+		}
+	}
+
+	/** Closes the reader. */
+	public void close () {
+		StreamUtils.closeQuietly(reader);
+	}
+
+	static public enum Token {
+		startObject, endObject, startArray, endArray, stringValue, doubleValue, longValue, booleanValue, nullValue,
+		/** The root value has been read. */
+		end
+	}
+}
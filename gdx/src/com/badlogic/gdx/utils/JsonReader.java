@@ -36,8 +36,16 @@ import com.badlogic.gdx.utils.JsonValue.ValueType;
  * @author Nathan Sweet */
 public class JsonReader implements BaseJsonReader {
 	public JsonValue parse (String json) {
-		char[] data = json.toCharArray();
-		return parse(data, 0, data.length);
+		int length = json.length();
+		char[] data;
+		if (pool != null) {
+			// Reuse the buffer, since a pool is set when parsing many documents.
+			if (buffer == null || buffer.length < length) buffer = new char[Math.max(length, 256)];
+			data = buffer;
+			json.getChars(0, length, data, 0);
+		} else
+			data = json.toCharArray();
+		return parse(data, 0, length);
 	}
 
 	public JsonValue parse (Reader reader) {
@@ -89,10 +97,11 @@ public class JsonReader implements BaseJsonReader {
 	public JsonValue parse (char[] data, int offset, int length) {
 		stop = false;
 		int cs, p = offset, pe = length, eof = pe, top = 0;
-		int[] stack = new int[4];
+		int[] stack = this.stack;
 
 		int s = 0;
-		Array<String> names = new Array(8);
+		Array<String> names = this.names;
+		names.clear();
 		boolean needsUnescape = false, stringIsName = false, stringIsUnquoted = false;
 		RuntimeException parseRuntimeEx = null;
 
@@ -194,7 +203,13 @@ public class JsonReader implements BaseJsonReader {
 								case 1:
 								// line 111 "JsonReader.rl"
 								{
-									String value = new String(data, s, p - s);
+									String value;
+									if (stringIsName && nameCache != null && !needsUnescape)
+										value = name(data, s, p - s);
+									else if (stringIsUnquoted && !stringIsName && !needsUnescape && isLiteral(data, s, p))
+										value = null; // Handled below without creating a String.
+									else
+										value = new String(data, s, p - s);
 									if (needsUnescape) value = unescape(value);
 									outer:
 									if (stringIsName) {
@@ -203,6 +218,22 @@ public class JsonReader implements BaseJsonReader {
 										names.add(value);
 									} else {
 										String name = names.size > 0 ? names.pop() : null;
+										if (value == null) {
+											switch (data[s]) {
+											case 't':
+												bool(name, true);
+												break;
+											case 'f':
+												bool(name, false);
+												break;
+											case 'n':
+												string(name, null);
+												break;
+											default:
+												number(name, parseLong(data, s, p), null);
+											}
+											break outer;
+										}
 										if (stringIsUnquoted) {
 											if (value.equals("true")) {
 												if (debug) System.out.println("boolean: " + name + "=true");
@@ -450,7 +481,13 @@ public class JsonReader implements BaseJsonReader {
 								case 1:
 								// line 111 "JsonReader.rl"
 								{
-									String value = new String(data, s, p - s);
+									String value;
+									if (stringIsName && nameCache != null && !needsUnescape)
+										value = name(data, s, p - s);
+									else if (stringIsUnquoted && !stringIsName && !needsUnescape && isLiteral(data, s, p))
+										value = null; // Handled below without creating a String.
+									else
+										value = new String(data, s, p - s);
 									if (needsUnescape) value = unescape(value);
 									outer:
 									if (stringIsName) {
@@ -459,6 +496,22 @@ public class JsonReader implements BaseJsonReader {
 										names.add(value);
 									} else {
 										String name = names.size > 0 ? names.pop() : null;
+										if (value == null) {
+											switch (data[s]) {
+											case 't':
+												bool(name, true);
+												break;
+											case 'f':
+												bool(name, false);
+												break;
+											case 'n':
+												string(name, null);
+												break;
+											default:
+												number(name, parseLong(data, s, p), null);
+											}
+											break outer;
+										}
 										if (stringIsUnquoted) {
 											if (value.equals("true")) {
 												if (debug) System.out.println("boolean: " + name + "=true");
@@ -546,6 +599,7 @@ public class JsonReader implements BaseJsonReader {
 		this.root = null;
 		current = null;
 		lastChild.clear();
+		this.stack = stack;
 
 		if (!stop) {
 			if (p < pe) {
@@ -663,14 +717,104 @@ public class JsonReader implements BaseJsonReader {
 
 	private final Array<JsonValue> elements = new Array(8);
 	private final Array<JsonValue> lastChild = new Array(8);
+	private final Array<String> names = new Array(8);
+	private int[] stack = new int[4];
 	private JsonValue root, current;
 	private boolean stop;
+	private @Null Pool<JsonValue> pool;
+	private @Null String[] nameCache;
+	private @Null char[] buffer;
 
 	/** Causes parsing to stop after the current or next object, array, or value. */
 	public void stop () {
 		stop = true;
 	}
 
+	/** Sets the pool that parsed values are obtained from, so parsing many documents creates few new {@link JsonValue} objects.
+	 * When a pool is set, each tree returned by the parse methods should be given to {@link #free(JsonValue)} when it is no
+	 * longer needed. Default is null.
+	 * @param pool May be null.
+	 * @see JsonValuePool */
+	public void setPool (@Null Pool<JsonValue> pool) {
+		this.pool = pool;
+	}
+
+	public @Null Pool<JsonValue> getPool () {
+		return pool;
+	}
+
+	/** Returns the value and all of its children to the pool. The values must not be used afterward. Does nothing if no pool is
+	 * set.
+	 * @param value May be null. */
+	public void free (@Null JsonValue value) {
+		if (pool == null || value == null) return;
+		JsonValue child = value.child;
+		while (child != null) {
+			JsonValue next = child.next;
+			free(child);
+			child = next;
+		}
+		pool.free(value);
+	}
+
+	/** When true, names are looked up in a cache so names that occur many times share a single String instead of a new String
+	 * being allocated for each occurrence. Default is false. */
+	public void setInternNames (boolean internNames) {
+		nameCache = internNames ? new String[512] : null;
+	}
+
+	private String name (char[] data, int start, int length) {
+		int hash = 0;
+		for (int i = start, n = start + length; i < n; i++)
+			hash = 31 * hash + data[i];
+		String[] nameCache = this.nameCache;
+		int index = (hash ^ hash >>> 16) & (nameCache.length - 1);
+		String name = nameCache[index];
+		if (name != null && name.length() == length) {
+			int i = 0;
+			while (i < length && name.charAt(i) == data[start + i])
+				i++;
+			if (i == length) return name;
+		}
+		name = new String(data, start, length);
+		nameCache[index] = name;
+		return name;
+	}
+
+	/** Returns true if the unquoted value is true, false, null, or a long with no leading zeros that fits in 18 digits. */
+	static private boolean isLiteral (char[] data, int start, int end) {
+		int length = end - start;
+		switch (data[start]) {
+		case 't':
+			return length == 4 && data[start + 1] == 'r' && data[start + 2] == 'u' && data[start + 3] == 'e';
+		case 'f':
+			return length == 5 && data[start + 1] == 'a' && data[start + 2] == 'l' && data[start + 3] == 's'
+				&& data[start + 4] == 'e';
+		case 'n':
+			return length == 4 && data[start + 1] == 'u' && data[start + 2] == 'l' && data[start + 3] == 'l';
+		case '-':
+			start++;
+			length--;
+			if (length == 1 && data[start] == '0') return false;
+		}
+		if (length == 0 || length > 18 || (data[start] == '0' && length > 1)) return false;
+		for (int i = start; i < end; i++)
+			if (data[i] < '0' || data[i] > '9') return false;
+		return true;
+	}
+
+	static private long parseLong (char[] data, int start, int end) {
+		boolean negative = data[start] == '-';
+		long value = 0;
+		for (int i = negative ? start + 1 : start; i < end; i++)
+			value = value * 10 + data[i] - '0';
+		return negative ? -value : value;
+	}
+
+	private JsonValue obtain () {
+		return pool == null ? new JsonValue(ValueType.nullValue) : pool.obtain();
+	}
+
 	public boolean isStopped () {
 		return stop;
 	}
@@ -698,7 +842,8 @@ public class JsonReader implements BaseJsonReader {
 
 	/** @param name May be null. */
 	protected void startObject (@Null String name) {
-		JsonValue value = new JsonValue(ValueType.object);
+		JsonValue value = obtain();
+		value.setType(ValueType.object);
 		if (current != null) addChild(name, value);
 		elements.add(value);
 		current = value;
@@ -706,7 +851,8 @@ public class JsonReader implements BaseJsonReader {
 
 	/** @param name May be null. */
 	protected void startArray (@Null String name) {
-		JsonValue value = new JsonValue(ValueType.array);
+		JsonValue value = obtain();
+		value.setType(ValueType.array);
 		if (current != null) addChild(name, value);
 		elements.add(value);
 		current = value;
@@ -719,19 +865,27 @@ public class JsonReader implements BaseJsonReader {
 	}
 
 	protected void string (String name, String value) {
-		addChild(name, new JsonValue(value));
+		JsonValue child = obtain();
+		child.set(value);
+		addChild(name, child);
 	}
 
 	protected void number (String name, double value, String stringValue) {
-		addChild(name, new JsonValue(value, stringValue));
+		JsonValue child = obtain();
+		child.set(value, stringValue);
+		addChild(name, child);
 	}
 
 	protected void number (String name, long value, String stringValue) {
-		addChild(name, new JsonValue(value, stringValue));
+		JsonValue child = obtain();
+		child.set(value, stringValue);
+		addChild(name, child);
 	}
 
 	protected void bool (String name, boolean value) {
-		addChild(name, new JsonValue(value));
+		JsonValue child = obtain();
+		child.set(value);
+		addChild(name, child);
 	}
 
 	private String unescape (String value) {
@@ -777,4 +931,18 @@ public class JsonReader implements BaseJsonReader {
 		}
 		return buffer.toString();
 	}
+
+	/** A pool of {@link JsonValue} objects for {@link JsonReader#setPool(Pool)}. */
+	static public class JsonValuePool extends Pool<JsonValue> {
+		public JsonValuePool () {
+		}
+
+		public JsonValuePool (int initialCapacity, int max) {
+			super(initialCapacity, max);
+		}
+
+		protected JsonValue newObject () {
+			return new JsonValue(ValueType.nullValue);
+		}
+	}
 }
@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.badlogic.gdx.utils.Pool.Poolable;
 
 /** Container for a JSON object, array, string, double, long, boolean, or null.
  * <p>
@@ -39,7 +40,7 @@ import com.badlogic.gdx.utils.JsonWriter.OutputType;
  * </pre>
  * 
  * @author Nathan Sweet */
-public class JsonValue implements Iterable<JsonValue> {
+public class JsonValue implements Iterable<JsonValue>, Poolable {
 	private ValueType type;
 
 	/** May be null. */
@@ -981,6 +982,21 @@ public class JsonValue implements Iterable<JsonValue> {
 		type = ValueType.booleanValue;
 	}
 
+	/** Sets this value to null and clears its name, parent, children, and siblings so it can be reused.
+	 * @see JsonReader#setPool(Pool) */
+	public void reset () {
+		type = ValueType.nullValue;
+		stringValue = null;
+		doubleValue = 0;
+		longValue = 0;
+		name = null;
+		child = null;
+		parent = null;
+		next = null;
+		prev = null;
+		size = 0;
+	}
+
 	public String toJson (OutputType outputType) {
 		if (isValue()) return asString();
 		StringBuilder buffer = new StringBuilder(512);
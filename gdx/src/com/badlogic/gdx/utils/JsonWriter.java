@@ -20,11 +20,10 @@ import java.io.IOException;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.regex.Pattern;
 
 /** Builder style API for emitting JSON.
  * @author Nathan Sweet */
-public class JsonWriter extends Writer {
+public class JsonWriter extends Writer implements BaseJsonWriter {
 	final Writer writer;
 	private final Array<JsonObject> stack = new Array();
 	private JsonObject current;
@@ -179,36 +178,110 @@ public class JsonWriter extends Writer {
 		 */
 		minimal;
 
-		static private Pattern javascriptPattern = Pattern.compile("^[a-zA-Z_$][a-zA-Z_$0-9]*$");
-		static private Pattern minimalNamePattern = Pattern.compile("^[^\":,}/ ][^:]*$");
-		static private Pattern minimalValuePattern = Pattern.compile("^[^\":,{\\[\\]/ ][^}\\],]*$");
-
 		public String quoteValue (Object value) {
 			if (value == null) return "null";
 			String string = value.toString();
 			if (value instanceof Number || value instanceof Boolean) return string;
-			StringBuilder buffer = new StringBuilder(string);
-			buffer.replace('\\', "\\\\").replace('\r', "\\r").replace('\n', "\\n").replace('\t', "\\t");
+			CharSequence buffer = escape(string);
 			if (this == OutputType.minimal && !string.equals("true") && !string.equals("false") && !string.equals("null")
 				&& !string.contains("//") && !string.contains("/*")) {
 				int length = buffer.length();
-				if (length > 0 && buffer.charAt(length - 1) != ' ' && minimalValuePattern.matcher(buffer).matches())
-					return buffer.toString();
+				if (length > 0 && buffer.charAt(length - 1) != ' ' && isMinimalValue(buffer)) return buffer.toString();
 			}
-			return '"' + buffer.replace('"', "\\\"").toString() + '"';
+			return quote(buffer);
 		}
 
 		public String quoteName (String value) {
-			StringBuilder buffer = new StringBuilder(value);
-			buffer.replace('\\', "\\\\").replace('\r', "\\r").replace('\n', "\\n").replace('\t', "\\t");
+			CharSequence buffer = escape(value);
 			switch (this) {
 			case minimal:
-				if (!value.contains("//") && !value.contains("/*") && minimalNamePattern.matcher(buffer).matches())
-					return buffer.toString();
+				if (!value.contains("//") && !value.contains("/*") && isMinimalName(buffer)) return buffer.toString();
 			case javascript:
-				if (javascriptPattern.matcher(buffer).matches()) return buffer.toString();
+				if (isJavascriptName(buffer)) return buffer.toString();
+			}
+			return quote(buffer);
+		}
+
+		/** Returns the value with backslashes and whitespace control characters escaped. The value itself is returned if nothing
+		 * needs to be escaped, which is the common case, to avoid allocation. */
+		static private CharSequence escape (String value) {
+			for (int i = 0, n = value.length(); i < n; i++) {
+				switch (value.charAt(i)) {
+				case '\\':
+				case '\r':
+				case '\n':
+				case '\t':
+					StringBuilder buffer = new StringBuilder(value);
+					return buffer.replace('\\', "\\\\").replace('\r', "\\r").replace('\n', "\\n").replace('\t', "\\t");
+				}
+			}
+			return value;
+		}
+
+		static private String quote (CharSequence value) {
+			if (value instanceof String) {
+				String string = (String)value;
+				if (string.indexOf('"') == -1) return '"' + string + '"';
+				value = new StringBuilder(string);
+			}
+			return '"' + ((StringBuilder)value).replace('"', "\\\"").toString() + '"';
+		}
+
+		/** Same as the regex <code>^[a-zA-Z_$][a-zA-Z_$0-9]*$</code>. */
+		static private boolean isJavascriptName (CharSequence value) {
+			int length = value.length();
+			if (length == 0) return false;
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$') continue;
+				if (i > 0 && c >= '0' && c <= '9') continue;
+				return false;
+			}
+			return true;
+		}
+
+		/** Same as the regex <code>^[^":,}/ ][^:]*$</code>. */
+		static private boolean isMinimalName (CharSequence value) {
+			int length = value.length();
+			if (length == 0) return false;
+			switch (value.charAt(0)) {
+			case '"':
+			case ':':
+			case ',':
+			case '}':
+			case '/':
+			case ' ':
+				return false;
+			}
+			for (int i = 1; i < length; i++)
+				if (value.charAt(i) == ':') return false;
+			return true;
+		}
+
+		/** Same as the regex <code>^[^":,{\[\]/ ][^}\],]*$</code>. */
+		static private boolean isMinimalValue (CharSequence value) {
+			int length = value.length();
+			if (length == 0) return false;
+			switch (value.charAt(0)) {
+			case '"':
+			case ':':
+			case ',':
+			case '{':
+			case '[':
+			case ']':
+			case '/':
+			case ' ':
+				return false;
+			}
+			for (int i = 1; i < length; i++) {
+				switch (value.charAt(i)) {
+				case '}':
+				case ']':
+				case ',':
+					return false;
+				}
 			}
-			return '"' + buffer.replace('"', "\\\"").toString() + '"';
+			return true;
 		}
 	}
 }
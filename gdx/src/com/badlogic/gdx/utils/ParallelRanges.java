@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** Splits a range of items into contiguous ranges, runs one of them on the calling thread and the others on the threads of an
+ * {@link AsyncExecutor}. Subclasses implement {@link #runRange(int, int)}, which must only touch the items of its range. On GWT
+ * the executor runs the tasks on the calling thread. */
+public abstract class ParallelRanges {
+	private @Null AsyncExecutor executor;
+	private int tasks = 1;
+	private final Array<RangeTask> rangeTasks = new Array();
+	private final Array<AsyncResult<Void>> results = new Array();
+
+	/** @param executor The executor used to run the ranges, or null to run all items on the calling thread. The executor is not
+	 *           disposed by this object.
+	 * @param tasks The maximum number of ranges to split the items into, one of which is run on the calling thread. This is
+	 *           usually the number of threads of the executor plus one. */
+	public void setExecutor (@Null AsyncExecutor executor, int tasks) {
+		if (tasks < 1) throw new IllegalArgumentException("tasks must be > 0: " + tasks);
+		this.executor = executor;
+		this.tasks = tasks;
+	}
+
+	public @Null AsyncExecutor getExecutor () {
+		return executor;
+	}
+
+	/** Calls {@link #runRange(int, int)} for ranges covering the items from offset to offset + count. Returns when all ranges
+	 * have been run. If a range throws an exception on another thread, the first one is rethrown after all ranges finish.
+	 * @param minPerRange The minimum number of items in each range. Fewer items are run on the calling thread. */
+	public void run (int offset, int count, int minPerRange) {
+		int taskCount = executor == null ? 1 : Math.min(tasks, count / Math.max(1, minPerRange));
+		if (taskCount <= 1) {
+			runRange(offset, offset + count);
+			return;
+		}
+
+		// Each task runs a contiguous range, so threads don't write to items allocated next to each other.
+		int perTask = (count + taskCount - 1) / taskCount, end = offset + count;
+		for (int i = 1; i < taskCount; i++) {
+			int start = offset + perTask * i;
+			if (start >= end) break;
+			if (rangeTasks.size < i) rangeTasks.add(new RangeTask(this));
+			RangeTask task = rangeTasks.get(i - 1);
+			task.start = start;
+			task.end = Math.min(end, start + perTask);
+			results.add(executor.submit(task));
+		}
+		try {
+			runRange(offset, offset + perTask);
+		} finally {
+			GdxRuntimeException error = null;
+			for (int i = 0, n = results.size; i < n; i++) {
+				try {
+					results.get(i).get();
+				} catch (GdxRuntimeException ex) {
+					if (error == null) error = ex;
+				}
+			}
+			results.clear();
+			if (error != null) throw error;
+		}
+	}
+
+	/** Processes the items from start (inclusive) to end (exclusive). May be called on any thread. */
+	protected abstract void runRange (int start, int end);
+
+	static private class RangeTask implements AsyncTask<Void> {
+		final ParallelRanges ranges;
+		int start, end;
+
+		RangeTask (ParallelRanges ranges) {
+			this.ranges = ranges;
+		}
+
+		public Void call () {
+			ranges.runRange(start, end);
+			return null;
+		}
+	}
+}
@@ -26,6 +26,7 @@ abstract public class Pool<T> {
 	public int peak;
 
 	private final Array<T> freeObjects;
+	private @Null PoolStats stats;
 
 	/** Creates a pool with an initial capacity of 16 and no maximum. */
 	public Pool () {
@@ -50,7 +51,11 @@ abstract public class Pool<T> {
 	/** Returns an object from this pool. The object may be new (from {@link #newObject()}) or reused (previously
 	 * {@link #free(Object) freed}). */
 	public T obtain () {
-		return freeObjects.size == 0 ? newObject() : freeObjects.pop();
+		if (stats == null) return freeObjects.size == 0 ? newObject() : freeObjects.pop();
+		boolean created = freeObjects.size == 0;
+		T object = created ? newObject() : freeObjects.pop();
+		stats.obtained(object, created);
+		return object;
 	}
 
 	/** Puts the specified object in the pool, making it eligible to be returned by {@link #obtain()}. If the pool already contains
@@ -64,8 +69,11 @@ abstract public class Pool<T> {
 			freeObjects.add(object);
 			peak = Math.max(peak, freeObjects.size);
 			reset(object);
-		} else
+			if (stats != null) stats.freed(object, false);
+		} else {
 			discard(object);
+			if (stats != null) stats.freed(object, true);
+		}
 	}
 
 	/** Adds the specified number of new free objects to the pool. Usually called early on as a pre-allocation mechanism but can be
@@ -98,14 +106,17 @@ abstract public class Pool<T> {
 		if (objects == null) throw new IllegalArgumentException("objects cannot be null.");
 		Array<T> freeObjects = this.freeObjects;
 		int max = this.max;
+		PoolStats stats = this.stats;
 		for (int i = 0, n = objects.size; i < n; i++) {
 			T object = objects.get(i);
 			if (object == null) continue;
 			if (freeObjects.size < max) {
 				freeObjects.add(object);
 				reset(object);
+				if (stats != null) stats.freed(object, false);
 			} else {
 				discard(object);
+				if (stats != null) stats.freed(object, true);
 			}
 		}
 		peak = Math.max(peak, freeObjects.size);
@@ -116,6 +127,7 @@ abstract public class Pool<T> {
 		Array<T> freeObjects = this.freeObjects;
 		for (int i = 0, n = freeObjects.size; i < n; i++)
 			discard(freeObjects.get(i));
+		if (stats != null) stats.discarded(freeObjects.size);
 		freeObjects.clear();
 	}
 
@@ -124,6 +136,16 @@ abstract public class Pool<T> {
 		return freeObjects.size;
 	}
 
+	/** Sets the statistics to collect for this pool, or null to stop collecting statistics. Statistics are off by default.
+	 * @see Pools#setStatsEnabled(boolean, boolean) */
+	public void setStats (@Null PoolStats stats) {
+		this.stats = stats;
+	}
+
+	public @Null PoolStats getStats () {
+		return stats;
+	}
+
 	/** Objects implementing this interface will have {@link #reset()} called when passed to {@link Pool#free(Object)}. */
 	static public interface Poolable {
 		/** Resets the object for reuse. Object references should be nulled and fields may be set to default values. */
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** Usage statistics for a {@link Pool}, collected when set with {@link Pool#setStats(PoolStats)} or
+ * {@link Pools#setStatsEnabled(boolean, boolean)}. The counts can be read at any time, {@link #set(PoolStats)} copies them to
+ * take a snapshot and {@link #resetCounts()} starts a new period, eg once per frame.
+ * <p>
+ * When allocation sites are captured, the stack trace of every obtained object is kept until the object is freed, so
+ * {@link #getOutstanding(ObjectIntMap)} can report where objects that were never returned to the pool were obtained. This is
+ * expensive and meant for debugging only.
+ * <p>
+ * When used with a {@link ConcurrentPool}, the pool synchronizes on this object while recording, so a consistent snapshot can be
+ * taken by synchronizing on it as well. */
+public class PoolStats {
+	/** The number of objects obtained from the pool. */
+	public int obtained;
+	/** The number of obtained objects that were created because the pool had no free objects. */
+	public int created;
+	/** The number of objects freed to the pool. */
+	public int freed;
+	/** The number of objects freed or cleared from the pool that were discarded, eg because the pool had {@link Pool#max} free
+	 * objects. */
+	public int discarded;
+	/** The number of objects obtained and not yet freed. This is not changed by {@link #resetCounts()}. */
+	public int inUse;
+	/** The highest number of objects in use at the same time. */
+	public int peakInUse;
+
+	private final @Null IdentityMap<Object, Throwable> outstanding;
+
+	public PoolStats () {
+		this(false);
+	}
+
+	/** @param captureAllocationSites If true, the stack trace is captured for each obtained object. */
+	public PoolStats (boolean captureAllocationSites) {
+		outstanding = captureAllocationSites ? new IdentityMap() : null;
+	}
+
+	/** Creates a snapshot of the specified stats, without allocation sites. */
+	public PoolStats (PoolStats stats) {
+		this(false);
+		set(stats);
+	}
+
+	void obtained (Object object, boolean created) {
+		obtained++;
+		if (created) this.created++;
+		if (++inUse > peakInUse) peakInUse = inUse;
+		if (outstanding != null) outstanding.put(object, new Throwable());
+	}
+
+	void freed (Object object, boolean discarded) {
+		freed++;
+		if (discarded) this.discarded++;
+		// Objects can be freed to a pool without having been obtained from it.
+		if (inUse > 0) inUse--;
+		if (outstanding != null) outstanding.remove(object);
+	}
+
+	void discarded (int count) {
+		discarded += count;
+	}
+
+	/** Copies the counts from the specified stats. */
+	public PoolStats set (PoolStats stats) {
+		obtained = stats.obtained;
+		created = stats.created;
+		freed = stats.freed;
+		discarded = stats.discarded;
+		inUse = stats.inUse;
+		peakInUse = stats.peakInUse;
+		return this;
+	}
+
+	/** Sets the counts to zero and the peak to the number of objects currently in use. Objects in use and their allocation sites
+	 * are kept. */
+	public void resetCounts () {
+		obtained = 0;
+		created = 0;
+		freed = 0;
+		discarded = 0;
+		peakInUse = inUse;
+	}
+
+	/** Returns true if the stack trace is captured for each obtained object. */
+	public boolean capturesAllocationSites () {
+		return outstanding != null;
+	}
+
+	/** Adds the number of objects in use for each allocation site to the specified map. The site is the first stack frame outside
+	 * of the libGDX pool classes. Nothing is added if allocation sites are not captured.
+	 * @return The number of objects in use with a captured allocation site. */
+	public int getOutstanding (ObjectIntMap<String> sites) {
+		if (outstanding == null) return 0;
+		for (Throwable trace : outstanding.values())
+			sites.getAndIncrement(site(trace), 0, 1);
+		return outstanding.size;
+	}
+
+	static private final String[] poolClasses = {Pool.class.getName(), Pools.class.getName(), PoolStats.class.getName(),
+		ConcurrentPool.class.getName(), FlushablePool.class.getName(), ReflectionPool.class.getName()};
+
+	static private String site (Throwable trace) {
+		StackTraceElement[] elements = trace.getStackTrace();
+		outer:
+		for (StackTraceElement element : elements) {
+			String className = element.getClassName();
+			for (String poolClass : poolClasses)
+				if (className.equals(poolClass)) continue outer;
+			return element.toString();
+		}
+		return elements.length > 0 ? elements[elements.length - 1].toString() : "unknown";
+	}
+
+	public String toString () {
+		return "obtained: " + obtained + ", created: " + created + ", freed: " + freed + ", discarded: " + discarded + ", in use: "
+			+ inUse + ", peak in use: " + peakInUse;
+	}
+}
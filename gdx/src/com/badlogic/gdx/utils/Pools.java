@@ -17,21 +17,58 @@
 package com.badlogic.gdx.utils;
 
 /** Stores a map of {@link Pool}s (usually {@link ReflectionPool}s) by type for convenient static access.
+ * <p>
+ * By default the pools and the map are not thread safe. When {@link #setConcurrent(boolean) concurrent} mode is enabled, new
+ * pools are {@link ConcurrentPool}s and the map can be used from any thread.
  * @author Nathan Sweet */
 public class Pools {
-	static private final ObjectMap<Class, Pool> typePools = new ObjectMap();
+	static private volatile ObjectMap<Class, Pool> typePools = new ObjectMap();
+	static private volatile boolean concurrent;
+	static private boolean statsEnabled, captureAllocationSites;
 
 	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. Note the max size is ignored
 	 * if this is not the first time this pool has been requested. */
 	static public <T> Pool<T> get (Class<T> type, int max) {
 		Pool pool = typePools.get(type);
 		if (pool == null) {
-			pool = new ReflectionPool(type, 4, max);
-			typePools.put(type, pool);
+			if (concurrent) {
+				synchronized (Pools.class) {
+					pool = typePools.get(type);
+					if (pool == null) {
+						pool = newPool(type, max);
+						put(type, pool);
+					}
+				}
+			} else {
+				pool = newPool(type, max);
+				typePools.put(type, pool);
+			}
 		}
 		return pool;
 	}
 
+	static private <T> Pool<T> newPool (Class<T> type, int max) {
+		Pool<T> pool;
+		if (concurrent) {
+			final ReflectionPool<T> factory = new ReflectionPool(type, 0, 0);
+			pool = new ConcurrentPool<T>(4, max) {
+				protected T newObject () {
+					return factory.newObject();
+				}
+			};
+		} else
+			pool = new ReflectionPool(type, 4, max);
+		if (statsEnabled) pool.setStats(new PoolStats(captureAllocationSites));
+		return pool;
+	}
+
+	/** Replaces the map with a copy so threads reading the current map are never affected by the change. */
+	static private void put (Class type, Pool pool) {
+		ObjectMap<Class, Pool> typePools = new ObjectMap(Pools.typePools);
+		typePools.put(type, pool);
+		Pools.typePools = typePools;
+	}
+
 	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. The max size of the pool used
 	 * is 100. */
 	static public <T> Pool<T> get (Class<T> type) {
@@ -40,7 +77,24 @@ public class Pools {
 
 	/** Sets an existing pool for the specified type, stored in a Class to {@link Pool} map. */
 	static public <T> void set (Class<T> type, Pool<T> pool) {
-		typePools.put(type, pool);
+		if (statsEnabled && pool.getStats() == null) pool.setStats(new PoolStats(captureAllocationSites));
+		if (concurrent) {
+			synchronized (Pools.class) {
+				put(type, pool);
+			}
+		} else
+			typePools.put(type, pool);
+	}
+
+	/** When true, pools created by {@link #get(Class, int)} are {@link ConcurrentPool}s and the Class to {@link Pool} map can be
+	 * accessed from multiple threads. This should be set before any pools are requested, pools that already exist are not
+	 * replaced. Pools {@link #set(Class, Pool) set} manually must be thread safe themselves. Default is false. */
+	static public void setConcurrent (boolean concurrent) {
+		Pools.concurrent = concurrent;
+	}
+
+	static public boolean isConcurrent () {
+		return concurrent;
 	}
 
 	/** Obtains an object from the {@link #get(Class) pool}. */
@@ -79,6 +133,52 @@ public class Pools {
 		}
 	}
 
+	/** Enables or disables collecting {@link PoolStats statistics} for all pools in the Class to {@link Pool} map, including pools
+	 * created or set later.
+	 * @param captureAllocationSites If true, the stack trace is captured for each obtained object so objects that are never freed
+	 *           can be found with {@link #dumpStats(StringBuilder, boolean)}. This is expensive and meant for debugging only. */
+	static public void setStatsEnabled (boolean enabled, boolean captureAllocationSites) {
+		statsEnabled = enabled;
+		Pools.captureAllocationSites = captureAllocationSites;
+		for (Pool pool : new ObjectMap.Values<Pool>(typePools))
+			pool.setStats(enabled ? new PoolStats(captureAllocationSites) : null);
+	}
+
+	static public boolean isStatsEnabled () {
+		return statsEnabled;
+	}
+
+	/** Returns the statistics for the pool of the specified type, or null if there is no pool for the type or statistics are not
+	 * enabled for it. */
+	static public @Null PoolStats getStats (Class type) {
+		Pool pool = typePools.get(type);
+		return pool == null ? null : pool.getStats();
+	}
+
+	/** Appends a line with the statistics of each pool that has them enabled. When allocation sites are captured, the number of
+	 * objects in use is listed below each pool by the site they were obtained from.
+	 * @param resetCounts If true, {@link PoolStats#resetCounts()} is called after appending the statistics, so calling this once
+	 *           per frame gives the counts for each frame. */
+	static public void dumpStats (StringBuilder buffer, boolean resetCounts) {
+		ObjectIntMap<String> sites = null;
+		for (ObjectMap.Entry<Class, Pool> entry : new ObjectMap.Entries<Class, Pool>(typePools)) {
+			PoolStats stats = entry.value.getStats();
+			if (stats == null) continue;
+			synchronized (stats) {
+				buffer.append(entry.key.getSimpleName()).append(": ").append(stats.toString()).append(", free: ")
+					.append(entry.value.getFree()).append('\n');
+				if (stats.capturesAllocationSites()) {
+					if (sites == null) sites = new ObjectIntMap();
+					stats.getOutstanding(sites);
+					for (ObjectIntMap.Entry<String> site : sites)
+						buffer.append("  ").append(site.value).append(" in use from ").append(site.key).append('\n');
+					sites.clear();
+				}
+				if (resetCounts) stats.resetCounts();
+			}
+		}
+	}
+
 	private Pools () {
 	}
 }
@@ -115,7 +115,7 @@ public class UBJsonReader implements BaseJsonReader {
 		}
 		JsonValue prev = null;
 		long c = 0;
-		while (din.available() > 0 && type != ']') {
+		while (type != ']') {
 			final JsonValue val = parse(din, type);
 			val.parent = result;
 			if (prev != null) {
@@ -150,7 +150,7 @@ public class UBJsonReader implements BaseJsonReader {
 		}
 		JsonValue prev = null;
 		long c = 0;
-		while (din.available() > 0 && type != '}') {
+		while (type != '}') {
 			final String key = parseString(din, true, type);
 			final JsonValue child = parse(din, valueType == 0 ? din.readByte() : valueType);
 			child.setName(key);
@@ -16,14 +16,13 @@
 
 package com.badlogic.gdx.utils;
 
-import java.io.Closeable;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
 /** Builder style API for emitting UBJSON.
  * @author Justin Shapcott */
-public class UBJsonWriter implements Closeable {
+public class UBJsonWriter implements BaseJsonWriter {
 
 	final DataOutputStream out;
 
@@ -81,16 +80,7 @@ public class UBJsonWriter implements Closeable {
 	public UBJsonWriter name (String name) throws IOException {
 		if (current == null || current.array) throw new IllegalStateException("Current item must be an object.");
 		byte[] bytes = name.getBytes("UTF-8");
-		if (bytes.length <= Byte.MAX_VALUE) {
-			out.writeByte('i');
-			out.writeByte(bytes.length);
-		} else if (bytes.length <= Short.MAX_VALUE) {
-			out.writeByte('I');
-			out.writeShort(bytes.length);
-		} else {
-			out.writeByte('l');
-			out.writeInt(bytes.length);
-		}
+		size(bytes.length);
 		out.write(bytes);
 		named = true;
 		return this;
@@ -178,16 +168,7 @@ public class UBJsonWriter implements Closeable {
 		checkName();
 		byte[] bytes = value.getBytes("UTF-8");
 		out.writeByte('S');
-		if (bytes.length <= Byte.MAX_VALUE) {
-			out.writeByte('i');
-			out.writeByte(bytes.length);
-		} else if (bytes.length <= Short.MAX_VALUE) {
-			out.writeByte('I');
-			out.writeShort(bytes.length);
-		} else {
-			out.writeByte('l');
-			out.writeInt(bytes.length);
-		}
+		size(bytes.length);
 		out.write(bytes);
 		return this;
 	}
@@ -200,7 +181,7 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('$');
 		out.writeByte('i');
 		out.writeByte('#');
-		value(values.length);
+		size(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
 			out.writeByte(values[i]);
 		}
@@ -216,7 +197,7 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('$');
 		out.writeByte('I');
 		out.writeByte('#');
-		value(values.length);
+		size(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
 			out.writeShort(values[i]);
 		}
@@ -232,7 +213,7 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('$');
 		out.writeByte('l');
 		out.writeByte('#');
-		value(values.length);
+		size(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
 			out.writeInt(values[i]);
 		}
@@ -248,7 +229,7 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('$');
 		out.writeByte('L');
 		out.writeByte('#');
-		value(values.length);
+		size(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
 			out.writeLong(values[i]);
 		}
@@ -264,7 +245,7 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('$');
 		out.writeByte('d');
 		out.writeByte('#');
-		value(values.length);
+		size(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
 			out.writeFloat(values[i]);
 		}
@@ -281,7 +262,7 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('$');
 		out.writeByte('D');
 		out.writeByte('#');
-		value(values.length);
+		size(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
 			out.writeDouble(values[i]);
 		}
@@ -308,7 +289,7 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('$');
 		out.writeByte('C');
 		out.writeByte('#');
-		value(values.length);
+		size(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
 			out.writeChar(values[i]);
 		}
@@ -324,19 +305,10 @@ public class UBJsonWriter implements Closeable {
 		out.writeByte('$');
 		out.writeByte('S');
 		out.writeByte('#');
-		value(values.length);
+		size(values.length);
 		for (int i = 0, n = values.length; i < n; i++) {
 			byte[] bytes = values[i].getBytes("UTF-8");
-			if (bytes.length <= Byte.MAX_VALUE) {
-				out.writeByte('i');
-				out.writeByte(bytes.length);
-			} else if (bytes.length <= Short.MAX_VALUE) {
-				out.writeByte('I');
-				out.writeShort(bytes.length);
-			} else {
-				out.writeByte('l');
-				out.writeInt(bytes.length);
-			}
+			size(bytes.length);
 			out.write(bytes);
 		}
 		pop(true);
@@ -384,7 +356,7 @@ public class UBJsonWriter implements Closeable {
 	}
 
 	/** Appends the object to the stream, if it is a known value type. This is a convenience method that calls through to the
-	 * appropriate value method.
+	 * appropriate value method. Primitive arrays are appended as optimized arrays.
 	 * @return this writer, for chaining */
 	public UBJsonWriter value (Object object) throws IOException {
 		if (object == null) {
@@ -397,10 +369,28 @@ public class UBJsonWriter implements Closeable {
 			if (object instanceof Long) return value(number.longValue());
 			if (object instanceof Float) return value(number.floatValue());
 			if (object instanceof Double) return value(number.doubleValue());
+		} else if (object instanceof Boolean) {
+			return value(((Boolean)object).booleanValue());
 		} else if (object instanceof Character) {
 			return value(((Character)object).charValue());
 		} else if (object instanceof CharSequence) {
 			return value(object.toString());
+		} else if (object instanceof float[]) {
+			return value((float[])object);
+		} else if (object instanceof int[]) {
+			return value((int[])object);
+		} else if (object instanceof long[]) {
+			return value((long[])object);
+		} else if (object instanceof double[]) {
+			return value((double[])object);
+		} else if (object instanceof short[]) {
+			return value((short[])object);
+		} else if (object instanceof byte[]) {
+			return value((byte[])object);
+		} else if (object instanceof char[]) {
+			return value((char[])object);
+		} else if (object instanceof boolean[]) {
+			return value((boolean[])object);
 		} else
 			throw new IOException("Unknown object type.");
 
@@ -523,12 +513,33 @@ public class UBJsonWriter implements Closeable {
 		return name(name).value(value);
 	}
 
+	/** Appends a named value to the stream, if it is a known value type.
+	 * @return this writer, for chaining
+	 * @see #value(Object) */
+	public UBJsonWriter set (String name, @Null Object value) throws IOException {
+		return name(name).value(value);
+	}
+
 	/** Appends a named {@code null} array value to the stream.
 	 * @return this writer, for chaining */
 	public UBJsonWriter set (String name) throws IOException {
 		return name(name).value();
 	}
 
+	/** Writes a length using the smallest integer type that can hold it. */
+	private void size (int size) throws IOException {
+		if (size <= Byte.MAX_VALUE) {
+			out.writeByte('i');
+			out.writeByte(size);
+		} else if (size <= Short.MAX_VALUE) {
+			out.writeByte('I');
+			out.writeShort(size);
+		} else {
+			out.writeByte('l');
+			out.writeInt(size);
+		}
+	}
+
 	private void checkName () {
 		if (current != null) {
 			if (!current.array) {
@@ -0,0 +1,46 @@
+
+package com.badlogic.gdx.graphics;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.glutils.IndexData;
+import com.badlogic.gdx.graphics.glutils.InstanceData;
+import com.badlogic.gdx.graphics.glutils.VertexData;
+import com.badlogic.gdx.utils.Array;
+
+public class MeshTest {
+	@Test
+	public void unbindInstancesWhileVerticesBound () {
+		Array<String> calls = new Array<String>();
+		Mesh mesh = new Mesh(record(VertexData.class, "vertices", calls), record(IndexData.class, "indices", calls), false);
+		mesh.instances = record(InstanceData.class, "instances", calls);
+		mesh.isInstanced = true;
+
+		mesh.bind(null, null, null);
+		// With a vertex array object, the instance divisors are only reset for the mesh if its VAO is still bound.
+		assertEquals(new Array<String>(new String[] {"vertices.bind", "instances.bind", "indices.bind"}), calls);
+		calls.clear();
+		mesh.unbind(null, null, null);
+		assertEquals(new Array<String>(new String[] {"instances.unbind", "vertices.unbind", "indices.unbind"}), calls);
+	}
+
+	/** Returns an implementation of the interface which adds "name.method" to the calls for bind and unbind, and which has one
+	 * element for the getters. */
+	private <T> T record (Class<T> type, final String name, final Array<String> calls) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, new InvocationHandler() {
+			@Override
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("bind") || method.getName().equals("unbind"))
+					calls.add(name + "." + method.getName());
+				else if (method.getReturnType() == int.class) return 1;
+				return null;
+			}
+		}));
+	}
+}
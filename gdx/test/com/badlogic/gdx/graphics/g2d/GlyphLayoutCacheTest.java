@@ -0,0 +1,117 @@
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+
+public class GlyphLayoutCacheTest {
+	private BitmapFont font;
+
+	@Before
+	public void setup () {
+		BitmapFontData data = new BitmapFontData();
+		data.lineHeight = 12;
+		data.capHeight = 10;
+		font = new BitmapFont(data, Array.with(new TextureRegion()), false);
+		for (char c = ' '; c <= 'z'; c++) {
+			Glyph glyph = new Glyph();
+			glyph.id = c;
+			glyph.width = 8;
+			glyph.height = 10;
+			glyph.xadvance = 10;
+			data.setGlyph(c, glyph);
+		}
+		data.spaceXadvance = 10;
+	}
+
+	@Test
+	public void hitCopiesLayout () {
+		GlyphLayoutCache cache = new GlyphLayoutCache(8);
+		GlyphLayout expected = new GlyphLayout(), first = new GlyphLayout(), second = new GlyphLayout();
+		expected.setText(font, "hello world wraps", Color.WHITE, 60, Align.center, true);
+
+		cache.setText(first, font, "hello world wraps", Color.WHITE, 60, Align.center, true);
+		assertEquals(0, cache.hits);
+		assertEquals(1, cache.misses);
+		assertSameLayout(expected, first);
+
+		cache.setText(second, font, new StringBuilder("hello world wraps"), Color.WHITE, 60, Align.center, true);
+		assertEquals(1, cache.hits);
+		assertSameLayout(expected, second);
+		assertNotSame(first.runs.first(), second.runs.first());
+		assertEquals(0.5f, cache.getHitRate(), 0);
+
+		// Substrings with the same characters share an entry.
+		cache.setText(second, font, "xxhello world wrapsxx", 2, 19, Color.WHITE, 60, Align.center, true, null);
+		assertEquals(2, cache.hits);
+	}
+
+	@Test
+	public void keyParameters () {
+		GlyphLayoutCache cache = new GlyphLayoutCache(16);
+		GlyphLayout layout = new GlyphLayout();
+		cache.setText(layout, font, "hello world", Color.WHITE, 60, Align.left, true);
+		cache.setText(layout, font, "hello world", Color.WHITE, 70, Align.left, true);
+		cache.setText(layout, font, "hello world", Color.WHITE, 60, Align.right, true);
+		cache.setText(layout, font, "hello world", Color.WHITE, 60, Align.left, false);
+		cache.setText(layout, font, "hello world", Color.RED, 60, Align.left, true);
+		cache.setText(layout, font, "hello world", 0, 11, Color.WHITE, 60, Align.left, false, "...");
+		cache.setText(layout, font, "hello worle", Color.WHITE, 60, Align.left, true);
+		font.getData().setScale(2);
+		cache.setText(layout, font, "hello world", Color.WHITE, 60, Align.left, true);
+		assertEquals(0, cache.hits);
+		assertEquals(8, cache.size());
+
+		GlyphLayout expected = new GlyphLayout();
+		expected.setText(font, "hello world", Color.WHITE, 60, Align.left, true);
+		cache.setText(layout, font, "hello world", Color.WHITE, 60, Align.left, true);
+		assertEquals(1, cache.hits);
+		assertSameLayout(expected, layout);
+	}
+
+	@Test
+	public void leastRecentlyUsedEviction () {
+		GlyphLayoutCache cache = new GlyphLayoutCache(2);
+		GlyphLayout layout = new GlyphLayout();
+		cache.setText(layout, font, "a");
+		cache.setText(layout, font, "b");
+		cache.setText(layout, font, "a"); // b is now least recently used.
+		cache.setText(layout, font, "c");
+		assertEquals(1, cache.evictions);
+		assertEquals(2, cache.size());
+
+		cache.resetStats();
+		cache.setText(layout, font, "a");
+		cache.setText(layout, font, "c");
+		assertEquals(2, cache.hits);
+		cache.setText(layout, font, "b");
+		assertEquals(1, cache.misses);
+		assertEquals(1, cache.evictions);
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		cache.setText(layout, font, "b");
+		assertEquals(2, cache.misses);
+	}
+
+	private void assertSameLayout (GlyphLayout expected, GlyphLayout actual) {
+		assertEquals(expected.toString(), actual.toString());
+		assertEquals(expected.width, actual.width, 0);
+		assertEquals(expected.height, actual.height, 0);
+		assertEquals(expected.glyphCount, actual.glyphCount);
+		assertEquals(expected.colors, actual.colors);
+		assertEquals(expected.runs.size, actual.runs.size);
+		for (int i = 0; i < expected.runs.size; i++) {
+			assertEquals(expected.runs.get(i).glyphs, actual.runs.get(i).glyphs);
+			assertEquals(expected.runs.get(i).xAdvances, actual.runs.get(i).xAdvances);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class SpriteVertexWriterTest {
+	@Test
+	public void parallelMatchesSequentialTest () {
+		Random random = new Random(7);
+		Sprite[] sprites = new Sprite[1000];
+		for (int i = 0; i < sprites.length; i++) {
+			Sprite sprite = new Sprite();
+			sprite.setBounds(random.nextFloat() * 800, random.nextFloat() * 600, 8 + random.nextFloat() * 32, 16);
+			sprite.setOriginCenter();
+			sprite.setRotation(random.nextFloat() * 360);
+			sprite.setColor(random.nextFloat(), random.nextFloat(), random.nextFloat(), 1);
+			sprites[i] = sprite;
+		}
+		Affine2 transform = new Affine2().setToTrnRotScl(10, 20, 30, 2, 0.5f);
+
+		AsyncExecutor executor = new AsyncExecutor(3, "SpriteVertexWriterTest");
+		try {
+			SpriteVertexWriter sequential = new SpriteVertexWriter();
+			SpriteVertexWriter parallel = new SpriteVertexWriter(executor, 4);
+			parallel.minSpritesPerTask = 16;
+			// Uneven count and offsets, so the ranges do not split evenly.
+			int offset = 3, count = 997, index = 40;
+			for (int mode = 0; mode < 4; mode++) {
+				Affine2 modeTransform = mode % 2 == 0 ? null : transform;
+				boolean triangles = mode >= 2;
+				int length = index + count * (triangles ? 6 * Sprite.VERTEX_SIZE : Sprite.SPRITE_SIZE) + 10;
+				float[] expected = new float[length], actual = new float[length];
+				sequential.write(sprites, offset, count, expected, index, modeTransform, triangles);
+				parallel.write(sprites, offset, count, actual, index, modeTransform, triangles);
+				assertArrayEquals("transform " + (modeTransform != null) + ", triangles " + triangles, expected, actual, 0);
+				// Nothing is written outside the range.
+				assertEquals(0, actual[index - 1], 0);
+				assertEquals(0, actual[length - 1], 0);
+				assertNotEquals(0, actual[length - 10 - Sprite.VERTEX_SIZE], 0);
+			}
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void failedTaskTest () {
+		Sprite[] sprites = new Sprite[100];
+		for (int i = 0; i < sprites.length; i++) {
+			sprites[i] = new Sprite();
+			sprites[i].setBounds(i, i, 10, 10);
+		}
+		float[] expected = new float[sprites.length * Sprite.SPRITE_SIZE];
+		new SpriteVertexWriter().write(sprites, 0, sprites.length, expected, 0, null, false);
+
+		AsyncExecutor executor = new AsyncExecutor(3, "SpriteVertexWriterTest");
+		try {
+			SpriteVertexWriter writer = new SpriteVertexWriter(executor, 4);
+			writer.minSpritesPerTask = 16;
+			// The last range is written by a task.
+			Sprite last = sprites[sprites.length - 1];
+			sprites[sprites.length - 1] = null;
+			float[] vertices = new float[expected.length];
+			try {
+				writer.write(sprites, 0, sprites.length, vertices, 0, null, false);
+				fail();
+			} catch (GdxRuntimeException expectedException) {
+			}
+
+			// The failed task does not break later writes.
+			sprites[sprites.length - 1] = last;
+			vertices = new float[expected.length];
+			writer.write(sprites, 0, sprites.length, vertices, 0, null, false);
+			assertArrayEquals(expected, vertices, 0);
+		} finally {
+			executor.dispose();
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+import com.badlogic.gdx.utils.Array;
+
+public class TextureAtlasTest {
+	private final Texture texture = new TestTexture();
+
+	@Test
+	public void findRegionTest () {
+		TextureAtlas atlas = new TextureAtlas();
+		AtlasRegion walk0 = addRegion(atlas, "walk", 0), walk1 = addRegion(atlas, "walk", 1);
+		AtlasRegion idle = addRegion(atlas, "idle", -1);
+		assertSame(walk0, atlas.findRegion("walk"));
+		assertSame(walk1, atlas.findRegion("walk", 1));
+		assertSame(idle, atlas.findRegion("idle"));
+		assertNull(atlas.findRegion("run"));
+		assertNull(atlas.findRegion("walk", 2));
+
+		Array<AtlasRegion> regions = new Array();
+		regions.add(idle);
+		assertSame(regions, atlas.findRegions("walk", regions));
+		assertEquals(3, regions.size);
+		assertSame(walk0, regions.get(1));
+		assertSame(walk1, regions.get(2));
+		atlas.findRegions("run", regions);
+		assertEquals(3, regions.size);
+
+		Array<AtlasRegion> copies = atlas.findRegions("walk");
+		assertEquals(2, copies.size);
+		assertNotSame(walk0, copies.first());
+		assertEquals(1, copies.get(1).index);
+	}
+
+	@Test
+	public void modifiedRegionsTest () {
+		TextureAtlas atlas = new TextureAtlas();
+		AtlasRegion a = addRegion(atlas, "a", -1), b = addRegion(atlas, "b", -1);
+		assertSame(a, atlas.findRegion("a"));
+
+		// Same size after each change, so the index must not rely on the number of regions.
+		AtlasRegion c = newRegion("c", -1);
+		atlas.getRegions().set(0, c);
+		assertNull(atlas.findRegion("a"));
+		assertSame(c, atlas.findRegion("c"));
+
+		atlas.getRegions().removeValue(b, true);
+		atlas.getRegions().add(a);
+		assertNull(atlas.findRegion("b"));
+		assertSame(a, atlas.findRegion("a"));
+
+		// Order matters for which region is found first.
+		AtlasRegion a2 = newRegion("a", -1);
+		atlas.getRegions().set(0, a2);
+		assertSame(a2, atlas.findRegion("a"));
+		atlas.getRegions().reverse();
+		assertSame(a, atlas.findRegion("a"));
+
+		// Regions added through the atlas after a direct change are still found.
+		AtlasRegion d = addRegion(atlas, "d", -1);
+		assertSame(d, atlas.findRegion("d"));
+		atlas.getRegions().clear();
+		assertNull(atlas.findRegion("d"));
+	}
+
+	private AtlasRegion addRegion (TextureAtlas atlas, String name, int index) {
+		AtlasRegion region = atlas.addRegion(name, texture, 0, 0, 8, 8);
+		region.index = index;
+		return region;
+	}
+
+	private AtlasRegion newRegion (String name, int index) {
+		AtlasRegion region = new AtlasRegion(texture, 0, 0, 8, 8);
+		region.name = name;
+		region.index = index;
+		return region;
+	}
+
+	/** A texture without GL state, only its size is used. */
+	static class TestTexture extends Texture {
+		TestTexture () {
+			super(GL20.GL_TEXTURE_2D, 0, new GLOnlyTextureData(64, 64, 0, GL20.GL_RGBA, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE));
+		}
+
+		public void load (TextureData data) {
+		}
+
+		public int getWidth () {
+			return 64;
+		}
+
+		public int getHeight () {
+			return 64;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+
+package com.badlogic.gdx.graphics.g3d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.utils.BaseShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+public class ModelBatchTest {
+	private ModelBatch batch;
+	private PerspectiveCamera camera;
+
+	@Before
+	public void setUp () {
+		batch = new ModelBatch(new RenderContext(null), new BaseShaderProvider() {
+			@Override
+			protected Shader createShader (Renderable renderable) {
+				return null;
+			}
+
+			@Override
+			public Shader getShader (Renderable renderable) {
+				return null;
+			}
+		}, null);
+		// A box from -20 to 20 on x and y and from -1 to -100 on z, with the normals pointing inward.
+		camera = new PerspectiveCamera();
+		Plane[] planes = camera.frustum.planes;
+		planes[0].set(new Vector3(0, 0, -1), new Vector3(0, 0, -1));
+		planes[1].set(new Vector3(0, 0, -100), new Vector3(0, 0, 1));
+		planes[2].set(new Vector3(-20, 0, 0), new Vector3(1, 0, 0));
+		planes[3].set(new Vector3(20, 0, 0), new Vector3(-1, 0, 0));
+		planes[4].set(new Vector3(0, -20, 0), new Vector3(0, 1, 0));
+		planes[5].set(new Vector3(0, 20, 0), new Vector3(0, -1, 0));
+	}
+
+	@Test
+	public void testCullingDisabled () {
+		batch.begin(camera);
+		batch.render(new Provider(new Matrix4().setToTranslation(0, 0, 10)));
+		assertEquals(1, batch.renderables.size);
+		assertEquals(1, batch.submittedRenderables);
+		assertEquals(0, batch.culledRenderables);
+	}
+
+	@Test
+	public void testCulling () {
+		batch.setCulling(true);
+		batch.begin(camera);
+		Renderable inFront = renderable(new Matrix4().setToTranslation(0, 0, -10));
+		Renderable behind = renderable(new Matrix4().setToTranslation(0, 0, 10));
+		Renderable beside = renderable(new Matrix4().setToTranslation(50, 0, -10));
+		// The scaled sphere reaches into the frustum.
+		Renderable scaled = renderable(new Matrix4().setToTranslation(50, 0, -10).scale(1, 1, 45));
+		Renderable skinned = renderable(new Matrix4().setToTranslation(0, 0, 10));
+		skinned.bones = new Matrix4[0];
+		Renderable unknownBounds = renderable(new Matrix4().setToTranslation(0, 0, 10));
+		unknownBounds.meshPart.radius = -1;
+		batch.render(new Provider(inFront, behind, beside, scaled, skinned, unknownBounds));
+		batch.render(renderable(new Matrix4().setToTranslation(0, 200, -10)));
+
+		assertEquals(4, batch.renderables.size);
+		assertSame(inFront, batch.renderables.get(0));
+		assertSame(scaled, batch.renderables.get(1));
+		assertSame(skinned, batch.renderables.get(2));
+		assertSame(unknownBounds, batch.renderables.get(3));
+		assertEquals(4, batch.submittedRenderables);
+		assertEquals(3, batch.culledRenderables);
+	}
+
+	private Renderable renderable (Matrix4 transform) {
+		Renderable renderable = new Renderable();
+		renderable.meshPart.radius = 1;
+		renderable.worldTransform.set(transform);
+		return renderable;
+	}
+
+	private class Provider implements RenderableProvider {
+		final Renderable[] renderables;
+
+		Provider (Matrix4 transform) {
+			this(renderable(transform));
+		}
+
+		Provider (Renderable... renderables) {
+			this.renderables = renderables;
+		}
+
+		@Override
+		public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+			renderables.addAll(this.renderables);
+		}
+	}
+}
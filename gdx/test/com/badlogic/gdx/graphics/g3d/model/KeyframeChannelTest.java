@@ -0,0 +1,95 @@
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+public class KeyframeChannelTest {
+	@Test
+	public void testFindKey () {
+		float[] times = {0.5f, 1, 2, 2.5f, 4, 8, 8.25f};
+		KeyframeChannel channel = new KeyframeChannel(times, 1, new float[times.length], false);
+		for (float time = 0; time < 9; time += 0.125f) {
+			int expected = 0;
+			for (int i = 0; i < times.length; i++)
+				if (times[i] <= time) expected = i;
+			for (int hint = -1; hint <= times.length; hint++)
+				assertEquals("time " + time + ", hint " + hint, expected, channel.findKey(time, hint));
+		}
+	}
+
+	@Test
+	public void testQuantize () {
+		float[] times = {0, 1, 2}, values = {-10, 0.5f, 7, 3.25f, 0.5f, 100, 10, 0.5f, -2};
+		KeyframeChannel floats = new KeyframeChannel(times, 3, values, false);
+		KeyframeChannel quantized = new KeyframeChannel(times, 3, values, true);
+		assertFalse(floats.isQuantized());
+		assertTrue(quantized.isQuantized());
+		for (int key = 0; key < times.length; key++) {
+			for (int c = 0; c < 3; c++) {
+				assertEquals(values[key * 3 + c], floats.getValue(key, c), 0);
+				assertEquals(values[key * 3 + c], quantized.getValue(key, c), 102 / 65535f);
+			}
+		}
+	}
+
+	@Test
+	public void testCompactMatchesKeyframes () {
+		Model keyframes = createModel(), compact = createModel(), quantized = createModel();
+		compact.animations.first().compact(false);
+		quantized.animations.first().compact(true);
+		NodeAnimation nodeAnimation = compact.animations.first().nodeAnimations.first();
+		assertNull(nodeAnimation.translation);
+		assertNotNull(nodeAnimation.rotationChannel);
+
+		AnimationController expected = createController(keyframes), actual = createController(compact),
+			approximate = createController(quantized);
+		for (int frame = 0; frame < 100; frame++) {
+			expected.update(1 / 30f);
+			actual.update(1 / 30f);
+			approximate.update(1 / 30f);
+			Node node = expected.target.nodes.first();
+			assertArrayEquals(node.localTransform.val, actual.target.nodes.first().localTransform.val, 0.0001f);
+			assertArrayEquals(node.localTransform.val, approximate.target.nodes.first().localTransform.val, 0.001f);
+		}
+	}
+
+	private AnimationController createController (Model model) {
+		AnimationController controller = new AnimationController(new ModelInstance(model));
+		controller.setAnimation("a", -1);
+		return controller;
+	}
+
+	private Model createModel () {
+		Model model = new Model();
+		Node node = new Node();
+		node.id = "node";
+		model.nodes.add(node);
+		Animation animation = new Animation();
+		animation.id = "a";
+		animation.duration = 2;
+		NodeAnimation nodeAnimation = new NodeAnimation();
+		nodeAnimation.node = node;
+		nodeAnimation.translation = new Array();
+		nodeAnimation.rotation = new Array();
+		nodeAnimation.scaling = new Array();
+		for (int k = 0; k <= 8; k++) {
+			float time = animation.duration * k / 8;
+			nodeAnimation.translation.add(new NodeKeyframe<Vector3>(time, new Vector3(k, MathUtils.sinDeg(k * 40), -k * 0.5f)));
+			nodeAnimation.rotation.add(new NodeKeyframe<Quaternion>(time, new Quaternion(Vector3.Y, k * 40)));
+			nodeAnimation.scaling.add(new NodeKeyframe<Vector3>(time, new Vector3(1 + k * 0.1f, 1, 1)));
+		}
+		animation.nodeAnimations.add(nodeAnimation);
+		model.animations.add(animation);
+		return model;
+	}
+}
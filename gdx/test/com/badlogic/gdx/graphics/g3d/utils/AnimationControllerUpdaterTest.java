@@ -0,0 +1,96 @@
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
+import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class AnimationControllerUpdaterTest {
+	@Test
+	public void testParallelMatchesSequential () {
+		Model model = createModel(8);
+		Array<AnimationController> sequential = createControllers(model, 200);
+		Array<AnimationController> parallel = createControllers(model, 200);
+
+		AsyncExecutor executor = new AsyncExecutor(3, "AnimationControllerUpdaterTest");
+		try {
+			AnimationControllerUpdater sequentialUpdater = new AnimationControllerUpdater();
+			AnimationControllerUpdater parallelUpdater = new AnimationControllerUpdater(executor, 4);
+			parallelUpdater.minControllersPerTask = 1;
+			for (int frame = 0; frame < 30; frame++) {
+				if (frame == 10) {
+					// Blend to the second animation.
+					for (int i = 0; i < sequential.size; i++) {
+						sequential.get(i).animate("b", -1, null, 0.5f);
+						parallel.get(i).animate("b", -1, null, 0.5f);
+					}
+				}
+				sequentialUpdater.update(sequential, 1 / 30f);
+				parallelUpdater.update(parallel, 1 / 30f);
+			}
+		} finally {
+			executor.dispose();
+		}
+
+		for (int i = 0; i < sequential.size; i++) {
+			Array<Node> expected = sequential.get(i).target.nodes, actual = parallel.get(i).target.nodes;
+			assertFalse(expected.first().globalTransform.equals(new Matrix4()));
+			for (int n = 0; n < expected.size; n++)
+				assertArrayEquals(expected.get(n).globalTransform.val, actual.get(n).globalTransform.val, 0);
+		}
+	}
+
+	private Array<AnimationController> createControllers (Model model, int count) {
+		Array<AnimationController> controllers = new Array();
+		for (int i = 0; i < count; i++) {
+			AnimationController controller = new AnimationController(new ModelInstance(model));
+			controller.setAnimation("a", -1, 1 + i % 7 * 0.1f, null);
+			controllers.add(controller);
+		}
+		return controllers;
+	}
+
+	private Model createModel (int nodeCount) {
+		Model model = new Model();
+		Animation a = new Animation(), b = new Animation();
+		a.id = "a";
+		a.duration = 1;
+		b.id = "b";
+		b.duration = 2;
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			node.id = "node" + i;
+			model.nodes.add(node);
+			a.nodeAnimations.add(createNodeAnimation(node, a.duration, i));
+			b.nodeAnimations.add(createNodeAnimation(node, b.duration, -i));
+		}
+		model.animations.add(a);
+		model.animations.add(b);
+		return model;
+	}
+
+	private NodeAnimation createNodeAnimation (Node node, float duration, int seed) {
+		NodeAnimation nodeAnimation = new NodeAnimation();
+		nodeAnimation.node = node;
+		nodeAnimation.translation = new Array();
+		nodeAnimation.rotation = new Array();
+		for (int k = 0; k <= 4; k++) {
+			float time = duration * k / 4;
+			nodeAnimation.translation.add(new NodeKeyframe<Vector3>(time, new Vector3(seed + k, k * 2, -k)));
+			nodeAnimation.rotation.add(new NodeKeyframe<Quaternion>(time, new Quaternion(Vector3.Y, seed * 10 + k * 45)));
+		}
+		return nodeAnimation;
+	}
+}
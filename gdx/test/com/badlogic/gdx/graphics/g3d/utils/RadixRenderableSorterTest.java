@@ -0,0 +1,75 @@
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+public class RadixRenderableSorterTest {
+	private final Camera camera = new PerspectiveCamera();
+	private final Material opaque = new Material("opaque"), blended = new Material("blended", new BlendingAttribute());
+
+	private Renderable renderable (Material material, Shader shader, float z) {
+		Renderable renderable = new Renderable();
+		renderable.material = material;
+		renderable.shader = shader;
+		renderable.worldTransform.setToTranslation(0, 0, z);
+		return renderable;
+	}
+
+	@Test
+	public void testOpaqueBeforeBlended () {
+		Array<Renderable> renderables = new Array<Renderable>();
+		Renderable blendedNear = renderable(blended, null, -1), blendedFar = renderable(blended, null, -50);
+		Renderable opaqueNear = renderable(opaque, null, -2), opaqueFar = renderable(opaque, null, -40);
+		renderables.addAll(blendedNear, opaqueFar, blendedFar, opaqueNear);
+		new RadixRenderableSorter().sort(camera, renderables);
+		// Opaque front to back, then blended back to front.
+		assertSame(opaqueNear, renderables.get(0));
+		assertSame(opaqueFar, renderables.get(1));
+		assertSame(blendedFar, renderables.get(2));
+		assertSame(blendedNear, renderables.get(3));
+	}
+
+	@Test
+	public void testGroupsOpaqueByState () {
+		Material red = new Material("red", ColorAttribute.createDiffuse(1, 0, 0, 1));
+		Material redCopy = new Material(red);
+		Array<Renderable> renderables = new Array<Renderable>();
+		for (int i = 0; i < 100; i++)
+			renderables.add(renderable(i % 3 == 0 ? opaque : (i % 2 == 0 ? red : redCopy), null, -MathUtils.random(1f, 100f)));
+		new RadixRenderableSorter().sort(camera, renderables);
+
+		// Equal materials are consecutive, each run front to back.
+		int runs = 1;
+		for (int i = 1; i < renderables.size; i++) {
+			Renderable previous = renderables.get(i - 1), current = renderables.get(i);
+			if (previous.material.equals(current.material))
+				assertTrue(previous.worldTransform.val[14] >= current.worldTransform.val[14]);
+			else
+				runs++;
+		}
+		assertEquals(2, runs);
+	}
+
+	@Test
+	public void testStable () {
+		Array<Renderable> renderables = new Array<Renderable>();
+		for (int i = 0; i < 10; i++)
+			renderables.add(renderable(opaque, null, -5));
+		Array<Renderable> expected = new Array<Renderable>(renderables);
+		new RadixRenderableSorter().sort(camera, renderables);
+		for (int i = 0; i < renderables.size; i++)
+			assertSame(expected.get(i), renderables.get(i));
+	}
+}
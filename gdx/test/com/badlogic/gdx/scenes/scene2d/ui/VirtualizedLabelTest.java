@@ -0,0 +1,143 @@
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
+import com.badlogic.gdx.utils.Array;
+
+public class VirtualizedLabelTest {
+	private LabelStyle style;
+
+	@Before
+	public void setup () {
+		BitmapFontData data = new BitmapFontData();
+		data.lineHeight = 12;
+		data.capHeight = 10;
+		BitmapFont font = new BitmapFont(data, Array.with(new TextureRegion()), false);
+		for (char c = ' '; c <= 'z'; c++) {
+			Glyph glyph = new Glyph();
+			glyph.id = c;
+			glyph.width = 8;
+			glyph.height = 10;
+			glyph.xadvance = 10;
+			data.setGlyph(c, glyph);
+		}
+		data.spaceXadvance = 10;
+		style = new LabelStyle(font, Color.WHITE);
+	}
+
+	@Test
+	public void newlines () {
+		VirtualizedLabel label = new VirtualizedLabel("ab\ncd\r\n\nefg", style);
+		assertLines(label, "ab", "cd", "", "efg");
+		assertEquals(30, label.getPrefWidth(), 0);
+
+		label.setText("");
+		assertLines(label, "");
+		label.setText("ab\n");
+		assertLines(label, "ab", "");
+	}
+
+	@Test
+	public void wrap () {
+		VirtualizedLabel label = new VirtualizedLabel("aaa bbb cccccccc", style);
+		label.setWrap(true);
+		label.setWidth(75);
+		label.layout();
+		assertLines(label, "aaa bbb ", "ccccccc", "c");
+		assertEquals(0, label.getPrefWidth(), 0);
+	}
+
+	@Test
+	public void appendMatchesSetText () {
+		String[] parts = {"first line\nsecond", " line cont", "inues\n", "\nlast words here", " and more"};
+		VirtualizedLabel appended = new VirtualizedLabel(null, style), set = new VirtualizedLabel(null, style);
+		appended.setWrap(true);
+		set.setWrap(true);
+		appended.setWidth(100);
+		set.setWidth(100);
+		appended.layout();
+		set.layout();
+		StringBuilder text = new StringBuilder();
+		for (String part : parts) {
+			appended.append(part);
+			text.append(part);
+			set.setText(text);
+			assertEquals(set.getLineCount(), appended.getLineCount());
+			for (int i = 0; i < set.getLineCount(); i++) {
+				assertEquals(set.getLineStart(i), appended.getLineStart(i));
+				assertEquals(set.getLineEnd(i), appended.getLineEnd(i));
+			}
+		}
+	}
+
+	@Test
+	public void cachesVisibleLines () {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 10000; i++)
+			text.append("line ").append(i).append('\n');
+		VirtualizedLabel label = new VirtualizedLabel(text, style);
+		label.setMarginLines(5);
+		label.setSize(200, label.getPrefHeight());
+		float lineHeight = style.font.getLineHeight();
+
+		// Show lines 100 to 110.
+		float top = label.getHeight() - 100 * lineHeight;
+		label.setCullingArea(new Rectangle(0, top - 10 * lineHeight, 200, 10 * lineHeight));
+		label.updateCache(top, top - 10 * lineHeight);
+		assertEquals(95, label.getCacheStart());
+		assertTrue(label.getCacheEnd() >= 110 && label.getCacheEnd() <= 117);
+
+		// Appending does not affect lines far above the end.
+		int cacheEnd = label.getCacheEnd();
+		label.append("more");
+		label.updateCache(top, top - 10 * lineHeight);
+		assertEquals(95, label.getCacheStart());
+		assertEquals(cacheEnd, label.getCacheEnd());
+	}
+
+	@Test
+	public void appendNewlineWhileScrolledUp () {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 10000; i++)
+			text.append("line ").append(i).append('\n');
+		VirtualizedLabel label = new VirtualizedLabel(text, style);
+		label.setSize(200, label.getPrefHeight());
+		float lineHeight = style.font.getLineHeight();
+
+		// Show lines 100 to 110, then append a line and grow the label like a ScrollPane does, keeping the view on those lines.
+		float top = label.getHeight() - 100 * lineHeight;
+		label.updateCache(top, top - 10 * lineHeight);
+		int cacheStart = label.getCacheStart();
+		label.append("new\n");
+		label.setHeight(label.getPrefHeight());
+		top = label.getHeight() - 100 * lineHeight;
+		label.updateCache(top, top - 10 * lineHeight);
+		assertEquals(cacheStart, label.getCacheStart());
+
+		// The kept cache must match a label laid out from scratch.
+		VirtualizedLabel expected = new VirtualizedLabel(label.getText(), style);
+		expected.setSize(200, expected.getPrefHeight());
+		assertEquals(expected.getHeight(), label.getHeight(), 0);
+		expected.updateCache(top, top - 10 * lineHeight);
+		assertEquals(expected.getCacheStart(), label.getCacheStart());
+		assertEquals(expected.getBitmapFontCache().getVertexCount(0), label.getBitmapFontCache().getVertexCount(0));
+		assertArrayEquals(expected.getBitmapFontCache().getVertices(0), label.getBitmapFontCache().getVertices(0), 0.01f);
+	}
+
+	private void assertLines (VirtualizedLabel label, String... expected) {
+		assertEquals(expected.length, label.getLineCount());
+		for (int i = 0; i < expected.length; i++)
+			assertEquals(expected[i], label.getText().substring(label.getLineStart(i), label.getLineEnd(i)));
+	}
+}
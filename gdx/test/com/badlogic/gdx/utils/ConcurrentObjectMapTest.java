@@ -0,0 +1,122 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ConcurrentObjectMapTest {
+	@Test
+	public void objectMapTest () {
+		ConcurrentObjectMap<String, Integer> map = new ConcurrentObjectMap(4, 4);
+		assertTrue(map.isEmpty());
+		for (int i = 0; i < 100; i++)
+			assertNull(map.put("key" + i, i));
+		assertEquals(100, map.size());
+		assertEquals(42, (int)map.get("key42"));
+		assertEquals(-1, (int)map.get("missing", -1));
+		assertEquals(42, (int)map.put("key42", 43));
+		assertEquals(43, (int)map.putIfAbsent("key42", 44));
+		assertNull(map.putIfAbsent("key100", 100));
+		assertEquals(101, map.size());
+		assertEquals(100, (int)map.remove("key100"));
+		assertFalse(map.containsKey("key100"));
+
+		Array<String> keys = map.keys(new Array());
+		Array<Integer> values = map.values(new Array());
+		assertEquals(100, keys.size);
+		assertEquals(100, values.size);
+		ObjectMap<String, Integer> copy = map.copyTo(new ObjectMap());
+		for (int i = 0; i < keys.size; i++)
+			assertEquals(copy.get(keys.get(i)), map.get(keys.get(i)));
+
+		map.clear();
+		assertEquals(0, map.size());
+		assertNull(map.get("key1"));
+	}
+
+	@Test
+	public void intMapTest () {
+		ConcurrentIntMap<String> map = new ConcurrentIntMap(4, 4);
+		for (int i = -50; i < 50; i++)
+			assertNull(map.put(i, "value" + i));
+		assertEquals(100, map.size());
+		assertEquals("value0", map.get(0));
+		assertEquals("value-7", map.remove(-7));
+		assertEquals("none", map.get(-7, "none"));
+		assertEquals("value3", map.putIfAbsent(3, "other"));
+		IntArray keys = map.keys(new IntArray());
+		assertEquals(99, keys.size);
+		assertTrue(keys.contains(0));
+		assertEquals(99, map.values(new Array()).size);
+		assertEquals(99, map.copyTo(new IntMap()).size);
+	}
+
+	@Test
+	public void computeIfAbsentTest () {
+		ConcurrentObjectMap<String, Object> map = new ConcurrentObjectMap();
+		final AtomicInteger created = new AtomicInteger();
+		ConcurrentObjectMap.ValueFactory<String, Object> factory = new ConcurrentObjectMap.ValueFactory<String, Object>() {
+			public Object create (String key) {
+				created.incrementAndGet();
+				return key.length() == 0 ? null : key + "!";
+			}
+		};
+		assertEquals("a!", map.computeIfAbsent("a", factory));
+		assertEquals("a!", map.computeIfAbsent("a", factory));
+		assertEquals(1, created.get());
+		// A null value is stored, the factory is not called again.
+		assertNull(map.computeIfAbsent("", factory));
+		assertNull(map.computeIfAbsent("", factory));
+		assertEquals(2, created.get());
+		assertTrue(map.containsKey(""));
+	}
+
+	@Test
+	public void multipleThreadsTest () throws InterruptedException {
+		final ConcurrentIntMap<Object> map = new ConcurrentIntMap();
+		final int threadCount = 8, keyCount = 2000;
+		final AtomicInteger created = new AtomicInteger();
+		final AtomicBoolean failed = new AtomicBoolean();
+		final ConcurrentIntMap.ValueFactory<Object> factory = new ConcurrentIntMap.ValueFactory<Object>() {
+			public Object create (int key) {
+				created.incrementAndGet();
+				return new Object();
+			}
+		};
+		final Object[] results = new Object[threadCount * keyCount];
+		final CountDownLatch start = new CountDownLatch(1), done = new CountDownLatch(threadCount);
+		for (int t = 0; t < threadCount; t++) {
+			final int thread = t;
+			new Thread(new Runnable() {
+				public void run () {
+					try {
+						start.await();
+						for (int i = 0; i < keyCount; i++) {
+							int key = (i + thread * 37) % keyCount;
+							results[thread * keyCount + key] = map.computeIfAbsent(key, factory);
+							map.put(keyCount + thread * keyCount + i, Boolean.TRUE);
+						}
+					} catch (Throwable ex) {
+						failed.set(true);
+					} finally {
+						done.countDown();
+					}
+				}
+			}).start();
+		}
+		start.countDown();
+		done.await();
+		assertFalse(failed.get());
+		// Every thread must see the single value created for each key.
+		assertEquals(keyCount, created.get());
+		for (int t = 1; t < threadCount; t++)
+			for (int i = 0; i < keyCount; i++)
+				assertSame(results[i], results[t * keyCount + i]);
+		assertEquals(keyCount + threadCount * keyCount, map.size());
+	}
+}
@@ -0,0 +1,185 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+public class ConcurrentPoolTest {
+	@Test
+	public void obtainFreeTest () {
+		TestPool pool = new TestPool(16, 100, 2);
+		Item item = pool.obtain();
+		assertEquals(1, pool.created.get());
+		assertEquals(0, pool.getFree());
+		item.value = 5;
+		pool.free(item);
+		assertEquals(0, item.value);
+		assertEquals(1, pool.getFree());
+		assertSame(item, pool.obtain());
+		assertEquals(1, pool.created.get());
+	}
+
+	@Test
+	public void sharedQueueTest () {
+		TestPool pool = new TestPool(16, 100, 2);
+		Array<Item> items = new Array();
+		for (int i = 0; i < 10; i++)
+			items.add(pool.obtain());
+		pool.freeAll(items);
+		assertEquals(10, pool.getFree());
+		assertEquals(10, pool.peak);
+		for (int i = 0; i < 10; i++)
+			assertTrue(items.contains(pool.obtain(), true));
+		assertEquals(0, pool.getFree());
+		assertEquals(10, pool.created.get());
+	}
+
+	@Test
+	public void maxTest () {
+		TestPool pool = new TestPool(16, 5, 2);
+		Array<Item> items = new Array();
+		for (int i = 0; i < 10; i++)
+			items.add(pool.obtain());
+		pool.freeAll(items);
+		assertEquals(5, pool.getFree());
+		assertEquals(5, pool.discarded.get());
+		pool.fill(10);
+		assertEquals(5, pool.getFree());
+		pool.clear();
+		assertEquals(0, pool.getFree());
+		assertEquals(10, pool.discarded.get());
+	}
+
+	@Test
+	public void sharedCapacityTest () {
+		TestPool pool = new TestPool(16, 100, 0);
+		assertEquals(128, pool.sharedCapacity);
+		pool = new TestPool(16, Integer.MAX_VALUE, 0);
+		assertEquals(1024, pool.sharedCapacity);
+		pool.fill(2000);
+		assertEquals(1024, pool.getFree());
+	}
+
+	@Test
+	public void multipleThreadsTest () throws InterruptedException {
+		final TestPool pool = new TestPool(16, 64, 4);
+		final int threadCount = 8, iterations = 20000;
+		final AtomicBoolean failed = new AtomicBoolean();
+		final CountDownLatch start = new CountDownLatch(1), done = new CountDownLatch(threadCount);
+		for (int t = 0; t < threadCount; t++) {
+			new Thread(new Runnable() {
+				public void run () {
+					try {
+						start.await();
+						Array<Item> items = new Array();
+						for (int i = 0; i < iterations; i++) {
+							for (int ii = 0, n = i % 8 + 1; ii < n; ii++) {
+								Item item = pool.obtain();
+								// An item must never be handed out twice or be obtained before it was reset.
+								if (item.inUse.getAndSet(true) || item.value != 0) failed.set(true);
+								item.value = ii + 1;
+								items.add(item);
+							}
+							for (Item item : items)
+								item.inUse.set(false);
+							pool.freeAll(items);
+							items.clear();
+						}
+					} catch (Throwable ex) {
+						failed.set(true);
+					} finally {
+						done.countDown();
+					}
+				}
+			}).start();
+		}
+		start.countDown();
+		done.await();
+		assertFalse(failed.get());
+		assertTrue(pool.getFree() <= pool.max);
+		assertEquals(pool.created.get() - pool.discarded.get(), pool.getFree());
+	}
+
+	@Test
+	public void peakTest () throws InterruptedException {
+		final int threadCount = 8, perThread = 120;
+		for (int round = 0; round < 20; round++) {
+			final TestPool pool = new TestPool(16, Integer.MAX_VALUE, 4);
+			final CyclicBarrier obtained = new CyclicBarrier(threadCount);
+			final CountDownLatch done = new CountDownLatch(threadCount);
+			for (int t = 0; t < threadCount; t++) {
+				new Thread(new Runnable() {
+					public void run () {
+						try {
+							Array<Item> items = new Array();
+							for (int i = 0; i < perThread; i++)
+								items.add(pool.obtain());
+							obtained.await();
+							// The free count only grows now, so the peak must end at the total.
+							for (Item item : items)
+								pool.free(item);
+						} catch (Exception ignored) {
+						} finally {
+							done.countDown();
+						}
+					}
+				}).start();
+			}
+			done.await();
+			assertEquals(threadCount * perThread, pool.getFree());
+			assertEquals(threadCount * perThread, pool.peak);
+		}
+	}
+
+	@Test
+	public void poolsConcurrentTest () {
+		Pools.setConcurrent(true);
+		try {
+			Pool<Item> pool = Pools.get(Item.class);
+			assertTrue(pool instanceof ConcurrentPool);
+			assertEquals(100, pool.max);
+			Item item = Pools.obtain(Item.class);
+			item.value = 1;
+			Pools.free(item);
+			assertEquals(0, item.value);
+			assertSame(item, pool.obtain());
+		} finally {
+			Pools.setConcurrent(false);
+		}
+	}
+
+	static public class Item implements Poolable {
+		final AtomicBoolean inUse = new AtomicBoolean();
+		int value;
+
+		public void reset () {
+			value = 0;
+		}
+	}
+
+	static class TestPool extends ConcurrentPool<Item> {
+		final AtomicInteger created = new AtomicInteger(), discarded = new AtomicInteger();
+
+		TestPool (int initialCapacity, int max, int threadCacheSize) {
+			super(initialCapacity, max, threadCacheSize);
+		}
+
+		protected Item newObject () {
+			created.incrementAndGet();
+			return new Item();
+		}
+
+		protected void discard (Item object) {
+			discarded.incrementAndGet();
+			super.discard(object);
+		}
+	}
+}
@@ -0,0 +1,109 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import org.junit.Test;
+
+public class DirectArrayTest {
+	@Test
+	public void floatArrayTest () {
+		TestFloatArray array = new TestFloatArray(true, 2);
+		array.add(1);
+		array.add(2, 3);
+		array.add(4, 5, 6);
+		array.add(7, 8, 9, 10);
+		array.addAll(11, 12);
+		assertEquals(12, array.size);
+		for (int i = 0; i < 12; i++)
+			assertEquals(i + 1, array.get(i), 0);
+		// The old buffers are released as the array grows.
+		assertEquals(1, array.allocated);
+
+		array.insert(0, 0);
+		assertEquals(0, array.first(), 0);
+		assertEquals(1, array.removeIndex(1), 0);
+		array.removeRange(0, 1);
+		assertEquals(3, array.first(), 0);
+		assertTrue(array.removeValue(12));
+		assertEquals(11, array.peek(), 0);
+		assertEquals(9, array.size);
+		assertArrayEquals(new float[] {3, 4, 5, 6, 7, 8, 9, 10, 11}, array.toArray(), 0);
+
+		FloatBuffer buffer = array.getBuffer();
+		assertEquals(0, buffer.position());
+		assertEquals(9, buffer.limit());
+		assertTrue(buffer.isDirect());
+		assertEquals(36, array.getByteBuffer().limit());
+		// Adding after getBuffer lowered the limit must still work.
+		array.add(12);
+		array.insert(0, 2);
+		assertEquals(12, array.peek(), 0);
+		assertEquals(11, array.size);
+
+		array.dispose();
+		assertEquals(0, array.allocated);
+	}
+
+	@Test
+	public void unorderedTest () {
+		TestFloatArray array = new TestFloatArray(false, 8);
+		array.addAll(0, 1, 2, 3, 4);
+		assertEquals(0, array.removeIndex(0), 0);
+		assertEquals(4, array.first(), 0);
+		array.removeRange(0, 1);
+		assertArrayEquals(new float[] {2, 3}, array.toArray(), 0);
+		array.dispose();
+	}
+
+	@Test
+	public void shortArrayTest () {
+		TestShortArray array = new TestShortArray();
+		array.addAll(new short[] {5, 6, 7}, 0, 3);
+		array.incr(0, (short)1);
+		array.setSize(20);
+		array.set(19, (short)9);
+		array.truncate(4);
+		ShortBuffer buffer = array.getBuffer();
+		assertEquals(4, buffer.remaining());
+		assertEquals(6, buffer.get(0));
+		array.shrink();
+		assertEquals(4, array.capacity());
+		array.dispose();
+		assertEquals(0, array.allocated);
+	}
+
+	static class TestFloatArray extends DirectFloatArray {
+		int allocated;
+
+		TestFloatArray (boolean ordered, int capacity) {
+			super(ordered, capacity);
+		}
+
+		protected ByteBuffer newBuffer (int numBytes) {
+			allocated++;
+			return ByteBuffer.allocateDirect(numBytes);
+		}
+
+		protected void freeBuffer (ByteBuffer buffer) {
+			allocated--;
+		}
+	}
+
+	static class TestShortArray extends DirectShortArray {
+		int allocated;
+
+		protected ByteBuffer newBuffer (int numBytes) {
+			allocated++;
+			return ByteBuffer.allocateDirect(numBytes);
+		}
+
+		protected void freeBuffer (ByteBuffer buffer) {
+			allocated--;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+public class JsonFieldsTest {
+	@Test
+	public void defaultPrimitivesTest () {
+		Json json = new Json(OutputType.minimal);
+		assertEquals("{}", json.toJson(new Primitives()));
+	}
+
+	@Test
+	public void changedPrimitivesTest () {
+		Json json = new Json(OutputType.minimal);
+		Primitives primitives = new Primitives();
+		primitives.b = false;
+		primitives.i = -7;
+		primitives.f = 0.5f;
+		primitives.d = 0.25;
+		primitives.c = 'y';
+		String text = json.toJson(primitives);
+		assertEquals("{b:false,i:-7,f:0.5,d:0.25,c:y}", text);
+
+		Primitives read = json.fromJson(Primitives.class, text);
+		assertEquals(json.toJson(primitives), json.toJson(read));
+	}
+
+	@Test
+	public void nanDefaultTest () {
+		Json json = new Json(OutputType.minimal);
+		Primitives primitives = new Primitives();
+		primitives.nan = 1;
+		assertEquals("{nan:1}", json.toJson(primitives));
+	}
+
+	static public class Primitives {
+		public boolean b = true;
+		public byte by = 1;
+		public short s = 2;
+		public int i = 3;
+		public long l = 4;
+		public float f = 5;
+		public double d = 6;
+		public char c = 'x';
+		public float nan = Float.NaN;
+	}
+}
@@ -0,0 +1,160 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonPullParser.Token;
+
+public class JsonPullParserTest {
+	static final String json = "// comment\n{\n" //
+		+ "\tname: unquoted value, /* block\ncomment */\n" //
+		+ "\t\"quoted name\": \"escaped \\\"\\u0041\\n\",\n" //
+		+ "\tlong: -12345678901, double: 1.5e3\n" //
+		+ "\tbool: true, nothing: null\n" //
+		+ "\tlist: [1, 2.5, three, {a: [] }, [x]],\n" //
+		+ "\tempty: {}\n" //
+		+ "}";
+
+	@Test
+	public void tokensTest () {
+		// A tiny buffer makes tokens cross buffer boundaries.
+		JsonPullParser parser = new JsonPullParser(new StringReader(json), 16);
+		assertEquals(Token.startObject, parser.next());
+		assertEquals(Token.stringValue, parser.next());
+		assertEquals("name", parser.name());
+		assertEquals("unquoted value", parser.asString());
+		assertEquals(Token.stringValue, parser.next());
+		assertEquals("quoted name", parser.name());
+		assertEquals("escaped \"A\n", parser.asString());
+		assertEquals(Token.longValue, parser.next());
+		assertEquals(-12345678901L, parser.asLong());
+		assertEquals(Token.doubleValue, parser.next());
+		assertEquals(1500, parser.asDouble(), 0);
+		assertEquals("1.5e3", parser.asString());
+		assertEquals(Token.booleanValue, parser.next());
+		assertTrue(parser.asBoolean());
+		assertEquals(Token.nullValue, parser.next());
+		assertNull(parser.asString());
+		assertEquals(Token.startArray, parser.next());
+		assertEquals("list", parser.name());
+		assertEquals(2, parser.depth());
+		assertEquals(Token.longValue, parser.next());
+		assertNull(parser.name());
+		assertEquals(Token.doubleValue, parser.next());
+		assertEquals(Token.stringValue, parser.next());
+		assertEquals("three", parser.asString());
+		assertEquals(Token.startObject, parser.next());
+		parser.skipValue();
+		assertEquals(Token.endObject, parser.token());
+		assertEquals(Token.startArray, parser.next());
+		assertEquals(Token.stringValue, parser.next());
+		assertEquals(Token.endArray, parser.next());
+		assertEquals(Token.endArray, parser.next());
+		assertEquals(Token.startObject, parser.next());
+		assertEquals("empty", parser.name());
+		assertEquals(Token.endObject, parser.next());
+		assertEquals(Token.endObject, parser.next());
+		assertEquals(Token.end, parser.next());
+		assertEquals(Token.end, parser.next());
+		assertEquals(10, parser.line());
+	}
+
+	@Test
+	public void readValueTest () {
+		JsonPullParser parser = new JsonPullParser(new StringReader(json), 16);
+		parser.next();
+		JsonValue streamed = parser.readValue();
+		JsonValue parsed = new JsonReader().parse(json);
+		assertEquals(parsed.toJson(JsonWriter.OutputType.json), streamed.toJson(JsonWriter.OutputType.json));
+		assertEquals(parsed.size, streamed.size);
+		assertEquals(Token.end, parser.next());
+	}
+
+	@Test
+	public void errorTest () {
+		assertError("{a: 1");
+		assertError("[1, 2}");
+		assertError("{a 1}");
+		assertError("\"unterminated");
+		assertError("1 2 {}");
+	}
+
+	private void assertError (String json) {
+		JsonPullParser parser = new JsonPullParser(json);
+		try {
+			while (parser.next() != Token.end) {
+			}
+			fail("Expected error: " + json);
+		} catch (SerializationException expected) {
+		}
+	}
+
+	@Test
+	public void fromJsonTest () {
+		Json json = new Json();
+		json.setElementType(Data.class, "children", Data.class);
+		Data data = new Data();
+		data.name = "root \"1\"";
+		data.count = 7;
+		data.scale = 0.25f;
+		data.values = new float[] {1, 2, 3};
+		data.kind = Kind.b;
+		data.boxed = 42;
+		data.map.put("x", 1);
+		data.set.add("y");
+		data.children.add(new Data());
+		data.children.first().name = "child";
+		data.object = new Data();
+
+		for (JsonWriter.OutputType outputType : JsonWriter.OutputType.values()) {
+			json.setOutputType(outputType);
+			String text = json.toJson(data);
+			Data dom = json.fromJson(Data.class, text);
+			Data streamed = json.fromJson(Data.class, new JsonPullParser(new StringReader(text), 16));
+			assertEquals(json.toJson(dom), json.toJson(streamed));
+			assertEquals("root \"1\"", streamed.name);
+			assertEquals(Kind.b, streamed.kind);
+			assertEquals(42, (int)streamed.boxed);
+			assertEquals("child", streamed.children.first().name);
+			assertTrue(streamed.set.contains("y"));
+			assertEquals(Data.class, streamed.object.getClass());
+		}
+
+		assertNull(json.fromJson(Data.class, new JsonPullParser("")));
+		Array<Data> array = json.fromJson(Array.class, Data.class, new JsonPullParser("[{count: 1}, {count: 2}]"));
+		assertEquals(2, array.get(1).count);
+	}
+
+	@Test
+	public void unknownFieldTest () {
+		Json json = new Json();
+		try {
+			json.fromJson(Data.class, new JsonPullParser("{unknown: {a: [1]}, count: 3}"));
+			fail();
+		} catch (SerializationException expected) {
+		}
+		json.setIgnoreUnknownFields(true);
+		assertEquals(3, json.fromJson(Data.class, new JsonPullParser("{unknown: {a: [1]}, count: 3}")).count);
+	}
+
+	static enum Kind {
+		a, b
+	}
+
+	static public class Data {
+		String name;
+		int count;
+		float scale;
+		float[] values;
+		Kind kind;
+		Object boxed;
+		Object object;
+		ObjectMap<String, Integer> map = new ObjectMap();
+		ObjectSet<String> set = new ObjectSet();
+		Array<Data> children = new Array();
+	}
+}
@@ -0,0 +1,83 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonReader.JsonValuePool;
+
+public class JsonReaderTest {
+	static final String message = "{id:7,name:\"player \\\"one\\\"\",pos:[1.5,-2],alive:true,target:null,items:[{id:1},{id:2}]}";
+
+	@Test
+	public void poolTest () {
+		JsonReader reader = new JsonReader();
+		JsonValuePool pool = new JsonValuePool();
+		reader.setPool(pool);
+
+		JsonValue first = reader.parse(message);
+		String expected = new JsonReader().parse(message).toJson(JsonWriter.OutputType.minimal);
+		assertEquals(expected, first.toJson(JsonWriter.OutputType.minimal));
+		assertEquals(0, pool.getFree());
+
+		reader.free(first);
+		int nodes = pool.getFree();
+		assertEquals(13, nodes);
+		assertNull(first.child);
+		assertNull(first.name);
+
+		// Parsing the same message again takes every node from the pool.
+		JsonValue second = reader.parse(message);
+		assertEquals(0, pool.getFree());
+		assertEquals(expected, second.toJson(JsonWriter.OutputType.minimal));
+		assertEquals(7, second.getInt("id"));
+		assertEquals("player \"one\"", second.getString("name"));
+		assertTrue(second.get("target").isNull());
+		reader.free(second);
+		assertEquals(nodes, pool.getFree());
+
+		reader.free(null);
+	}
+
+	@Test
+	public void literalsTest () {
+		JsonValue value = new JsonReader()
+			.parse("[0, -12, 123456789012345678, 1234567890123456789, -0, 007, +5, true, false, null, truex, nul, 1.5, \"7\"]");
+		assertEquals(0, value.get(0).asLong());
+		assertEquals("0", value.get(0).asString());
+		assertEquals(-12, value.get(1).asLong());
+		assertEquals(123456789012345678L, value.get(2).asLong());
+		assertEquals(1234567890123456789L, value.get(3).asLong());
+		assertEquals("-0", value.get(4).asString());
+		assertEquals("007", value.get(5).asString());
+		assertEquals(7, value.get(5).asLong());
+		assertEquals("+5", value.get(6).asString());
+		assertTrue(value.get(7).asBoolean());
+		assertTrue(value.get(8).isBoolean());
+		assertTrue(value.get(9).isNull());
+		assertEquals("truex", value.get(10).asString());
+		assertEquals("nul", value.get(11).asString());
+		assertEquals(1.5, value.get(12).asDouble(), 0);
+		assertTrue(value.get(13).isString());
+	}
+
+	@Test
+	public void internNamesTest () {
+		JsonReader reader = new JsonReader();
+		reader.setInternNames(true);
+		JsonValue first = reader.parse(message), second = reader.parse(message);
+		assertSame(first.get("name").name, second.get("name").name);
+		assertSame(first.get("items").child.child.name, second.get("items").child.next.child.name);
+		assertEquals("id", first.child.name);
+		assertEquals(first.toJson(JsonWriter.OutputType.minimal), second.toJson(JsonWriter.OutputType.minimal));
+
+		// Escaped names are not cached but still parse.
+		JsonValue escaped = reader.parse("{\"a\\nb\":1,a:2}");
+		assertEquals("a\nb", escaped.child.name);
+		assertEquals("a", escaped.child.next.name);
+
+		reader.setInternNames(false);
+		assertNotSame(reader.parse(message).child.name, reader.parse(message).child.name);
+	}
+}
@@ -0,0 +1,113 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class JsonUBJsonTest {
+	@Test
+	public void roundTripTest () {
+		Level level = new Level();
+		level.name = "level é";
+		level.seed = -12345678901L;
+		level.gravity = -9.81f;
+		level.scale = 0.125;
+		level.layer = 3;
+		level.tiles = 200;
+		level.key = 'k';
+		level.chars = new char[] {'x', 'é'};
+		level.visible = true;
+		level.vertices = new float[] {0, 0.5f, -1, 1e10f};
+		level.indices = new int[] {0, 1, 2, 70000};
+		level.mask = new boolean[] {true, false};
+		level.tags = new String[] {"a", "b"};
+		level.entities.add(new Entity("first", 1));
+		level.entities.add(new Boss("boss", 2, 100));
+		level.entities.add(null);
+		level.properties.put("music", "theme.ogg");
+
+		Json json = new Json();
+		byte[] bytes = json.toUBJson(level);
+		Level read = json.fromUBJson(Level.class, bytes);
+		assertEquals(json.toJson(level), json.toJson(read));
+		assertTrue(read.entities.get(1) instanceof Boss);
+		assertArrayEquals(level.vertices, read.vertices, 0);
+		assertArrayEquals(level.indices, read.indices);
+		assertNull(read.empty);
+	}
+
+	@Test
+	public void packedArrayTest () {
+		Json json = new Json();
+		float[] values = new float[100];
+		for (int i = 0; i < values.length; i++)
+			values[i] = i * 0.1f;
+		byte[] bytes = json.toUBJson(values, float[].class, null);
+		// '[', '$', 'd', '#', int8 count, then raw float32 values.
+		assertEquals(1 + 3 + 2 + values.length * 4, bytes.length);
+		assertEquals('$', bytes[1]);
+		assertEquals('d', bytes[2]);
+		assertArrayEquals(values, json.fromUBJson(float[].class, bytes), 0);
+		assertTrue(bytes.length < json.toJson(values).length());
+	}
+
+	@Test
+	public void writerTest () {
+		Json json = new Json();
+		json.setWriter(new UBJsonWriter(new java.io.ByteArrayOutputStream()));
+		assertTrue(json.getBaseWriter() instanceof UBJsonWriter);
+		try {
+			json.getWriter();
+			fail();
+		} catch (IllegalStateException expected) {
+		}
+		json.setWriter(new java.io.StringWriter());
+		assertTrue(json.getBaseWriter() instanceof JsonWriter);
+		assertSame(json.getBaseWriter(), json.getWriter());
+	}
+
+	static public class Level {
+		public String name;
+		public long seed;
+		public float gravity;
+		public double scale;
+		public byte layer;
+		public short tiles;
+		public char key;
+		public char[] chars;
+		public boolean visible;
+		public float[] vertices;
+		public int[] indices;
+		public boolean[] mask;
+		public String[] tags;
+		public int[] empty;
+		public Array<Entity> entities = new Array();
+		public ObjectMap<String, String> properties = new ObjectMap();
+	}
+
+	static public class Entity {
+		public String name;
+		public int id;
+
+		public Entity () {
+		}
+
+		public Entity (String name, int id) {
+			this.name = name;
+			this.id = id;
+		}
+	}
+
+	static public class Boss extends Entity {
+		public int health;
+
+		public Boss () {
+		}
+
+		public Boss (String name, int id, int health) {
+			super(name, id);
+			this.health = health;
+		}
+	}
+}
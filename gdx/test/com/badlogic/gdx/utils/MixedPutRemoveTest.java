@@ -5,6 +5,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 
 public class MixedPutRemoveTest {
@@ -212,4 +213,91 @@ public class MixedPutRemoveTest {
 		}
 		Assert.assertEquals(gdxRemovals, jdkRemovals);
 	}
+
+	@Test
+	public void testLongIntMapMix () {
+		LongIntMap gdxMap = new LongIntMap();
+		HashMap<Long, Integer> jdkMap = new HashMap<Long, Integer>();
+		long stateA = 0L, stateB = 1L;
+		long item;
+		for (int i = 0; i < 0x100000; i++) { // 1 million should do
+			// simple-ish RNG that repeats more than RandomXS128; we want repeats to test behavior
+			stateA += 0xC6BC279692B5C323L;
+			item = (stateA ^ stateA >>> 31) * (stateB += 0x9E3779B97F4A7C16L);
+			item &= item >>> 24; // causes 64-bit state to get crammed into 40 bits, with item biased toward low bit counts
+			if (gdxMap.remove(item, -1) == -1) gdxMap.put(item, i);
+			if (jdkMap.remove(item) == null) jdkMap.put(item, i);
+			Assert.assertEquals(gdxMap.size, jdkMap.size());
+		}
+		for (LongIntMap.Entry entry : gdxMap)
+			Assert.assertEquals((int)jdkMap.get(entry.key), entry.value);
+	}
+
+	@Test
+	public void testLongLongMapMix () {
+		LongLongMap gdxMap = new LongLongMap();
+		HashMap<Long, Long> jdkMap = new HashMap<Long, Long>();
+		long stateA = 0L, stateB = 1L;
+		long item;
+		for (int i = 0; i < 0x100000; i++) { // 1 million should do
+			// simple-ish RNG that repeats more than RandomXS128; we want repeats to test behavior
+			stateA += 0xC6BC279692B5C323L;
+			item = (stateA ^ stateA >>> 31) * (stateB += 0x9E3779B97F4A7C16L);
+			item &= item >>> 24; // causes 64-bit state to get crammed into 40 bits, with item biased toward low bit counts
+			if (gdxMap.remove(item, -1) == -1) gdxMap.put(item, item * 3);
+			if (jdkMap.remove(item) == null) jdkMap.put(item, item * 3);
+			Assert.assertEquals(gdxMap.size, jdkMap.size());
+		}
+		for (LongLongMap.Entry entry : gdxMap)
+			Assert.assertEquals((long)jdkMap.get(entry.key), entry.value);
+	}
+
+	@Test
+	public void testIntLongMapMix () {
+		IntLongMap gdxMap = new IntLongMap();
+		HashMap<Integer, Long> jdkMap = new HashMap<Integer, Long>();
+		long stateA = 0L, stateB = 1L, temp;
+		int item;
+		for (int i = 0; i < 0x100000; i++) { // 1 million should do
+			// simple-ish RNG that repeats more than RandomXS128; we want repeats to test behavior
+			stateA += 0xC6BC279692B5C323L;
+			temp = (stateA ^ stateA >>> 31) * (stateB += 0x9E3779B97F4A7C16L);
+			item = (int)(temp & temp >>> 24); // causes 64-bit state to get crammed into 32 bits, with item biased toward low bit
+															// counts
+			if (gdxMap.remove(item, -1) == -1) gdxMap.put(item, temp);
+			if (jdkMap.remove(item) == null) jdkMap.put(item, temp);
+			Assert.assertEquals(gdxMap.size, jdkMap.size());
+		}
+		for (IntLongMap.Entry entry : gdxMap)
+			Assert.assertEquals((long)jdkMap.get(entry.key), entry.value);
+	}
+
+	@Test
+	public void testLongSetMix () {
+		LongSet gdxSet = new LongSet();
+		HashSet<Long> jdkSet = new HashSet<Long>();
+		long stateA = 0L, stateB = 1L;
+		long item;
+		for (int i = 0; i < 0x100000; i++) { // 1 million should do
+			// simple-ish RNG that repeats more than RandomXS128; we want repeats to test behavior
+			stateA += 0xC6BC279692B5C323L;
+			item = (stateA ^ stateA >>> 31) * (stateB += 0x9E3779B97F4A7C16L);
+			item &= item >>> 24; // causes 64-bit state to get crammed into 40 bits, with item biased toward low bit counts
+			if (!gdxSet.remove(item)) gdxSet.add(item);
+			if (!jdkSet.remove(item)) jdkSet.add(item);
+			Assert.assertEquals(gdxSet.size, jdkSet.size());
+		}
+		LongSet.LongSetIterator iterator = gdxSet.iterator();
+		while (iterator.hasNext) {
+			long key = iterator.next();
+			Assert.assertTrue(jdkSet.contains(key));
+			if ((key & 1) == 0) {
+				iterator.remove();
+				jdkSet.remove(key);
+			}
+		}
+		Assert.assertEquals(gdxSet.size, jdkSet.size());
+		for (Long key : jdkSet)
+			Assert.assertTrue(gdxSet.contains(key));
+	}
 }
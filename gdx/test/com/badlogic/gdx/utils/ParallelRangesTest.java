@@ -0,0 +1,66 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class ParallelRangesTest {
+	@Test
+	public void coversRangeOnceTest () {
+		AsyncExecutor executor = new AsyncExecutor(3, "ParallelRangesTest");
+		try {
+			final AtomicIntegerArray runs = new AtomicIntegerArray(110);
+			ParallelRanges ranges = new ParallelRanges() {
+				protected void runRange (int start, int end) {
+					for (int i = start; i < end; i++)
+						runs.incrementAndGet(i);
+				}
+			};
+			ranges.setExecutor(executor, 4);
+			ranges.run(5, 101, 10);
+			for (int i = 0; i < runs.length(); i++)
+				assertEquals("index " + i, i >= 5 && i < 106 ? 1 : 0, runs.get(i));
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void failedRangeTest () {
+		AsyncExecutor executor = new AsyncExecutor(3, "ParallelRangesTest");
+		try {
+			final int[] failAt = {99};
+			final AtomicIntegerArray runs = new AtomicIntegerArray(100);
+			ParallelRanges ranges = new ParallelRanges() {
+				protected void runRange (int start, int end) {
+					for (int i = start; i < end; i++) {
+						if (i == failAt[0]) throw new IllegalStateException();
+						runs.incrementAndGet(i);
+					}
+				}
+			};
+			ranges.setExecutor(executor, 4);
+			try {
+				ranges.run(0, 100, 10);
+				fail();
+			} catch (GdxRuntimeException expected) {
+			}
+			// All other ranges finished before the exception was rethrown.
+			for (int i = 0; i < 75; i++)
+				assertEquals("index " + i, 1, runs.get(i));
+
+			failAt[0] = -1;
+			ranges.run(0, 100, 10);
+			for (int i = 0; i < 75; i++)
+				assertEquals("index " + i, 2, runs.get(i));
+			assertEquals(2, runs.get(98));
+		} finally {
+			executor.dispose();
+		}
+	}
+}
@@ -0,0 +1,98 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class PoolStatsTest {
+	@Test
+	public void countsTest () {
+		Pool<Object> pool = new Pool<Object>(4, 2) {
+			protected Object newObject () {
+				return new Object();
+			}
+		};
+		PoolStats stats = new PoolStats();
+		pool.setStats(stats);
+		Array<Object> objects = new Array();
+		for (int i = 0; i < 3; i++)
+			objects.add(pool.obtain());
+		assertEquals(3, stats.obtained);
+		assertEquals(3, stats.created);
+		assertEquals(3, stats.inUse);
+		assertEquals(3, stats.peakInUse);
+
+		pool.free(objects.pop());
+		pool.freeAll(objects);
+		assertEquals(3, stats.freed);
+		assertEquals(1, stats.discarded);
+		assertEquals(0, stats.inUse);
+
+		pool.obtain();
+		assertEquals(4, stats.obtained);
+		assertEquals(3, stats.created);
+
+		PoolStats snapshot = new PoolStats(stats);
+		stats.resetCounts();
+		assertEquals(0, stats.obtained);
+		assertEquals(1, stats.inUse);
+		assertEquals(1, stats.peakInUse);
+		assertEquals(4, snapshot.obtained);
+		assertEquals(3, snapshot.peakInUse);
+
+		pool.clear();
+		assertEquals(1, stats.discarded);
+	}
+
+	@Test
+	public void allocationSitesTest () {
+		Pool<Object> pool = new Pool<Object>() {
+			protected Object newObject () {
+				return new Object();
+			}
+		};
+		PoolStats stats = new PoolStats(true);
+		pool.setStats(stats);
+		Object freed = pool.obtain();
+		pool.obtain();
+		pool.obtain();
+		pool.free(freed);
+
+		ObjectIntMap<String> sites = new ObjectIntMap();
+		assertEquals(2, stats.getOutstanding(sites));
+		assertEquals(2, sites.size);
+		for (ObjectIntMap.Entry<String> site : sites) {
+			assertTrue(site.key, site.key.startsWith(PoolStatsTest.class.getName() + ".allocationSitesTest"));
+			assertEquals(1, site.value);
+		}
+	}
+
+	@Test
+	public void poolsTest () {
+		Pools.setStatsEnabled(true, true);
+		try {
+			Array<Item> items = new Array();
+			for (int i = 0; i < 5; i++)
+				items.add(Pools.obtain(Item.class));
+			Pools.free(items.pop());
+			PoolStats stats = Pools.getStats(Item.class);
+			assertEquals(5, stats.obtained);
+			assertEquals(4, stats.inUse);
+
+			StringBuilder buffer = new StringBuilder();
+			Pools.dumpStats(buffer, true);
+			String dump = buffer.toString();
+			assertTrue(dump, dump.contains("Item: obtained: 5"));
+			assertTrue(dump, dump.contains("4 in use from " + PoolStatsTest.class.getName() + ".poolsTest"));
+			assertEquals(0, stats.obtained);
+			assertEquals(4, stats.inUse);
+		} finally {
+			Pools.setStatsEnabled(false, false);
+		}
+		assertNull(Pools.getStats(Item.class));
+	}
+
+	static public class Item {
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.io.File;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Compares JMH JSON results against a baseline results file and exits with a non-zero status when any benchmark regressed by
+ * more than the allowed percentage. A change within the sum of the score errors of both runs is noise and never counts as a
+ * regression. Benchmarks are matched by name and parameters, benchmarks missing from either file are reported but do not fail
+ * the check.
+ * <p>
+ * Usage: <code>BaselineCheck baseline.json results.json [maxRegressionPercent]</code> */
+public class BaselineCheck {
+	public static void main (String[] args) {
+		if (args.length < 2) {
+			System.err.println("Usage: BaselineCheck baseline.json results.json [maxRegressionPercent]");
+			System.exit(2);
+		}
+		File baselineFile = new File(args[0]), resultsFile = new File(args[1]);
+		if (!baselineFile.exists()) {
+			System.out.println("No baseline found: " + baselineFile);
+			return;
+		}
+		if (!resultsFile.exists()) {
+			System.err.println("No benchmark results found, run the benchmark task first: " + resultsFile);
+			System.exit(2);
+		}
+		float maxRegression = args.length > 2 ? Float.parseFloat(args[2]) : 15;
+
+		ObjectMap<String, JsonValue> baseline = read(baselineFile);
+		ObjectMap<String, JsonValue> results = read(resultsFile);
+		int regressions = 0;
+		for (ObjectMap.Entry<String, JsonValue> entry : results) {
+			JsonValue before = baseline.get(entry.key);
+			if (before == null) {
+				System.out.println("NEW        " + entry.key);
+				continue;
+			}
+			float oldScore = score(before), newScore = score(entry.value);
+			// Lower is better for time based modes, higher is better for throughput.
+			boolean throughput = "thrpt".equals(entry.value.getString("mode"));
+			float change = (newScore - oldScore) / oldScore * 100;
+			if (throughput) change = -change;
+			boolean noise = Math.abs(newScore - oldScore) <= scoreError(before) + scoreError(entry.value);
+			boolean regressed = change > maxRegression && !noise;
+			if (regressed) regressions++;
+			System.out.println(String.format("%-10s %s: %.3f -> %.3f %s (%+.1f%%)", regressed ? "REGRESSED" : noise ? "NOISE" : "OK",
+				entry.key, oldScore, newScore, entry.value.get("primaryMetric").getString("scoreUnit"), change));
+		}
+		for (String key : baseline.keys())
+			if (!results.containsKey(key)) System.out.println("MISSING    " + key);
+		if (regressions > 0) {
+			System.err.println(regressions + " benchmark(s) regressed by more than " + maxRegression + "%.");
+			System.exit(1);
+		}
+	}
+
+	static float score (JsonValue benchmark) {
+		return benchmark.get("primaryMetric").getFloat("score");
+	}
+
+	/** @return The half width of the 99.9% confidence interval of the score, 0 if JMH could not compute it (a single
+	 *         iteration). */
+	static float scoreError (JsonValue benchmark) {
+		JsonValue error = benchmark.get("primaryMetric").get("scoreError");
+		if (error == null || !error.isNumber()) return 0;
+		float value = error.asFloat();
+		return Float.isNaN(value) ? 0 : value;
+	}
+
+	static ObjectMap<String, JsonValue> read (File file) {
+		ObjectMap<String, JsonValue> benchmarks = new ObjectMap();
+		for (JsonValue benchmark : new JsonReader().parse(new FileHandle(file))) {
+			StringBuilder key = new StringBuilder(benchmark.getString("benchmark"));
+			JsonValue params = benchmark.get("params");
+			if (params != null) {
+				for (JsonValue param : params)
+					key.append(' ').append(param.name).append('=').append(param.asString());
+			}
+			benchmarks.put(key.toString(), benchmark);
+		}
+		return benchmarks;
+	}
+}
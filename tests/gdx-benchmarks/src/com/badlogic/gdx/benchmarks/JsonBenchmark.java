@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonPullParser;
+import com.badlogic.gdx.utils.JsonPullParser.Token;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonReader.JsonValuePool;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+/** Benchmarks {@link JsonReader} and {@link JsonPullParser} parsing and {@link Json} object graph serialization to JSON and
+ * UBJSON. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+	@Param({"10", "1000"}) public int entities;
+
+	final JsonReader reader = new JsonReader();
+	final JsonReader pooledReader = new JsonReader();
+	final Json json = new Json(OutputType.minimal);
+	Level level;
+	String text;
+	byte[] binary;
+
+	@Setup
+	public void setup () {
+		level = Level.create(entities);
+		text = json.toJson(level);
+		binary = json.toUBJson(level);
+		pooledReader.setPool(new JsonValuePool());
+		pooledReader.setInternNames(true);
+	}
+
+	@Benchmark
+	public JsonValue parse () {
+		return reader.parse(text);
+	}
+
+	@Benchmark
+	public int parsePooled () {
+		JsonValue root = pooledReader.parse(text);
+		int size = root.size;
+		pooledReader.free(root);
+		return size;
+	}
+
+	@Benchmark
+	public int pullParse () {
+		JsonPullParser parser = new JsonPullParser(new StringReader(text));
+		int tokens = 0;
+		while (parser.next() != Token.end)
+			tokens++;
+		return tokens;
+	}
+
+	@Benchmark
+	public String toJson () {
+		return json.toJson(level);
+	}
+
+	@Benchmark
+	public Level fromJson () {
+		return json.fromJson(Level.class, text);
+	}
+
+	@Benchmark
+	public Level fromJsonStream () {
+		return json.fromJson(Level.class, new JsonPullParser(new StringReader(text)));
+	}
+
+	@Benchmark
+	public byte[] toUBJson () {
+		return json.toUBJson(level);
+	}
+
+	@Benchmark
+	public Level fromUBJson () {
+		return json.fromUBJson(Level.class, binary);
+	}
+
+	static public class Level {
+		public String name;
+		public int version;
+		public Array<Entity> entities = new Array();
+
+		static Level create (int count) {
+			Level level = new Level();
+			level.name = "benchmark";
+			level.version = 3;
+			for (int i = 0; i < count; i++) {
+				Entity entity = new Entity();
+				entity.id = i;
+				entity.name = "entity" + i;
+				entity.x = i * 1.5f;
+				entity.y = i * -0.25f;
+				entity.rotation = i % 360;
+				entity.visible = (i & 1) == 0;
+				entity.tags = new String[] {"tag" + (i % 7), "group" + (i % 3)};
+				entity.vertices = new float[] {0, 0, 1, 0, 1, 1, 0, 1};
+				level.entities.add(entity);
+			}
+			return level;
+		}
+	}
+
+	static public class Entity {
+		public int id;
+		public String name;
+		public float x, y, rotation;
+		public boolean visible;
+		public String[] tags;
+		public float[] vertices;
+	}
+}
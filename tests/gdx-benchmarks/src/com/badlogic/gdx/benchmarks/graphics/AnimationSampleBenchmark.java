@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.graphics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.KeyframeChannel;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
+import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+/** Benchmarks sampling a long animation of a chain of nodes from {@link NodeKeyframe} arrays, from {@link KeyframeChannel}s and
+ * from quantized {@link KeyframeChannel}s. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnimationSampleBenchmark {
+	static final int NODES = 30, KEYFRAMES = 300;
+
+	@Param({"keyframes", "channels", "quantized"}) String storage;
+	@Param({"100"}) int controllers;
+
+	Array<AnimationController> controllerArray;
+
+	@Setup
+	public void setup () {
+		Model model = createModel();
+		if (!storage.equals("keyframes")) model.animations.first().compact(storage.equals("quantized"));
+		controllerArray = new Array();
+		for (int i = 0; i < controllers; i++) {
+			AnimationController controller = new AnimationController(new ModelInstance(model));
+			controller.setAnimation("walk", -1, 0.9f + i % 10 * 0.02f, null);
+			controllerArray.add(controller);
+		}
+	}
+
+	@Benchmark
+	public Array<AnimationController> update () {
+		for (int i = 0, n = controllerArray.size; i < n; i++)
+			controllerArray.get(i).update(1 / 60f);
+		return controllerArray;
+	}
+
+	private Model createModel () {
+		Model model = new Model();
+		Animation walk = new Animation();
+		walk.id = "walk";
+		walk.duration = 10;
+		Node parent = null;
+		for (int i = 0; i < NODES; i++) {
+			Node node = new Node();
+			node.id = "bone" + i;
+			node.translation.set(0, 1, 0);
+			if (parent == null)
+				model.nodes.add(node);
+			else
+				parent.addChild(node);
+			parent = node;
+			walk.nodeAnimations.add(createNodeAnimation(node, walk.duration));
+		}
+		model.animations.add(walk);
+		return model;
+	}
+
+	private NodeAnimation createNodeAnimation (Node node, float duration) {
+		NodeAnimation nodeAnimation = new NodeAnimation();
+		nodeAnimation.node = node;
+		nodeAnimation.translation = new Array();
+		nodeAnimation.rotation = new Array();
+		for (int k = 0; k < KEYFRAMES; k++) {
+			float time = duration * k / (KEYFRAMES - 1);
+			nodeAnimation.translation.add(new NodeKeyframe<Vector3>(time, new Vector3(0, 1, k * 0.01f)));
+			nodeAnimation.rotation.add(new NodeKeyframe<Quaternion>(time, new Quaternion(Vector3.X, 10 * (k % 2 * 2 - 1))));
+		}
+		return nodeAnimation;
+	}
+}
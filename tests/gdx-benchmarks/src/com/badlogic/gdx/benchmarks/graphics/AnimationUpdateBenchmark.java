@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.graphics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
+import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationControllerUpdater;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Benchmarks {@link AnimationControllerUpdater} updating many skeletons, each blending two animations of a chain of nodes, with
+ * 1 to 8 threads. Threads beyond the number of cores only add overhead. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnimationUpdateBenchmark {
+	static final int NODES = 30, KEYFRAMES = 20;
+
+	@Param({"500"}) int controllers;
+	@Param({"1", "2", "4", "8"}) int threads;
+
+	Array<AnimationController> controllerArray;
+	AsyncExecutor executor;
+	AnimationControllerUpdater updater;
+
+	@Setup
+	public void setup () {
+		Model model = createModel();
+		controllerArray = new Array();
+		for (int i = 0; i < controllers; i++) {
+			AnimationController controller = new AnimationController(new ModelInstance(model));
+			controller.setAnimation("walk", -1, 0.9f + i % 10 * 0.02f, null);
+			// Keeps blending from walk to run, the most expensive path.
+			controller.animate("run", -1, null, 1000);
+			controllerArray.add(controller);
+		}
+		if (threads > 1) executor = new AsyncExecutor(threads - 1, "AnimationUpdateBenchmark");
+		updater = new AnimationControllerUpdater(executor, threads);
+	}
+
+	@TearDown
+	public void tearDown () {
+		if (executor != null) executor.dispose();
+	}
+
+	@Benchmark
+	public Array<AnimationController> update () {
+		updater.update(controllerArray, 1 / 60f);
+		return controllerArray;
+	}
+
+	private Model createModel () {
+		Model model = new Model();
+		Animation walk = createAnimation("walk", 1), run = createAnimation("run", 0.6f);
+		Node parent = null;
+		for (int i = 0; i < NODES; i++) {
+			Node node = new Node();
+			node.id = "bone" + i;
+			node.translation.set(0, 1, 0);
+			if (parent == null)
+				model.nodes.add(node);
+			else
+				parent.addChild(node);
+			parent = node;
+			walk.nodeAnimations.add(createNodeAnimation(node, walk.duration, 10));
+			run.nodeAnimations.add(createNodeAnimation(node, run.duration, 25));
+		}
+		model.animations.add(walk);
+		model.animations.add(run);
+		return model;
+	}
+
+	private Animation createAnimation (String id, float duration) {
+		Animation animation = new Animation();
+		animation.id = id;
+		animation.duration = duration;
+		return animation;
+	}
+
+	private NodeAnimation createNodeAnimation (Node node, float duration, float angle) {
+		NodeAnimation nodeAnimation = new NodeAnimation();
+		nodeAnimation.node = node;
+		nodeAnimation.translation = new Array();
+		nodeAnimation.rotation = new Array();
+		for (int k = 0; k < KEYFRAMES; k++) {
+			float time = duration * k / (KEYFRAMES - 1);
+			nodeAnimation.translation.add(new NodeKeyframe<Vector3>(time, new Vector3(0, 1, k * 0.01f)));
+			nodeAnimation.rotation.add(new NodeKeyframe<Quaternion>(time, new Quaternion(Vector3.X, angle * (k % 2 * 2 - 1))));
+		}
+		return nodeAnimation;
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.graphics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.g2d.InstancedSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Benchmarks the CPU side of drawing moving, rotating sprites: computing the 4 vertices of each sprite and copying them to the
+ * buffer as done by SpriteBatch, versus writing the per sprite record used by {@link InstancedSpriteBatch}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstancedSpriteBenchmark {
+	@Param({"10000", "100000"}) int sprites;
+
+	Sprite[] spriteArray;
+	float[] vertices, instances;
+
+	@Setup
+	public void setup () {
+		spriteArray = new Sprite[sprites];
+		for (int i = 0; i < sprites; i++) {
+			Sprite sprite = new Sprite();
+			sprite.setBounds(MathUtils.random(800), MathUtils.random(600), 4, 4);
+			sprite.setOriginCenter();
+			spriteArray[i] = sprite;
+		}
+		vertices = new float[sprites * 20]; // 4 vertices of 5 floats per sprite
+		instances = new float[sprites * InstancedSpriteBatch.INSTANCE_SIZE];
+	}
+
+	@Setup(Level.Invocation)
+	public void move () {
+		for (Sprite sprite : spriteArray) {
+			sprite.translate(1, 1);
+			sprite.rotate(1);
+		}
+	}
+
+	@Benchmark
+	public float[] vertices () {
+		float[] vertices = this.vertices;
+		for (int i = 0, idx = 0; i < sprites; i++, idx += 20)
+			System.arraycopy(spriteArray[i].getVertices(), 0, vertices, idx, 20);
+		return vertices;
+	}
+
+	@Benchmark
+	public float[] instances () {
+		float[] instances = this.instances;
+		for (int i = 0, idx = 0; i < sprites; i++, idx += InstancedSpriteBatch.INSTANCE_SIZE)
+			InstancedSpriteBatch.write(spriteArray[i], instances, idx);
+		return instances;
+	}
+}
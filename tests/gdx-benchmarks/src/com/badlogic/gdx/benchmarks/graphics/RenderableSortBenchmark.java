@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.graphics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
+import com.badlogic.gdx.graphics.g3d.utils.RadixRenderableSorter;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+
+/** Benchmarks sorting renderables in random order with {@link DefaultRenderableSorter} and {@link RadixRenderableSorter}. A
+ * tenth of the renderables is blended, the rest use one of 20 shaders and 50 materials. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderableSortBenchmark {
+	@Param({"10000"}) int size;
+
+	Camera camera;
+	Renderable[] source;
+	Array<Renderable> renderables;
+	DefaultRenderableSorter defaultSorter;
+	RadixRenderableSorter radixSorter;
+
+	@Setup
+	public void setup () {
+		MathUtils.random.setSeed(0);
+		camera = new PerspectiveCamera();
+		camera.position.set(0, 10, 50);
+		Shader[] shaders = new Shader[20];
+		for (int i = 0; i < shaders.length; i++)
+			shaders[i] = new TestShader();
+		Material[] materials = new Material[50];
+		for (int i = 0; i < materials.length; i++)
+			materials[i] = new Material("material" + i, ColorAttribute.createDiffuse(i / 50f, 0, 0, 1));
+		Material blended = new Material("blended", new BlendingAttribute(0.5f));
+
+		source = new Renderable[size];
+		for (int i = 0; i < size; i++) {
+			Renderable renderable = new Renderable();
+			renderable.shader = shaders[MathUtils.random(shaders.length - 1)];
+			renderable.material = i % 10 == 0 ? blended : materials[MathUtils.random(materials.length - 1)];
+			renderable.worldTransform.setToTranslation(MathUtils.random(-100f, 100f), 0, MathUtils.random(-100f, 100f));
+			renderable.worldTransform.rotate(0, 1, 0, MathUtils.random(360f));
+			source[i] = renderable;
+		}
+		renderables = new Array<Renderable>(size);
+		defaultSorter = new DefaultRenderableSorter();
+		radixSorter = new RadixRenderableSorter();
+	}
+
+	@Benchmark
+	public Array<Renderable> defaultSorter () {
+		renderables.clear();
+		renderables.addAll(source);
+		defaultSorter.sort(camera, renderables);
+		return renderables;
+	}
+
+	@Benchmark
+	public Array<Renderable> radixSorter () {
+		renderables.clear();
+		renderables.addAll(source);
+		radixSorter.sort(camera, renderables);
+		return renderables;
+	}
+
+	static class TestShader implements Shader {
+		@Override
+		public void init () {
+		}
+
+		@Override
+		public int compareTo (Shader other) {
+			return 0;
+		}
+
+		@Override
+		public boolean canRender (Renderable instance) {
+			return true;
+		}
+
+		@Override
+		public void begin (Camera camera, RenderContext context) {
+		}
+
+		@Override
+		public void render (Renderable renderable) {
+		}
+
+		@Override
+		public void end () {
+		}
+
+		@Override
+		public void dispose () {
+		}
+	}
+}
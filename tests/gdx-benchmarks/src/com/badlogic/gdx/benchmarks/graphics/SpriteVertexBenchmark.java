@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.graphics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteVertexWriter;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+/** Benchmarks {@link SpriteVertexWriter} computing the vertices of moving, rotating sprites on the calling thread versus split
+ * across an {@link AsyncExecutor}, as done by CpuSpriteBatch#drawAll and SpriteCache#add(Sprite[], int, int). */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpriteVertexBenchmark {
+	@Param({"1000", "10000"}) int sprites;
+
+	final Affine2 transform = new Affine2().setToTrnRotScl(10, 20, 30, 2, 2);
+	Sprite[] spriteArray;
+	float[] vertices;
+	AsyncExecutor executor;
+	SpriteVertexWriter sequential, parallel;
+	float rotation;
+
+	@Setup
+	public void setup () {
+		spriteArray = new Sprite[sprites];
+		for (int i = 0; i < sprites; i++) {
+			Sprite sprite = new Sprite();
+			sprite.setBounds(MathUtils.random(800), MathUtils.random(600), 32, 32);
+			sprite.setOriginCenter();
+			spriteArray[i] = sprite;
+		}
+		vertices = new float[sprites * 20]; // 4 vertices of 5 floats per sprite
+		int threads = Runtime.getRuntime().availableProcessors();
+		executor = new AsyncExecutor(Math.max(1, threads - 1), "SpriteVertexBenchmark");
+		sequential = new SpriteVertexWriter();
+		parallel = new SpriteVertexWriter(executor, threads);
+	}
+
+	@TearDown
+	public void tearDown () {
+		executor.dispose();
+	}
+
+	@Benchmark
+	public float[] sequential () {
+		rotate();
+		sequential.write(spriteArray, 0, sprites, vertices, 0, transform, false);
+		return vertices;
+	}
+
+	@Benchmark
+	public float[] parallel () {
+		rotate();
+		parallel.write(spriteArray, 0, sprites, vertices, 0, transform, false);
+		return vertices;
+	}
+
+	/** Rotates every sprite so its vertices must be recomputed. This is part of the measured time of both benchmarks, rather
+	 * than a per invocation setup, which JMH cannot time reliably for calls this short. */
+	private void rotate () {
+		rotation += 1;
+		for (Sprite sprite : spriteArray)
+			sprite.setRotation(rotation);
+	}
+}
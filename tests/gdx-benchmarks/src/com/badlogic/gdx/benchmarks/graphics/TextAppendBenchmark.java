@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.graphics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
+import com.badlogic.gdx.scenes.scene2d.ui.VirtualizedLabel;
+import com.badlogic.gdx.utils.Array;
+
+/** Benchmarks appending a line to a wrapped log and laying it out for drawing with {@link Label}, which lays out the whole text,
+ * versus {@link VirtualizedLabel}, which breaks only the last line and lays out only the visible lines. The text is reset to the
+ * initial number of lines before each iteration. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextAppendBenchmark {
+	static final String LINE = "[12:34:56] player joined the game and said hello to everyone\n";
+
+	@Param({"1000", "10000", "100000"}) int lines;
+
+	LabelStyle style;
+	StringBuilder initialText, labelText;
+	Label label;
+	VirtualizedLabel virtualizedLabel;
+	Rectangle cullingArea = new Rectangle();
+	/** Ignores all calls, so drawing measures only the CPU work of the label. */
+	Batch batch = (Batch)Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class[] {Batch.class}, new InvocationHandler() {
+		public Object invoke (Object proxy, Method method, Object[] args) {
+			return null;
+		}
+	});
+
+	@Setup
+	public void setup () {
+		BitmapFontData data = new BitmapFontData();
+		data.lineHeight = 16;
+		data.capHeight = 12;
+		BitmapFont font = new BitmapFont(data, Array.with(new TextureRegion()), false);
+		for (char c = ' '; c <= '~'; c++) {
+			Glyph glyph = new Glyph();
+			glyph.id = c;
+			glyph.width = 7;
+			glyph.height = 12;
+			glyph.xadvance = 8;
+			data.setGlyph(c, glyph);
+		}
+		data.spaceXadvance = 8;
+		style = new LabelStyle(font, Color.WHITE);
+
+		initialText = new StringBuilder();
+		for (int i = 0; i < lines; i++)
+			initialText.append(LINE);
+	}
+
+	@Setup(Level.Iteration)
+	public void reset () {
+		labelText = new StringBuilder(initialText);
+		label = new Label(labelText, style);
+		label.setWrap(true);
+		label.setWidth(300);
+
+		virtualizedLabel = new VirtualizedLabel(initialText, style);
+		virtualizedLabel.setWrap(true);
+		virtualizedLabel.setWidth(300);
+		virtualizedLabel.layout();
+		virtualizedLabel.setCullingArea(cullingArea);
+	}
+
+	@Benchmark
+	public Label label () {
+		labelText.append(LINE);
+		label.setText(labelText);
+		label.layout();
+		return label;
+	}
+
+	@Benchmark
+	public VirtualizedLabel virtualizedLabel () {
+		VirtualizedLabel label = virtualizedLabel;
+		label.append(LINE);
+		// Scrolled to the end, showing 30 lines, as a ScrollPane would set it.
+		label.setHeight(label.getPrefHeight());
+		cullingArea.set(0, 0, 300, 30 * style.font.getLineHeight());
+		label.draw(batch, 1);
+		return label;
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Plane;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+
+/** Benchmarks the {@link Intersector} tests used for picking and culling. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntersectorBenchmark {
+	final Ray ray = new Ray(new Vector3(-5, 0.5f, -5), new Vector3(1, 0, 1).nor());
+	final BoundingBox box = new BoundingBox(new Vector3(-1, -1, -1), new Vector3(1, 1, 1));
+	final Vector3 t1 = new Vector3(-1, 0, 0), t2 = new Vector3(1, 0, 0), t3 = new Vector3(0, 2, 0);
+	final Vector3 center = new Vector3(0, 0, 0), intersection = new Vector3();
+	final Plane plane = new Plane(new Vector3(0, 0, 1), 0);
+	final float[] polygon = {0, 0, 10, 0, 10, 10, 5, 15, 0, 10};
+	final Vector2 segmentStart = new Vector2(-1, -1), segmentEnd = new Vector2(11, 11), circleCenter = new Vector2(5, 5);
+	final Frustum frustum = new Frustum();
+
+	@Setup
+	public void setup () {
+		ray.direction.set(1, 0.1f, 1).nor();
+		// Frustum#update uses natives, so the planes of a perspective camera at (0, 0, 10) are computed here.
+		Matrix4 projection = new Matrix4().setToProjection(1, 100, 67, 800 / 600f);
+		Matrix4 view = new Matrix4().setToLookAt(new Vector3(0, 0, 10), new Vector3(), Vector3.Y);
+		Matrix4 inverseProjectionView = projection.mul(view).inv();
+		Vector3[] points = frustum.planePoints;
+		float[] clipSpace = {-1, -1, -1, 1, -1, -1, 1, 1, -1, -1, 1, -1, -1, -1, 1, 1, -1, 1, 1, 1, 1, -1, 1, 1};
+		for (int i = 0; i < 8; i++)
+			points[i].set(clipSpace[i * 3], clipSpace[i * 3 + 1], clipSpace[i * 3 + 2]).prj(inverseProjectionView);
+		frustum.planes[0].set(points[1], points[0], points[2]);
+		frustum.planes[1].set(points[4], points[5], points[7]);
+		frustum.planes[2].set(points[0], points[4], points[3]);
+		frustum.planes[3].set(points[5], points[1], points[6]);
+		frustum.planes[4].set(points[2], points[3], points[6]);
+		frustum.planes[5].set(points[4], points[0], points[1]);
+	}
+
+	@Benchmark
+	public boolean rayBounds () {
+		return Intersector.intersectRayBounds(ray, box, intersection);
+	}
+
+	@Benchmark
+	public boolean rayBoundsFast () {
+		return Intersector.intersectRayBoundsFast(ray, box);
+	}
+
+	@Benchmark
+	public boolean rayTriangle () {
+		return Intersector.intersectRayTriangle(ray, t1, t2, t3, intersection);
+	}
+
+	@Benchmark
+	public boolean raySphere () {
+		return Intersector.intersectRaySphere(ray, center, 1, intersection);
+	}
+
+	@Benchmark
+	public boolean rayPlane () {
+		return Intersector.intersectRayPlane(ray, plane, intersection);
+	}
+
+	@Benchmark
+	public boolean pointInPolygon () {
+		return Intersector.isPointInPolygon(polygon, 0, polygon.length, 5, 5);
+	}
+
+	@Benchmark
+	public boolean segmentCircle () {
+		return Intersector.intersectSegmentCircle(segmentStart, segmentEnd, circleCenter, 4);
+	}
+
+	@Benchmark
+	public boolean frustumBounds () {
+		return Intersector.intersectFrustumBounds(frustum, box);
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+
+/** Benchmarks the {@link Matrix4} and {@link Quaternion} operations used for node and camera transforms. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Matrix4Benchmark {
+	final Matrix4 a = new Matrix4(), b = new Matrix4(), result = new Matrix4();
+	final Quaternion q1 = new Quaternion(), q2 = new Quaternion(), qResult = new Quaternion();
+	final Vector3 translation = new Vector3(1, 2, 3), scale = new Vector3(1, 2, 1), vector = new Vector3();
+
+	@Setup
+	public void setup () {
+		q1.setEulerAngles(30, 45, 60);
+		q2.setEulerAngles(-20, 10, 90);
+		a.set(translation, q1, scale);
+		b.setToLookAt(new Vector3(0, 0, 10), new Vector3(0, 0, 0), Vector3.Y);
+	}
+
+	@Benchmark
+	public Matrix4 mul () {
+		return result.set(a).mul(b);
+	}
+
+	@Benchmark
+	public Matrix4 mulLeft () {
+		return result.set(a).mulLeft(b);
+	}
+
+	@Benchmark
+	public Matrix4 inv () {
+		return result.set(a).inv();
+	}
+
+	@Benchmark
+	public float det () {
+		return a.det();
+	}
+
+	@Benchmark
+	public Matrix4 setTRS () {
+		return result.set(translation, q1, scale);
+	}
+
+	@Benchmark
+	public Quaternion getRotation () {
+		return a.getRotation(qResult, true);
+	}
+
+	@Benchmark
+	public Vector3 mulVector () {
+		return vector.set(translation).mul(a);
+	}
+
+	@Benchmark
+	public Quaternion quaternionMul () {
+		return qResult.set(q1).mul(q2);
+	}
+
+	@Benchmark
+	public Quaternion quaternionSlerp () {
+		return qResult.set(q1).slerp(q2, 0.3f);
+	}
+
+	@Benchmark
+	public Quaternion quaternionSetEulerAngles () {
+		return qResult.setEulerAngles(30, 45, 60);
+	}
+
+	@Benchmark
+	public Vector3 quaternionTransform () {
+		return q1.transform(vector.set(translation));
+	}
+}
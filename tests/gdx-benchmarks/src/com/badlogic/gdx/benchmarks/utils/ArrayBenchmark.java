@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Queue;
+
+/** Benchmarks {@link Array} and {@link Queue} add, remove, lookup and iteration. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	Integer[] values;
+	Array<Integer> array;
+	Queue<Integer> queue;
+
+	@Setup
+	public void setup () {
+		RandomXS128 random = new RandomXS128(1);
+		values = new Integer[size];
+		array = new Array(size);
+		queue = new Queue(size);
+		for (int i = 0; i < size; i++) {
+			values[i] = random.nextInt();
+			array.add(values[i]);
+			queue.addLast(values[i]);
+		}
+	}
+
+	@Benchmark
+	public Array<Integer> arrayAdd () {
+		Array<Integer> array = new Array();
+		for (Integer value : values)
+			array.add(value);
+		return array;
+	}
+
+	@Benchmark
+	public Array<Integer> arrayInsertRemoveFirst () {
+		Array<Integer> array = new Array(this.array);
+		for (int i = 0, n = array.size; i < n; i++)
+			array.removeIndex(0);
+		return array;
+	}
+
+	@Benchmark
+	public void arrayIterate (Blackhole bh) {
+		Array<Integer> array = this.array;
+		for (int i = 0, n = array.size; i < n; i++)
+			bh.consume(array.get(i));
+	}
+
+	@Benchmark
+	public void arrayIndexOf (Blackhole bh) {
+		Array<Integer> array = this.array;
+		Integer[] values = this.values;
+		for (int i = 0, n = Math.min(values.length, 100); i < n; i++)
+			bh.consume(array.indexOf(values[values.length - 1 - i], false));
+	}
+
+	@Benchmark
+	public Queue<Integer> queueAddRemove () {
+		Queue<Integer> queue = new Queue();
+		for (Integer value : values)
+			queue.addLast(value);
+		while (queue.notEmpty())
+			queue.removeFirst();
+		return queue;
+	}
+
+	@Benchmark
+	public void queueIterate (Blackhole bh) {
+		Queue<Integer> queue = this.queue;
+		for (int i = 0, n = queue.size; i < n; i++)
+			bh.consume(queue.get(i));
+	}
+}
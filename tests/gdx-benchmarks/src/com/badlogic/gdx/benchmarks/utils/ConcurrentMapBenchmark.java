@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.ConcurrentIntMap;
+import com.badlogic.gdx.utils.ConcurrentObjectMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Benchmarks {@link ConcurrentObjectMap} and {@link ConcurrentIntMap} against maps guarded by a single lock when 4 threads
+ * look up a shared cache, with 1 in 16 lookups replacing a value. Run with <code>-t 1</code> to compare the uncontended cost. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentMapBenchmark {
+	static final int size = 1024;
+
+	final ObjectMap<String, Integer> synchronizedObjectMap = new ObjectMap();
+	final ConcurrentObjectMap<String, Integer> concurrentObjectMap = new ConcurrentObjectMap();
+	final IntMap<Integer> synchronizedIntMap = new IntMap();
+	final ConcurrentIntMap<Integer> concurrentIntMap = new ConcurrentIntMap();
+	final String[] keys = new String[size];
+
+	@Setup
+	public void setup () {
+		for (int i = 0; i < size; i++) {
+			keys[i] = "key" + i;
+			synchronizedObjectMap.put(keys[i], i);
+			concurrentObjectMap.put(keys[i], i);
+			synchronizedIntMap.put(i, i);
+			concurrentIntMap.put(i, i);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int index;
+
+		int next () {
+			return index = index + 7 & size - 1;
+		}
+	}
+
+	@Benchmark
+	public Integer synchronizedObjectMap (Cursor cursor) {
+		int i = cursor.next();
+		ObjectMap<String, Integer> map = synchronizedObjectMap;
+		synchronized (map) {
+			if ((i & 15) == 0) return map.put(keys[i], i);
+			return map.get(keys[i]);
+		}
+	}
+
+	@Benchmark
+	public Integer concurrentObjectMap (Cursor cursor) {
+		int i = cursor.next();
+		if ((i & 15) == 0) return concurrentObjectMap.put(keys[i], i);
+		return concurrentObjectMap.get(keys[i]);
+	}
+
+	@Benchmark
+	public Integer synchronizedIntMap (Cursor cursor) {
+		int i = cursor.next();
+		IntMap<Integer> map = synchronizedIntMap;
+		synchronized (map) {
+			if ((i & 15) == 0) return map.put(i, i);
+			return map.get(i);
+		}
+	}
+
+	@Benchmark
+	public Integer concurrentIntMap (Cursor cursor) {
+		int i = cursor.next();
+		if ((i & 15) == 0) return concurrentIntMap.put(i, i);
+		return concurrentIntMap.get(i);
+	}
+}
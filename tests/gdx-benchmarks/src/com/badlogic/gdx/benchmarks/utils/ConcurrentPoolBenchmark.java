@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ConcurrentPool;
+import com.badlogic.gdx.utils.Pool;
+
+/** Benchmarks {@link ConcurrentPool} against a {@link Pool} guarded by a lock when 4 threads obtain and free objects at the same
+ * time. Run with <code>-t 1</code> to compare the uncontended cost. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentPoolBenchmark {
+	static final int batch = 8;
+
+	final Pool<Matrix4> synchronizedPool = new Pool<Matrix4>() {
+		protected Matrix4 newObject () {
+			return new Matrix4();
+		}
+	};
+
+	final ConcurrentPool<Matrix4> concurrentPool = new ConcurrentPool<Matrix4>() {
+		protected Matrix4 newObject () {
+			return new Matrix4();
+		}
+	};
+
+	/** Without thread caches every obtain and free goes through the shared queue. */
+	final ConcurrentPool<Matrix4> sharedOnlyPool = new ConcurrentPool<Matrix4>(16, Integer.MAX_VALUE, 0) {
+		protected Matrix4 newObject () {
+			return new Matrix4();
+		}
+	};
+
+	@State(Scope.Thread)
+	public static class Objects {
+		final Array<Matrix4> array = new Array(batch);
+	}
+
+	@Benchmark
+	public void synchronizedPool (Objects objects, Blackhole bh) {
+		Pool<Matrix4> pool = synchronizedPool;
+		Array<Matrix4> array = objects.array;
+		for (int i = 0; i < batch; i++) {
+			Matrix4 object;
+			synchronized (pool) {
+				object = pool.obtain();
+			}
+			array.add(object.idt());
+		}
+		bh.consume(array);
+		synchronized (pool) {
+			pool.freeAll(array);
+		}
+		array.clear();
+	}
+
+	@Benchmark
+	public void concurrentPool (Objects objects, Blackhole bh) {
+		ConcurrentPool<Matrix4> pool = concurrentPool;
+		Array<Matrix4> array = objects.array;
+		for (int i = 0; i < batch; i++)
+			array.add(pool.obtain().idt());
+		bh.consume(array);
+		pool.freeAll(array);
+		array.clear();
+	}
+
+	@Benchmark
+	public void concurrentPoolSharedOnly (Objects objects, Blackhole bh) {
+		ConcurrentPool<Matrix4> pool = sharedOnlyPool;
+		Array<Matrix4> array = objects.array;
+		for (int i = 0; i < batch; i++)
+			array.add(pool.obtain().idt());
+		bh.consume(array);
+		pool.freeAll(array);
+		array.clear();
+	}
+}
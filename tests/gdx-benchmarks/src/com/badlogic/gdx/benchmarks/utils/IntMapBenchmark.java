@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+
+/** Benchmarks {@link IntMap} and {@link IntIntMap} lookups, insertion and removal. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntMapBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	int[] keys;
+	IntMap<Integer> intMap;
+	IntIntMap intIntMap;
+
+	@Setup
+	public void setup () {
+		RandomXS128 random = new RandomXS128(1);
+		keys = new int[size];
+		intMap = new IntMap(size);
+		intIntMap = new IntIntMap(size);
+		for (int i = 0; i < size; i++) {
+			int key = random.nextInt();
+			keys[i] = key;
+			intMap.put(key, i);
+			intIntMap.put(key, i);
+		}
+	}
+
+	@Benchmark
+	public void intMapGet (Blackhole bh) {
+		IntMap<Integer> map = intMap;
+		for (int key : keys)
+			bh.consume(map.get(key));
+	}
+
+	@Benchmark
+	public IntMap<Integer> intMapPut () {
+		IntMap<Integer> map = new IntMap();
+		int[] keys = this.keys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public IntMap<Integer> intMapRemove () {
+		IntMap<Integer> map = new IntMap(intMap);
+		for (int key : keys)
+			map.remove(key);
+		return map;
+	}
+
+	@Benchmark
+	public void intIntMapGet (Blackhole bh) {
+		IntIntMap map = intIntMap;
+		for (int key : keys)
+			bh.consume(map.get(key, -1));
+	}
+
+	@Benchmark
+	public IntIntMap intIntMapPut () {
+		IntIntMap map = new IntIntMap();
+		int[] keys = this.keys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public IntIntMap intIntMapGetAndIncrement () {
+		IntIntMap map = new IntIntMap();
+		int[] keys = this.keys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.getAndIncrement(keys[i] & 1023, 0, 1);
+		return map;
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.Field;
+
+/** Measures {@link Json} throughput for field heavy objects, and the boxed versus unboxed {@link Field} accessors it uses. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonFieldBenchmark {
+	@Param({"1000"}) public int entities;
+
+	final Json json = new Json(OutputType.minimal);
+	Scene scene;
+	String text;
+	Field x, health, alive;
+	Body body = new Body();
+
+	@Setup
+	public void setup () throws Exception {
+		scene = new Scene();
+		for (int i = 0; i < entities; i++) {
+			Body body = new Body();
+			body.id = i;
+			body.seed = i * 31L;
+			body.x = i;
+			body.y = -i * 0.5f;
+			body.vx = i % 13;
+			body.vy = i % 7;
+			body.mass = 1 + i % 5;
+			body.health = 100 - i % 100;
+			body.layer = (short)(i % 4);
+			body.alive = (i & 1) == 0;
+			scene.bodies.add(body);
+		}
+		text = json.toJson(scene);
+		x = ClassReflection.getField(Body.class, "x");
+		health = ClassReflection.getField(Body.class, "health");
+		alive = ClassReflection.getField(Body.class, "alive");
+	}
+
+	@Benchmark
+	public String toJson () {
+		return json.toJson(scene);
+	}
+
+	@Benchmark
+	public Scene fromJson () {
+		return json.fromJson(Scene.class, text);
+	}
+
+	@Benchmark
+	public float fieldBoxed () throws Exception {
+		x.set(body, (Float)x.get(body) + 1);
+		health.set(body, (Integer)health.get(body) + 1);
+		alive.set(body, !(Boolean)alive.get(body));
+		return body.x;
+	}
+
+	@Benchmark
+	public float fieldUnboxed () throws Exception {
+		x.setFloat(body, x.getFloat(body) + 1);
+		health.setInt(body, health.getInt(body) + 1);
+		alive.setBoolean(body, !alive.getBoolean(body));
+		return body.x;
+	}
+
+	static public class Scene {
+		public Array<Body> bodies = new Array();
+	}
+
+	static public class Body {
+		public int id;
+		public long seed;
+		public float x, y, vx, vy;
+		public double mass;
+		public int health;
+		public short layer;
+		public boolean alive;
+	}
+}
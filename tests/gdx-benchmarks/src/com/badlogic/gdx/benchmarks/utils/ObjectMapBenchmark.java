@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/** Benchmarks {@link ObjectMap} and {@link ObjectSet} lookups, insertion, removal and iteration. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectMapBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	String[] keys, missing;
+	ObjectMap<String, Integer> map;
+	ObjectSet<String> set;
+
+	@Setup
+	public void setup () {
+		RandomXS128 random = new RandomXS128(1);
+		keys = new String[size];
+		missing = new String[size];
+		map = new ObjectMap(size);
+		set = new ObjectSet(size);
+		for (int i = 0; i < size; i++) {
+			keys[i] = "key" + random.nextLong();
+			missing[i] = "missing" + random.nextLong();
+			map.put(keys[i], i);
+			set.add(keys[i]);
+		}
+	}
+
+	@Benchmark
+	public void mapGet (Blackhole bh) {
+		ObjectMap<String, Integer> map = this.map;
+		for (String key : keys)
+			bh.consume(map.get(key));
+	}
+
+	@Benchmark
+	public void mapGetMissing (Blackhole bh) {
+		ObjectMap<String, Integer> map = this.map;
+		for (String key : missing)
+			bh.consume(map.get(key));
+	}
+
+	@Benchmark
+	public ObjectMap<String, Integer> mapPut () {
+		ObjectMap<String, Integer> map = new ObjectMap();
+		String[] keys = this.keys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public ObjectMap<String, Integer> mapPutRemove () {
+		ObjectMap<String, Integer> map = new ObjectMap(this.map);
+		for (String key : keys)
+			map.remove(key);
+		return map;
+	}
+
+	@Benchmark
+	public void mapIterate (Blackhole bh) {
+		for (ObjectMap.Entry<String, Integer> entry : map)
+			bh.consume(entry.value);
+	}
+
+	@Benchmark
+	public void setContains (Blackhole bh) {
+		ObjectSet<String> set = this.set;
+		for (String key : keys)
+			bh.consume(set.contains(key));
+	}
+
+	@Benchmark
+	public ObjectSet<String> setAdd () {
+		ObjectSet<String> set = new ObjectSet();
+		for (String key : keys)
+			set.add(key);
+		return set;
+	}
+}
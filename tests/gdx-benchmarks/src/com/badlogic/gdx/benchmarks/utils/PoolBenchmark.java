@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pools;
+
+/** Benchmarks {@link Pool} obtain/free cycles, the {@link Pools} registry lookup and plain allocation for comparison. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PoolBenchmark {
+	@Param({"1", "100"}) public int batch;
+
+	final Pool<Vector3> pool = new Pool<Vector3>() {
+		protected Vector3 newObject () {
+			return new Vector3();
+		}
+	};
+	final Array<Vector3> objects = new Array();
+
+	@Setup
+	public void setup () {
+		pool.fill(batch);
+		Pools.get(Vector3.class, batch).fill(batch);
+	}
+
+	@Benchmark
+	public void obtainFree (Blackhole bh) {
+		Pool<Vector3> pool = this.pool;
+		Array<Vector3> objects = this.objects;
+		for (int i = 0; i < batch; i++)
+			objects.add(pool.obtain().set(i, i, i));
+		bh.consume(objects);
+		for (int i = 0; i < batch; i++)
+			pool.free(objects.get(i));
+		objects.clear();
+	}
+
+	@Benchmark
+	public void obtainFreeAll (Blackhole bh) {
+		Pool<Vector3> pool = this.pool;
+		Array<Vector3> objects = this.objects;
+		for (int i = 0; i < batch; i++)
+			objects.add(pool.obtain().set(i, i, i));
+		bh.consume(objects);
+		pool.freeAll(objects);
+		objects.clear();
+	}
+
+	@Benchmark
+	public void poolsObtainFree (Blackhole bh) {
+		Array<Vector3> objects = this.objects;
+		for (int i = 0; i < batch; i++)
+			objects.add(Pools.obtain(Vector3.class).set(i, i, i));
+		bh.consume(objects);
+		Pools.freeAll(objects, true);
+		objects.clear();
+	}
+
+	@Benchmark
+	public void allocate (Blackhole bh) {
+		for (int i = 0; i < batch; i++)
+			bh.consume(new Vector3(i, i, i));
+	}
+}
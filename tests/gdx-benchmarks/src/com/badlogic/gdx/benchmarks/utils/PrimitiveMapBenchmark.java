@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntLongMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongIntMap;
+import com.badlogic.gdx.utils.LongLongMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.LongSet;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/** Benchmarks the primitive {@link LongIntMap}, {@link LongLongMap}, {@link IntLongMap} and {@link LongSet} against the boxed
+ * {@link LongMap}, {@link IntMap} and {@link ObjectSet} they replace, eg for entity id to index tables. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveMapBenchmark {
+	@Param({"1000", "100000"}) public int size;
+
+	long[] keys;
+	int[] intKeys;
+	LongIntMap longIntMap;
+	LongMap<Integer> boxedLongIntMap;
+	LongLongMap longLongMap;
+	LongMap<Long> boxedLongLongMap;
+	IntLongMap intLongMap;
+	IntMap<Long> boxedIntLongMap;
+	LongSet longSet;
+	ObjectSet<Long> boxedLongSet;
+
+	@Setup
+	public void setup () {
+		RandomXS128 random = new RandomXS128(1);
+		keys = new long[size];
+		intKeys = new int[size];
+		longIntMap = new LongIntMap(size);
+		boxedLongIntMap = new LongMap(size);
+		longLongMap = new LongLongMap(size);
+		boxedLongLongMap = new LongMap(size);
+		intLongMap = new IntLongMap(size);
+		boxedIntLongMap = new IntMap(size);
+		longSet = new LongSet(size);
+		boxedLongSet = new ObjectSet(size);
+		for (int i = 0; i < size; i++) {
+			long key = random.nextLong();
+			keys[i] = key;
+			intKeys[i] = (int)key;
+			longIntMap.put(key, i);
+			boxedLongIntMap.put(key, i);
+			longLongMap.put(key, key);
+			boxedLongLongMap.put(key, key);
+			intLongMap.put((int)key, key);
+			boxedIntLongMap.put((int)key, key);
+			longSet.add(key);
+			boxedLongSet.add(key);
+		}
+	}
+
+	@Benchmark
+	public void longIntMapGet (Blackhole bh) {
+		LongIntMap map = longIntMap;
+		for (long key : keys)
+			bh.consume(map.get(key, -1));
+	}
+
+	@Benchmark
+	public void boxedLongIntMapGet (Blackhole bh) {
+		LongMap<Integer> map = boxedLongIntMap;
+		for (long key : keys)
+			bh.consume(map.get(key).intValue());
+	}
+
+	@Benchmark
+	public LongIntMap longIntMapPut () {
+		LongIntMap map = new LongIntMap();
+		long[] keys = this.keys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public LongMap<Integer> boxedLongIntMapPut () {
+		LongMap<Integer> map = new LongMap();
+		long[] keys = this.keys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	@Benchmark
+	public void longIntMapIterate (Blackhole bh) {
+		for (LongIntMap.Entry entry : longIntMap)
+			bh.consume(entry.value);
+	}
+
+	@Benchmark
+	public void boxedLongIntMapIterate (Blackhole bh) {
+		for (LongMap.Entry<Integer> entry : boxedLongIntMap)
+			bh.consume(entry.value.intValue());
+	}
+
+	@Benchmark
+	public void longLongMapGet (Blackhole bh) {
+		LongLongMap map = longLongMap;
+		for (long key : keys)
+			bh.consume(map.get(key, -1));
+	}
+
+	@Benchmark
+	public void boxedLongLongMapGet (Blackhole bh) {
+		LongMap<Long> map = boxedLongLongMap;
+		for (long key : keys)
+			bh.consume(map.get(key).longValue());
+	}
+
+	@Benchmark
+	public void intLongMapGet (Blackhole bh) {
+		IntLongMap map = intLongMap;
+		for (int key : intKeys)
+			bh.consume(map.get(key, -1));
+	}
+
+	@Benchmark
+	public void boxedIntLongMapGet (Blackhole bh) {
+		IntMap<Long> map = boxedIntLongMap;
+		for (int key : intKeys)
+			bh.consume(map.get(key).longValue());
+	}
+
+	@Benchmark
+	public void longSetContains (Blackhole bh) {
+		LongSet set = longSet;
+		for (long key : keys)
+			bh.consume(set.contains(key));
+	}
+
+	@Benchmark
+	public void boxedLongSetContains (Blackhole bh) {
+		ObjectSet<Long> set = boxedLongSet;
+		for (long key : keys)
+			bh.consume(set.contains(key));
+	}
+}
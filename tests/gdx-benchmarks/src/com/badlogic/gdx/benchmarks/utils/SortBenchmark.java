@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks.utils;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Sort;
+
+/** Benchmarks {@link Sort} (and through it TimSort and ComparableTimSort) on random and nearly sorted input. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+	@Param({"100", "10000"}) public int size;
+
+	Integer[] random, nearlySorted;
+	Array<Integer> array = new Array();
+	final Comparator<Integer> comparator = new Comparator<Integer>() {
+		public int compare (Integer o1, Integer o2) {
+			return o1.compareTo(o2);
+		}
+	};
+
+	@Setup
+	public void setup () {
+		RandomXS128 rand = new RandomXS128(1);
+		random = new Integer[size];
+		nearlySorted = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			random[i] = rand.nextInt();
+			nearlySorted[i] = rand.nextInt(100) < 5 ? rand.nextInt(size) : i;
+		}
+	}
+
+	@Benchmark
+	public Array<Integer> sortComparable () {
+		Array<Integer> array = this.array;
+		array.clear();
+		array.addAll(random);
+		Sort.instance().sort(array);
+		return array;
+	}
+
+	@Benchmark
+	public Array<Integer> sortComparator () {
+		Array<Integer> array = this.array;
+		array.clear();
+		array.addAll(random);
+		Sort.instance().sort(array, comparator);
+		return array;
+	}
+
+	@Benchmark
+	public Array<Integer> sortNearlySorted () {
+		Array<Integer> array = this.array;
+		array.clear();
+		array.addAll(nearlySorted);
+		Sort.instance().sort(array, comparator);
+		return array;
+	}
+}
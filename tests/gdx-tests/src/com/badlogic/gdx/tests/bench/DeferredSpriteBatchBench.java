@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.DeferredSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws icons and their backgrounds from two textures alternately, like a scene graph of buttons, with
+ * {@link DeferredSpriteBatch}. Shows the render calls and state changes with and without deferred sorting. Touch to switch. */
+public class DeferredSpriteBatchBench extends GdxTest {
+	static final int ITEMS = 2000;
+
+	DeferredSpriteBatch batch;
+	SpriteBatch textBatch;
+	BitmapFont font;
+	Texture background, icon;
+	float[] positions = new float[ITEMS * 2];
+	boolean deferred = true;
+
+	@Override
+	public void create () {
+		batch = new DeferredSpriteBatch(1000);
+		textBatch = new SpriteBatch(100);
+		font = new BitmapFont();
+
+		Pixmap pixmap = new Pixmap(16, 16, Format.RGBA8888);
+		pixmap.setColor(Color.DARK_GRAY);
+		pixmap.fill();
+		background = new Texture(pixmap);
+		pixmap.setColor(0, 0, 0, 0);
+		pixmap.fill();
+		pixmap.setColor(Color.ORANGE);
+		pixmap.fillCircle(8, 8, 6);
+		icon = new Texture(pixmap);
+		pixmap.dispose();
+
+		for (int i = 0; i < positions.length; i += 2) {
+			positions[i] = MathUtils.random(Gdx.graphics.getWidth() - 16);
+			positions[i + 1] = MathUtils.random(Gdx.graphics.getHeight() - 16);
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) deferred = !deferred;
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+
+		long start = System.nanoTime();
+		batch.begin();
+		batch.setDeferred(deferred);
+		for (int i = 0; i < ITEMS; i++) {
+			float x = positions[i * 2], y = positions[i * 2 + 1];
+			// Icons must be drawn over their own background, but items may be reordered relative to other items.
+			batch.setLayer(0);
+			batch.draw(background, x, y);
+			batch.setLayer(1);
+			batch.draw(icon, x, y);
+		}
+		batch.end();
+		float millis = (System.nanoTime() - start) / 1000000f;
+
+		textBatch.begin();
+		font.draw(textBatch, (deferred ? "Deferred" : "In order") + ": " + batch.renderCalls + " render calls, state changes: "
+			+ batch.unsortedStateChanges + " before sorting, " + batch.sortedStateChanges + " after", 10, 40);
+		font.draw(textBatch, "FPS: " + Gdx.graphics.getFramesPerSecond() + ", batch: " + millis + " ms (touch to switch)", 10, 20);
+		textBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		textBatch.dispose();
+		font.dispose();
+		background.dispose();
+		icon.dispose();
+	}
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldBatch;
+import com.badlogic.gdx.graphics.g2d.DistanceFieldFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Label.LabelStyle;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+/** Draws a scene2d UI where every row has an icon and a {@link DistanceFieldFont} label. With a SpriteBatch using the distance
+ * field shader, the batch is flushed before and after every label. With {@link DistanceFieldBatch} the whole UI is drawn in one
+ * render call, including the outlines and shadows of every other label. Touch to switch. */
+public class DistanceFieldBatchBench extends GdxTest {
+	static final int ROWS = 40, COLUMNS = 4;
+
+	SpriteBatch spriteBatch;
+	DistanceFieldBatch distanceFieldBatch;
+	ShaderProgram distanceFieldShader;
+	Stage spriteBatchStage, distanceFieldBatchStage;
+	DistanceFieldFont font;
+	Texture icon;
+	SpriteBatch textBatch;
+	BitmapFont textFont;
+	boolean useDistanceFieldBatch = true;
+
+	@Override
+	public void create () {
+		distanceFieldShader = DistanceFieldFont.createDistanceFieldShader();
+		spriteBatch = new SpriteBatch(1000, distanceFieldShader);
+		distanceFieldBatch = new DistanceFieldBatch(1000);
+		textBatch = new SpriteBatch(100);
+		textFont = new BitmapFont();
+
+		font = new DistanceFieldFont(Gdx.files.internal("data/verdana39distancefield.fnt"));
+		font.setDistanceFieldSmoothing(4);
+		font.getData().setScale(0.4f);
+
+		Pixmap pixmap = new Pixmap(16, 16, Format.RGBA8888);
+		pixmap.setColor(Color.ORANGE);
+		pixmap.fillCircle(8, 8, 7);
+		icon = new Texture(pixmap);
+		pixmap.dispose();
+
+		spriteBatchStage = createStage(spriteBatch);
+		distanceFieldBatchStage = createStage(distanceFieldBatch);
+	}
+
+	private Stage createStage (Batch batch) {
+		Stage stage = new Stage(new ScreenViewport(), batch);
+		LabelStyle style = new LabelStyle(font, Color.WHITE);
+		Table table = new Table();
+		table.setFillParent(true);
+		table.top().left().pad(10).padTop(60);
+		for (int row = 0; row < ROWS; row++) {
+			for (int column = 0; column < COLUMNS; column++) {
+				table.add(new Image(icon)).padRight(4);
+				table.add((row + column) % 2 == 0 ? new EffectLabel("Item " + row + ", " + column, style)
+					: new Label("Item " + row + ", " + column, style)).padRight(20);
+			}
+			table.row();
+		}
+		stage.addActor(table);
+		return stage;
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) useDistanceFieldBatch = !useDistanceFieldBatch;
+		ScreenUtils.clear(0.3f, 0.3f, 0.4f, 1);
+
+		Stage stage = useDistanceFieldBatch ? distanceFieldBatchStage : spriteBatchStage;
+		long start = System.nanoTime();
+		stage.draw();
+		float millis = (System.nanoTime() - start) / 1000000f;
+		int renderCalls = ((SpriteBatch)stage.getBatch()).renderCalls;
+
+		textBatch.begin();
+		textFont.draw(textBatch, (useDistanceFieldBatch ? "DistanceFieldBatch" : "SpriteBatch with distance field shader") + ": "
+			+ renderCalls + " render calls, " + millis + " ms", 10, Gdx.graphics.getHeight() - 10);
+		textFont.draw(textBatch, "FPS: " + Gdx.graphics.getFramesPerSecond() + " (touch to switch)", 10,
+			Gdx.graphics.getHeight() - 30);
+		textBatch.end();
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		spriteBatchStage.getViewport().update(width, height, true);
+		distanceFieldBatchStage.getViewport().update(width, height, true);
+	}
+
+	@Override
+	public void dispose () {
+		spriteBatchStage.dispose();
+		distanceFieldBatchStage.dispose();
+		spriteBatch.dispose();
+		distanceFieldBatch.dispose();
+		distanceFieldShader.dispose();
+		textBatch.dispose();
+		textFont.dispose();
+		font.dispose();
+		icon.dispose();
+	}
+
+	/** Draws with an outline and a shadow when the batch is a DistanceFieldBatch. */
+	static class EffectLabel extends Label {
+		public EffectLabel (CharSequence text, LabelStyle style) {
+			super(text, style);
+		}
+
+		@Override
+		public void draw (Batch batch, float parentAlpha) {
+			if (!(batch instanceof DistanceFieldBatch)) {
+				super.draw(batch, parentAlpha);
+				return;
+			}
+			DistanceFieldBatch distanceFieldBatch = (DistanceFieldBatch)batch;
+			distanceFieldBatch.setOutline(0.15f, Color.BLACK);
+			distanceFieldBatch.setShadow(2, -2, 3, Color.BLACK);
+			super.draw(batch, parentAlpha);
+			distanceFieldBatch.clearEffects();
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.InstancedSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Moves and rotates 100k sprites and draws them with {@link SpriteBatch} or {@link InstancedSpriteBatch}, showing the time
+ * spent drawing and the render calls of each. Touch to switch batches. Without GL ES 3.0 both use a SpriteBatch. */
+public class InstancedSpriteBatchBench extends GdxTest {
+	static final int SPRITES = 100000;
+
+	SpriteBatch spriteBatch, textBatch;
+	InstancedSpriteBatch instancedBatch;
+	BitmapFont font;
+	Texture texture;
+	Sprite[] sprites = new Sprite[SPRITES];
+	float[] velocities = new float[SPRITES * 2];
+	boolean instanced = true;
+
+	@Override
+	public void create () {
+		spriteBatch = new SpriteBatch(8191);
+		instancedBatch = new InstancedSpriteBatch(8191);
+		textBatch = new SpriteBatch(100);
+		font = new BitmapFont();
+
+		Pixmap pixmap = new Pixmap(8, 8, Format.RGBA8888);
+		pixmap.setColor(Color.WHITE);
+		pixmap.fill();
+		texture = new Texture(pixmap);
+		pixmap.dispose();
+
+		int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+		for (int i = 0; i < SPRITES; i++) {
+			Sprite sprite = new Sprite(texture);
+			sprite.setBounds(MathUtils.random(width), MathUtils.random(height), 4, 4);
+			sprite.setOriginCenter();
+			sprite.setRotation(MathUtils.random(360));
+			sprite.setColor(MathUtils.random(), MathUtils.random(), MathUtils.random(), 1);
+			sprites[i] = sprite;
+			velocities[i * 2] = MathUtils.random(-50, 50);
+			velocities[i * 2 + 1] = MathUtils.random(-50, 50);
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) instanced = !instanced;
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+
+		float delta = Gdx.graphics.getDeltaTime();
+		int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+		for (int i = 0; i < SPRITES; i++) {
+			Sprite sprite = sprites[i];
+			float x = sprite.getX() + velocities[i * 2] * delta, y = sprite.getY() + velocities[i * 2 + 1] * delta;
+			if (x < 0 || x > width) velocities[i * 2] = -velocities[i * 2];
+			if (y < 0 || y > height) velocities[i * 2 + 1] = -velocities[i * 2 + 1];
+			sprite.setPosition(x, y);
+			sprite.rotate(90 * delta);
+		}
+
+		long start = System.nanoTime();
+		int renderCalls;
+		if (instanced) {
+			instancedBatch.begin();
+			instancedBatch.draw(sprites, 0, SPRITES);
+			instancedBatch.end();
+			renderCalls = instancedBatch.renderCalls;
+		} else {
+			spriteBatch.begin();
+			for (int i = 0; i < SPRITES; i++)
+				sprites[i].draw(spriteBatch);
+			spriteBatch.end();
+			renderCalls = spriteBatch.renderCalls;
+		}
+		float millis = (System.nanoTime() - start) / 1000000f;
+
+		String name = instanced ? (instancedBatch.isInstanced() ? "InstancedSpriteBatch" : "InstancedSpriteBatch (fallback)")
+			: "SpriteBatch";
+		textBatch.begin();
+		font.draw(textBatch, name + ": " + renderCalls + " render calls", 10, 40);
+		font.draw(textBatch, "FPS: " + Gdx.graphics.getFramesPerSecond() + ", batch: " + millis + " ms (touch to switch)", 10, 20);
+		textBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		spriteBatch.dispose();
+		instancedBatch.dispose();
+		textBatch.dispose();
+		font.dispose();
+		texture.dispose();
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.utils.CameraInputController;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.shapebuilders.BoxShapeBuilder;
+import com.badlogic.gdx.graphics.g3d.utils.shapebuilders.SphereShapeBuilder;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Renders 5000 instances of a two part model with {@link ModelBatch}, with and without
+ * {@link ModelBatch#setInstancing(boolean) instancing}, showing the time spent rendering and the number of instanced renderables.
+ * Touch to switch. Without GL ES 3.0 instancing has no effect. */
+public class ModelBatchInstancingBench extends GdxTest {
+	static final int INSTANCES = 5000;
+
+	ModelBatch modelBatch;
+	SpriteBatch textBatch;
+	BitmapFont font;
+	PerspectiveCamera camera;
+	CameraInputController cameraController;
+	Environment environment;
+	Model model;
+	Array<ModelInstance> instances = new Array<ModelInstance>();
+	boolean instancing = true;
+
+	@Override
+	public void create () {
+		modelBatch = new ModelBatch();
+		textBatch = new SpriteBatch(100);
+		font = new BitmapFont();
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		// A tree: a trunk and a crown, two mesh parts with their own material.
+		ModelBuilder builder = new ModelBuilder();
+		builder.begin();
+		long attributes = Usage.Position | Usage.Normal;
+		BoxShapeBuilder.build(
+			builder.part("trunk", GL20.GL_TRIANGLES, attributes, new Material(ColorAttribute.createDiffuse(Color.BROWN))), 0, 1, 0,
+			0.4f, 2, 0.4f);
+		SphereShapeBuilder.build(
+			builder.part("crown", GL20.GL_TRIANGLES, attributes, new Material(ColorAttribute.createDiffuse(Color.FOREST))),
+			new Matrix4().setToTranslation(0, 2.5f, 0), 2, 2, 2, 8, 8);
+		model = builder.end();
+		for (int i = 0; i < INSTANCES; i++) {
+			ModelInstance instance = new ModelInstance(model);
+			instance.transform.setToTranslation(MathUtils.random(-100f, 100f), 0, MathUtils.random(-100f, 100f));
+			instance.transform.rotate(0, 1, 0, MathUtils.random(360f));
+			instance.transform.scale(1, MathUtils.random(0.5f, 1.5f), 1);
+			instances.add(instance);
+		}
+
+		camera = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		camera.position.set(0, 40, 120);
+		camera.lookAt(0, 0, 0);
+		camera.near = 1f;
+		camera.far = 400f;
+		camera.update();
+		cameraController = new CameraInputController(camera);
+		Gdx.input.setInputProcessor(cameraController);
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) instancing = !instancing;
+		cameraController.update();
+		ScreenUtils.clear(0.4f, 0.6f, 0.9f, 1, true);
+
+		long start = System.nanoTime();
+		modelBatch.setInstancing(instancing);
+		modelBatch.begin(camera);
+		modelBatch.render(instances, environment);
+		modelBatch.end();
+		float millis = (System.nanoTime() - start) / 1000000f;
+
+		textBatch.begin();
+		font.draw(textBatch, (modelBatch.isInstancing() ? "Instancing" : "No instancing") + ": "
+			+ modelBatch.instancedRenderables + " of " + modelBatch.submittedRenderables + " renderables instanced", 10, 40);
+		font.draw(textBatch, "FPS: " + Gdx.graphics.getFramesPerSecond() + ", batch: " + millis + " ms (touch to switch)", 10, 20);
+		textBatch.end();
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		camera.viewportWidth = width;
+		camera.viewportHeight = height;
+		camera.update();
+		textBatch.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+	}
+
+	@Override
+	public void dispose () {
+		modelBatch.dispose();
+		textBatch.dispose();
+		font.dispose();
+		model.dispose();
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.MultiTextureSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws sprites that alternate between several textures with {@link SpriteBatch} and {@link MultiTextureSpriteBatch}, showing
+ * the render calls and flush reasons of each. Touch to switch batches. */
+public class MultiTextureSpriteBatchBench extends GdxTest {
+	static final int SPRITES = 4000, TEXTURES = 6;
+
+	SpriteBatch spriteBatch, textBatch;
+	MultiTextureSpriteBatch multiBatch;
+	BitmapFont font;
+	Texture[] textures = new Texture[TEXTURES];
+	float[] positions = new float[SPRITES * 2];
+	boolean multi = true;
+
+	@Override
+	public void create () {
+		spriteBatch = new SpriteBatch(1000);
+		multiBatch = new MultiTextureSpriteBatch(1000);
+		textBatch = new SpriteBatch(100);
+		font = new BitmapFont();
+
+		Pixmap pixmap = new Pixmap(16, 16, Format.RGBA8888);
+		for (int i = 0; i < TEXTURES; i++) {
+			pixmap.setColor(new Color().fromHsv(i * 360f / TEXTURES, 0.8f, 1).add(0, 0, 0, 1));
+			pixmap.fill();
+			pixmap.setColor(Color.BLACK);
+			pixmap.drawRectangle(0, 0, 16, 16);
+			textures[i] = new Texture(pixmap);
+		}
+		pixmap.dispose();
+
+		for (int i = 0; i < positions.length; i += 2) {
+			positions[i] = MathUtils.random(Gdx.graphics.getWidth() - 16);
+			positions[i + 1] = MathUtils.random(Gdx.graphics.getHeight() - 16);
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) multi = !multi;
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+
+		Batch batch = multi ? multiBatch : spriteBatch;
+		long start = System.nanoTime();
+		batch.begin();
+		for (int i = 0; i < SPRITES; i++)
+			batch.draw(textures[i % TEXTURES], positions[i * 2], positions[i * 2 + 1]);
+		batch.end();
+		float millis = (System.nanoTime() - start) / 1000000f;
+
+		String stats;
+		if (multi) {
+			stats = "MultiTextureSpriteBatch, " + multiBatch.getMaxTextures() + " textures: " + multiBatch.renderCalls
+				+ " render calls (textures: " + multiBatch.textureFlushes + ", buffer: " + multiBatch.bufferFlushes + ", other: "
+				+ multiBatch.otherFlushes + ")";
+		} else
+			stats = "SpriteBatch: " + spriteBatch.renderCalls + " render calls";
+		textBatch.begin();
+		font.draw(textBatch, stats, 10, 40);
+		font.draw(textBatch, "FPS: " + Gdx.graphics.getFramesPerSecond() + ", batch: " + millis + " ms (touch to switch)", 10, 20);
+		textBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		spriteBatch.dispose();
+		multiBatch.dispose();
+		textBatch.dispose();
+		font.dispose();
+		for (Texture texture : textures)
+			texture.dispose();
+	}
+}
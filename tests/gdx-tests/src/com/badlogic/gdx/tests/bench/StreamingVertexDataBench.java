@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/** Draws sprites that alternate between two textures, so the batch flushes after every few sprites, with the default vertex data
+ * and with {@link VertexDataType#VertexBufferObjectStreaming}. Shows the draw calls and bytes uploaded per frame reported by
+ * {@link GLProfiler}. Touch to switch batches. */
+public class StreamingVertexDataBench extends GdxTest {
+	static final int SPRITES = 6000, RUN = 8;
+
+	SpriteBatch defaultBatch, streamingBatch, textBatch;
+	GLProfiler profiler;
+	BitmapFont font;
+	Texture texture1, texture2;
+	float[] positions = new float[SPRITES * 2];
+	boolean streaming = true;
+	int drawCalls;
+	float uploadBytes;
+
+	@Override
+	public void create () {
+		defaultBatch = new SpriteBatch(1000);
+		streamingBatch = new SpriteBatch(1000, null, VertexDataType.VertexBufferObjectStreaming);
+		textBatch = new SpriteBatch(100);
+		font = new BitmapFont();
+		profiler = new GLProfiler(Gdx.graphics);
+		profiler.enable();
+
+		Pixmap pixmap = new Pixmap(16, 16, Format.RGBA8888);
+		pixmap.setColor(Color.ORANGE);
+		pixmap.fill();
+		texture1 = new Texture(pixmap);
+		pixmap.setColor(Color.SKY);
+		pixmap.fill();
+		texture2 = new Texture(pixmap);
+		pixmap.dispose();
+
+		for (int i = 0; i < positions.length; i += 2) {
+			positions[i] = MathUtils.random(Gdx.graphics.getWidth() - 16);
+			positions[i + 1] = MathUtils.random(Gdx.graphics.getHeight() - 16);
+		}
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.justTouched()) streaming = !streaming;
+		ScreenUtils.clear(0.2f, 0.2f, 0.2f, 1);
+
+		profiler.reset();
+		SpriteBatch batch = streaming ? streamingBatch : defaultBatch;
+		long start = System.nanoTime();
+		batch.begin();
+		for (int i = 0; i < SPRITES; i++)
+			batch.draw(i / RUN % 2 == 0 ? texture1 : texture2, positions[i * 2], positions[i * 2 + 1]);
+		batch.end();
+		float millis = (System.nanoTime() - start) / 1000000f;
+		drawCalls = profiler.getDrawCalls();
+		uploadBytes = profiler.getBufferUploadBytes().total;
+
+		textBatch.begin();
+		font.draw(textBatch, (streaming ? "VertexBufferObjectStreaming" : "Default vertex data") + ": " + drawCalls
+			+ " draw calls, " + (int)(uploadBytes / 1024) + " KB uploaded", 10, 40);
+		font.draw(textBatch, "FPS: " + Gdx.graphics.getFramesPerSecond() + ", batch: " + millis + " ms (touch to switch)", 10, 20);
+		textBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		profiler.disable();
+		defaultBatch.dispose();
+		streamingBatch.dispose();
+		textBatch.dispose();
+		font.dispose();
+		texture1.dispose();
+		texture2.dispose();
+	}
+}
@@ -37,6 +37,12 @@ import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.tests.*;
+import com.badlogic.gdx.tests.bench.DeferredSpriteBatchBench;
+import com.badlogic.gdx.tests.bench.DistanceFieldBatchBench;
+import com.badlogic.gdx.tests.bench.InstancedSpriteBatchBench;
+import com.badlogic.gdx.tests.bench.ModelBatchInstancingBench;
+import com.badlogic.gdx.tests.bench.MultiTextureSpriteBatchBench;
+import com.badlogic.gdx.tests.bench.StreamingVertexDataBench;
 import com.badlogic.gdx.tests.bench.TiledMapBench;
 import com.badlogic.gdx.tests.conformance.AudioSoundAndMusicIsolationTest;
 import com.badlogic.gdx.tests.conformance.DisplayModeTest;
@@ -150,10 +156,12 @@ public class GdxTests {
 		CursorTest.class,
 		DecalTest.class,
 		DefaultTextureBinderTest.class,
+		DeferredSpriteBatchBench.class,
 		DelaunayTriangulatorTest.class,
 		DeltaTimeTest.class,
 		DirtyRenderingTest.class,
 		DisplayModeTest.class,
+		DistanceFieldBatchBench.class,
 		DownloadTest.class,
 		DragAndDropTest.class,
 		ETC1Test.class,
@@ -197,6 +205,7 @@ public class GdxTests {
 		IndexBufferObjectShaderTest.class,
 		InputTest.class,
 		InstancedRenderingTest.class,
+		InstancedSpriteBatchBench.class,
 		IntegerBitmapFontTest.class,
 		InterpolationTest.class,
 		IntersectorOverlapConvexPolygonsTest.class,
@@ -215,11 +224,13 @@ public class GdxTests {
 		MeshShaderTest.class,
 		MeshWithCustomAttributesTest.class,
 		MipMapTest.class,
+		ModelBatchInstancingBench.class,
 		ModelTest.class,
 		ModelCacheTest.class,
 		ModelInstancedRenderingTest.class,
 		MoveSpriteExample.class,
 		MultipleRenderTargetTest.class,
+		MultiTextureSpriteBatchBench.class,
 		MultitouchTest.class,
 		MusicTest.class,
 		NetAPITest.class,
@@ -283,6 +294,7 @@ public class GdxTests {
 		StageDebugTest.class,
 		StagePerformanceTest.class,
 		StageTest.class,
+		StreamingVertexDataBench.class,
 		SuperKoalio.class,
 		SystemCursorTest.class,
 		TableLayoutTest.class,